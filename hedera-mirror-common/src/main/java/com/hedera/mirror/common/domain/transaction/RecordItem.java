@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.common.domain.transaction;
 
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PRIVATE;
 
 import com.google.protobuf.ByteString;
@@ -64,9 +65,15 @@ public class RecordItem implements StreamItem {
     private final RecordItem parent;
     private final RecordItem previous;
     private final TransactionRecord transactionRecord;
-    private final byte[] recordBytes;
+
+    @Getter(NONE)
+    private final ByteString recordBytes;
+
     private final Transaction transaction;
-    private final byte[] transactionBytes;
+
+    @Getter(NONE)
+    private final ByteString transactionBytes;
+
     private final int transactionIndex;
 
     // Lazily calculated fields
@@ -135,6 +142,30 @@ public class RecordItem implements StreamItem {
         }
     }
 
+    /**
+     * Returns the serialized record. When the item was read from a slice of a larger buffer, the slice is only copied
+     * here, so callers that just need the size should use {@link #getRecordSize()}.
+     */
+    public byte[] getRecordBytes() {
+        return DomainUtils.toBytes(recordBytes);
+    }
+
+    public int getRecordSize() {
+        return recordBytes.size();
+    }
+
+    /**
+     * Returns the serialized transaction. When the item was read from a slice of a larger buffer, the slice is only
+     * copied here, so callers that just need the size should use {@link #getTransactionSize()}.
+     */
+    public byte[] getTransactionBytes() {
+        return DomainUtils.toBytes(transactionBytes);
+    }
+
+    public int getTransactionSize() {
+        return transactionBytes.size();
+    }
+
     public SignatureMap getSignatureMap() {
         return getTransactionBodyAndSignatureMap().signatureMap();
     }
@@ -222,14 +253,28 @@ public class RecordItem implements StreamItem {
 
         public RecordItemBuilder transactionRecord(TransactionRecord transactionRecord) {
             this.transactionRecord = transactionRecord;
-            this.recordBytes = transactionRecord.toByteArray();
+            this.recordBytes = transactionRecord.toByteString();
             return this;
         }
 
         public RecordItemBuilder transactionRecordBytes(byte[] recordBytes) {
             try {
-                this.recordBytes = recordBytes;
+                this.recordBytes = DomainUtils.fromBytes(recordBytes);
+                this.transactionRecord = TransactionRecord.parseFrom(recordBytes);
+            } catch (InvalidProtocolBufferException e) {
+                throw new ProtobufException(BAD_RECORD_BYTES_MESSAGE, e);
+            }
+            return this;
+        }
+
+        /**
+         * Parses the record directly from a possibly aliased slice of a larger buffer and keeps the slice, so the bytes
+         * are only copied if they're later retrieved as an array.
+         */
+        public RecordItemBuilder transactionRecordBytes(ByteString recordBytes) {
+            try {
                 this.transactionRecord = TransactionRecord.parseFrom(recordBytes);
+                this.recordBytes = recordBytes;
             } catch (InvalidProtocolBufferException e) {
                 throw new ProtobufException(BAD_RECORD_BYTES_MESSAGE, e);
             }
@@ -238,18 +283,32 @@ public class RecordItem implements StreamItem {
 
         public RecordItemBuilder transaction(Transaction transaction) {
             this.transaction = transaction;
-            this.transactionBytes = transaction.toByteArray();
+            this.transactionBytes = transaction.toByteString();
             return this;
         }
 
         public RecordItemBuilder transactionBytes(byte[] transactionBytes) {
             try {
-                this.transactionBytes = transactionBytes;
+                this.transactionBytes = DomainUtils.fromBytes(transactionBytes);
                 this.transaction = Transaction.parseFrom(transactionBytes);
             } catch (InvalidProtocolBufferException e) {
                 throw new ProtobufException(BAD_TRANSACTION_BYTES_MESSAGE, e);
             }
             return this;
         }
+
+        /**
+         * Parses the transaction directly from a possibly aliased slice of a larger buffer and keeps the slice, so the
+         * bytes are only copied if they're later retrieved as an array.
+         */
+        public RecordItemBuilder transactionBytes(ByteString transactionBytes) {
+            try {
+                this.transaction = Transaction.parseFrom(transactionBytes);
+                this.transactionBytes = transactionBytes;
+            } catch (InvalidProtocolBufferException e) {
+                throw new ProtobufException(BAD_TRANSACTION_BYTES_MESSAGE, e);
+            }
+            return this;
+        }
     }
 }
@@ -179,6 +179,27 @@ class RecordItemTest {
         assertRecordItem(expectedTransaction, recordItem);
     }
 
+    @Test
+    void testWithByteStrings() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                .build();
+        // Slices of a larger buffer as produced by the streaming record file reader
+        var buffer = ByteString.copyFromUtf8("prefix")
+                .concat(transaction.toByteString())
+                .concat(TRANSACTION_RECORD.toByteString());
+        int transactionEnd = 6 + transaction.getSerializedSize();
+
+        RecordItem recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionRecordBytes(buffer.substring(transactionEnd))
+                .transactionBytes(buffer.substring(6, transactionEnd))
+                .build();
+        assertRecordItem(transaction, recordItem);
+        assertThat(recordItem.getRecordSize()).isEqualTo(TRANSACTION_RECORD.getSerializedSize());
+        assertThat(recordItem.getTransactionSize()).isEqualTo(transaction.getSerializedSize());
+    }
+
     @Test
     void testWithBodyBytes() {
         Transaction transaction = Transaction.newBuilder()
@@ -16,11 +16,13 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -40,32 +42,43 @@ import reactor.util.retry.Retry;
 @Named
 public class NotifyingTopicListener extends SharedTopicListener {
 
+    private static final String TOPIC_ID_FIELD = "topic_id";
+
     final ObjectMapper objectMapper;
     private final Mono<PgChannel> channel;
     private final DbProperties dbProperties;
+    private final TopicDispatcher<String> dispatcher;
     private final Flux<TopicMessage> topicMessages;
 
     public NotifyingTopicListener(
-            DbProperties dbProperties, ListenerProperties listenerProperties, ObservationRegistry observationRegistry) {
+            DbProperties dbProperties,
+            ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry) {
         super(listenerProperties);
         this.dbProperties = dbProperties;
         objectMapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
-        topicMessages = Flux.defer(this::listen)
-                .map(this::toTopicMessage)
-                .filter(Objects::nonNull)
+        Flux<String> payloads = Flux.defer(this::listen)
                 .name(METRIC)
                 .tag(METRIC_TAG, "notify")
                 .tap(Micrometer.observation(observationRegistry))
                 .doOnError(t -> log.error("Error listening for messages", t))
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        dispatcher = new TopicDispatcher<>(
+                "notify", payloads, this::getTopicId, this::toTopicMessage, listenerProperties, meterRegistry);
+        topicMessages = payloads.map(this::toTopicMessage).filter(Objects::nonNull).share();
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        if (filter.getTopicId() == null) {
+            return topicMessages;
+        }
+
+        return dispatcher.listen(filter.getTopicId().getId());
     }
 
     private Flux<String> listen() {
@@ -106,6 +119,30 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .thenReturn(subscriber.channel("topic_message"));
     }
 
+    // Reads only the top level topic_id field so payloads for topics without subscribers are never fully parsed
+    long getTopicId(String payload) {
+        try (var parser = objectMapper.getFactory().createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return -1L;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var token = parser.nextToken();
+
+                if (TOPIC_ID_FIELD.equals(field) && token == JsonToken.VALUE_NUMBER_INT) {
+                    return parser.getLongValue();
+                }
+
+                parser.skipChildren();
+            }
+        } catch (Exception ex) {
+            log.error("Error parsing topic ID from message {}", payload, ex);
+        }
+
+        return -1L;
+    }
+
     private TopicMessage toTopicMessage(String payload) {
         try {
             return objectMapper.readValue(payload, TopicMessage.class);
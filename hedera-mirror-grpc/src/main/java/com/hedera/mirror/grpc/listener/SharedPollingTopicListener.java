@@ -21,12 +21,14 @@ import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import lombok.Data;
 import org.reactivestreams.Subscription;
 import org.springframework.data.domain.PageRequest;
@@ -41,12 +43,14 @@ import reactor.util.retry.Retry;
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    private final TopicDispatcher<TopicMessage> dispatcher;
     private final InstantToLongConverter instantToLongConverter;
     private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             TopicMessageRepository topicMessageRepository,
             InstantToLongConverter instantToLongConverter) {
@@ -68,11 +72,22 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnSubscribe(context::onStart)
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        dispatcher = new TopicDispatcher<>(
+                "shared poll",
+                topicMessages,
+                TopicMessage::getTopicId,
+                Function.identity(),
+                listenerProperties,
+                meterRegistry);
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        if (filter.getTopicId() == null) {
+            return topicMessages;
+        }
+
+        return dispatcher.listen(filter.getTopicId().getId());
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
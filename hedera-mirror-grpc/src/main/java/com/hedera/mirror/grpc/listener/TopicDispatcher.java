@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.Scannable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fans out a shared stream of messages to a bounded sink per topic, so each message is only converted and delivered to
+ * the subscribers of its own topic instead of every subscriber filtering every topic's messages. The topic ID is read
+ * before the message is converted so messages for topics without subscribers are discarded cheaply. The source is
+ * subscribed to while at least one topic has subscribers.
+ *
+ * @param <T> the type of the source messages
+ */
+@Log4j2
+class TopicDispatcher<T> {
+
+    private final Function<T, TopicMessage> converter;
+    private final ListenerProperties listenerProperties;
+    private final MeterRegistry meterRegistry;
+    private final Flux<TopicMessage> routing;
+    private final ToLongFunction<T> topicIdFunction;
+    private final Map<Long, TopicSink> topics = new ConcurrentHashMap<>();
+    private final String type;
+
+    TopicDispatcher(
+            String type,
+            Flux<T> source,
+            ToLongFunction<T> topicIdFunction,
+            Function<T, TopicMessage> converter,
+            ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry) {
+        this.converter = converter;
+        this.listenerProperties = listenerProperties;
+        this.meterRegistry = meterRegistry;
+        this.topicIdFunction = topicIdFunction;
+        this.type = type;
+        routing = source.doOnNext(this::dispatch)
+                .ignoreElements()
+                .cast(TopicMessage.class)
+                .flux()
+                .share();
+    }
+
+    Flux<TopicMessage> listen(long topicId) {
+        return topics.computeIfAbsent(topicId, TopicSink::new).getTopicMessages();
+    }
+
+    int getTopicCount() {
+        return topics.size();
+    }
+
+    private static double getBuffered(Sinks.Many<TopicMessage> sink) {
+        return Scannable.from(sink).scanOrDefault(Scannable.Attr.BUFFERED, 0);
+    }
+
+    private void dispatch(T message) {
+        long topicId = topicIdFunction.applyAsLong(message);
+        var topicSink = topics.get(topicId);
+
+        if (topicSink != null) {
+            topicSink.emit(message);
+        }
+    }
+
+    private class TopicSink {
+
+        private final Sinks.Many<TopicMessage> sink;
+        private final long topicId;
+        private final Flux<TopicMessage> topicMessages;
+        private Gauge bufferedMetric;
+        private Counter droppedMetric;
+
+        private TopicSink(long topicId) {
+            this.topicId = topicId;
+            sink = Sinks.many().multicast().onBackpressureBuffer(listenerProperties.getMaxBufferSize(), false);
+            registerMetrics();
+            topicMessages = Flux.merge(sink.asFlux(), routing)
+                    .doOnSubscribe(s -> subscribe())
+                    .doFinally(s -> unsubscribe())
+                    .share();
+        }
+
+        private Flux<TopicMessage> getTopicMessages() {
+            return topicMessages;
+        }
+
+        private void emit(T message) {
+            var topicMessage = converter.apply(message);
+            if (topicMessage == null) {
+                return;
+            }
+
+            var result = sink.tryEmitNext(topicMessage);
+            if (result.isFailure()) {
+                // A full buffer drops many messages in a row, so rely on the per topic metric instead of a warning
+                droppedMetric.increment();
+                log.debug("Dropped message for topic {} due to {}", topicId, result);
+            }
+        }
+
+        private void registerMetrics() {
+            var topic = String.valueOf(topicId);
+            bufferedMetric = Gauge.builder("hedera.mirror.grpc.listener.buffered", sink, TopicDispatcher::getBuffered)
+                    .description("The number of messages buffered for the topic awaiting its subscribers")
+                    .tag("topic", topic)
+                    .tag(TopicListener.METRIC_TAG, type)
+                    .register(meterRegistry);
+            droppedMetric = Counter.builder("hedera.mirror.grpc.listener.dropped")
+                    .description("The number of messages dropped because the topic's buffer was full")
+                    .tag("topic", topic)
+                    .tag(TopicListener.METRIC_TAG, type)
+                    .register(meterRegistry);
+        }
+
+        // A subscriber may resubscribe to a topic that was just removed, so register it again
+        private void subscribe() {
+            if (topics.putIfAbsent(topicId, this) == null) {
+                registerMetrics();
+            }
+            log.debug("Dispatching messages for topic {}", topicId);
+        }
+
+        private void unsubscribe() {
+            if (topics.remove(topicId, this)) {
+                meterRegistry.remove(bufferedMetric);
+                meterRegistry.remove(droppedMetric);
+            }
+            log.debug("Stopped dispatching messages for topic {}", topicId);
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.List;
 import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,4 +27,15 @@ public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Finds the consensus timestamp range of the topic's messages in each topic_message partition that overlaps the
+     * filter's time window, ordered by timestamp. Empty if the topic has no messages in the window or if the importer
+     * doesn't maintain the topic_message_lookup table.
+     *
+     * @param filter the topic message filter
+     * @return the timestamp range per partition
+     */
+    @Transactional(readOnly = true)
+    List<Range<Long>> findTimestampRanges(TopicMessageFilter filter);
 }
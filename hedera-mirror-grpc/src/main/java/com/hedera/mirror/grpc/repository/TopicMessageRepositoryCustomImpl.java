@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.grpc.converter.InstantToLongConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
@@ -26,6 +27,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -42,6 +44,14 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
     private static final String CONSENSUS_TIMESTAMP = "consensusTimestamp";
 
+    private static final String TIMESTAMP_RANGES_QUERY =
+            """
+            select lower(timestamp_range), upper(timestamp_range)
+            from topic_message_lookup
+            where topic_id = :topicId and timestamp_range && int8range(:startTime, :endTime)
+            order by lower(timestamp_range)
+            """;
+
     private final EntityManager entityManager;
     private final InstantToLongConverter converter;
 
@@ -76,4 +86,19 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Range<Long>> findTimestampRanges(TopicMessageFilter filter) {
+        long endTime = filter.getEndTime() != null ? converter.convert(filter.getEndTime()) : Long.MAX_VALUE;
+        List<Object[]> rows = entityManager
+                .createNativeQuery(TIMESTAMP_RANGES_QUERY)
+                .setParameter("topicId", filter.getTopicId().getId())
+                .setParameter("startTime", converter.convert(filter.getStartTime()))
+                .setParameter("endTime", endTime)
+                .getResultList();
+        return rows.stream()
+                .map(row -> Range.closedOpen(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+                .toList();
+    }
 }
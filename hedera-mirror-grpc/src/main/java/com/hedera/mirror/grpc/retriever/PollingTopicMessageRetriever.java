@@ -17,16 +17,27 @@
 package com.hedera.mirror.grpc.retriever;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Range;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.converter.LongToInstantConverter;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import lombok.Data;
 import lombok.extern.log4j.Log4j2;
 import reactor.core.observability.micrometer.Micrometer;
@@ -41,12 +52,18 @@ import reactor.util.retry.Retry;
 @Log4j2
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Timer firstMessageMetric;
+    private final DistributionSummary heapMetric;
     private final ObservationRegistry observationRegistry;
+    private final DistributionSummary partitionsMetric;
     private final RetrieverProperties retrieverProperties;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
             TopicMessageRepository topicMessageRepository) {
@@ -56,6 +73,16 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
+        partitionsMetric = DistributionSummary.builder("hedera.mirror.grpc.retriever.partitions")
+                .description("The number of topic_message partitions scanned per subscription")
+                .register(meterRegistry);
+        firstMessageMetric = Timer.builder("hedera.mirror.grpc.retriever.first")
+                .description("The time from subscribing until the first historical message is emitted")
+                .register(meterRegistry);
+        heapMetric = DistributionSummary.builder("hedera.mirror.grpc.retriever.heap")
+                .baseUnit("bytes")
+                .description("The heap allocated fetching historical messages per subscription")
+                .register(meterRegistry);
     }
 
     @Override
@@ -64,7 +91,11 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
-        PollingContext context = new PollingContext(filter, throttled);
+        // A context per subscription so its metrics start from when it subscribes
+        return Flux.defer(() -> retrieve(new PollingContext(filter, throttled)));
+    }
+
+    private Flux<TopicMessage> retrieve(PollingContext context) {
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
                         .fixedBackoff(context.getFrequency())
@@ -76,6 +107,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                 .timeout(retrieverProperties.getTimeout(), scheduler)
                 .doOnCancel(context::onComplete)
                 .doOnComplete(context::onComplete)
+                .doOnError(t -> context.onComplete())
                 .doOnNext(context::onNext);
     }
 
@@ -92,8 +124,91 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         TopicMessageFilter newFilter =
                 filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
-        log.debug("Executing query: {}", newFilter);
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        var timestampRanges = context.getTimestampRanges();
+        if (timestampRanges.isEmpty()) {
+            return query(context, newFilter);
+        }
+
+        // Query the partitions holding the topic's messages one at a time in timestamp order until the page is full
+        long startTimestamp = InstantToLongConverter.INSTANCE.convert(startTime);
+        int lastIndex = timestampRanges.size() - 1;
+        var remaining = new AtomicInteger(pageSize);
+        return Flux.range(0, timestampRanges.size())
+                .filter(i -> i == lastIndex || timestampRanges.get(i).upperEndpoint() > startTimestamp)
+                .concatMap(i -> Flux.defer(() -> {
+                    if (remaining.get() <= 0) {
+                        return Flux.empty();
+                    }
+
+                    var partitionFilter =
+                            narrow(newFilter, timestampRanges.get(i), i == lastIndex, remaining.get());
+                    context.onPartition(i);
+                    return query(context, partitionFilter).doOnNext(t -> remaining.decrementAndGet());
+                }));
+    }
+
+    /*
+     * When streaming, the page is fetched in chunks of fetchSize using keyset pagination on the consensus timestamp.
+     * The next chunk is only queried once downstream has requested more than the previous chunk, so a slow subscriber
+     * doesn't hold a whole page in memory.
+     */
+    private Flux<TopicMessage> query(PollingContext context, TopicMessageFilter filter) {
+        var streaming = retrieverProperties.getStreaming();
+        int fetchSize = streaming.getFetchSize();
+
+        if (!streaming.isEnabled() || filter.getLimit() <= fetchSize) {
+            return Flux.defer(() -> Flux.fromIterable(context.fetch(filter)));
+        }
+
+        return Flux.<List<TopicMessage>, Cursor>generate(
+                        () -> new Cursor(filter.getStartTime(), filter.getLimit()),
+                        (cursor, sink) -> {
+                            if (cursor.remaining() <= 0) {
+                                sink.complete();
+                                return cursor;
+                            }
+
+                            long limit = Math.min(fetchSize, cursor.remaining());
+                            var chunkFilter = filter.toBuilder()
+                                    .limit(limit)
+                                    .startTime(cursor.startTime())
+                                    .build();
+                            var chunk = context.fetch(chunkFilter);
+
+                            if (chunk.isEmpty()) {
+                                sink.complete();
+                                return cursor;
+                            }
+
+                            sink.next(chunk);
+                            var last = chunk.get(chunk.size() - 1);
+                            long remaining = chunk.size() < limit ? 0 : cursor.remaining() - chunk.size();
+                            return new Cursor(last.getConsensusTimestampInstant().plusNanos(1), remaining);
+                        })
+                .flatMapIterable(Function.identity(), 1)
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Narrows the filter to the timestamp range of the topic's messages in a partition so only that partition is
+     * scanned. The upper bound of the last partition is left open since new messages may still arrive in it or in
+     * partitions created after the lookup was loaded.
+     */
+    private TopicMessageFilter narrow(TopicMessageFilter filter, Range<Long> range, boolean last, int limit) {
+        var lower = LongToInstantConverter.INSTANCE.convert(range.lowerEndpoint());
+        var startTime = filter.getStartTime().isAfter(lower) ? filter.getStartTime() : lower;
+        var endTime = filter.getEndTime();
+
+        if (!last) {
+            var upper = LongToInstantConverter.INSTANCE.convert(range.upperEndpoint());
+            endTime = endTime != null && endTime.isBefore(upper) ? endTime : upper;
+        }
+
+        return filter.toBuilder()
+                .endTime(endTime)
+                .limit(limit)
+                .startTime(startTime)
+                .build();
     }
 
     @Data
@@ -102,11 +217,15 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         private final TopicMessageFilter filter;
         private final boolean throttled;
         private final Duration frequency;
+        private final AtomicLong heap = new AtomicLong(0L);
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
         private final int maxPageSize;
         private final long numRepeats;
         private final AtomicLong pageSize = new AtomicLong(0L);
+        private final AtomicInteger partitionIndex = new AtomicInteger(-1);
+        private final AtomicInteger partitions = new AtomicInteger(0);
         private final Stopwatch stopwatch = Stopwatch.createStarted();
+        private List<Range<Long>> timestampRanges;
         private final AtomicLong total = new AtomicLong(0L);
 
         private PollingContext(TopicMessageFilter filter, boolean throttled) {
@@ -129,6 +248,33 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return last.get();
         }
 
+        private List<TopicMessage> fetch(TopicMessageFilter query) {
+            log.debug("Executing query: {}", query);
+            long allocated = getAllocatedBytes();
+            var topicMessages = topicMessageRepository.findByFilter(query).toList();
+            heap.addAndGet(getAllocatedBytes() - allocated);
+            return topicMessages;
+        }
+
+        private long getAllocatedBytes() {
+            if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean threadMXBean
+                    && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+                return threadMXBean.getCurrentThreadAllocatedBytes();
+            }
+
+            return 0L;
+        }
+
+        private List<Range<Long>> getTimestampRanges() {
+            if (timestampRanges == null) {
+                timestampRanges = retrieverProperties.isTopicMessageLookup()
+                        ? topicMessageRepository.findTimestampRanges(filter)
+                        : List.of();
+            }
+
+            return timestampRanges;
+        }
+
         /**
          * Checks if this publisher is complete by comparing if the number of results in the last page was less than the
          * page size or if the limit has reached if it's set. This avoids the extra query if we were to just check if
@@ -148,11 +294,27 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
         void onNext(TopicMessage topicMessage) {
             last.set(topicMessage);
-            total.incrementAndGet();
             pageSize.incrementAndGet();
+
+            if (total.incrementAndGet() == 1L) {
+                firstMessageMetric.record(stopwatch.elapsed());
+            }
+        }
+
+        // Counts each partition once even though it may be queried by multiple polls
+        void onPartition(int index) {
+            if (partitionIndex.getAndSet(index) != index) {
+                partitions.incrementAndGet();
+            }
         }
 
         void onComplete() {
+            if (timestampRanges != null && !timestampRanges.isEmpty()) {
+                partitionsMetric.record(partitions.get());
+            }
+
+            heapMetric.record(heap.get());
+
             var elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             var rate = elapsed > 0 ? (int) (1000.0 * total.get() / elapsed) : 0;
             log.info(
@@ -163,4 +325,6 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                     rate);
         }
     }
+
+    private record Cursor(Instant startTime, long remaining) {}
 }
@@ -40,12 +40,27 @@ public class RetrieverProperties {
     @Min(1)
     private int threadMultiplier = 4;
 
+    @NotNull
+    private StreamingProperties streaming = new StreamingProperties();
+
     @NotNull
     private Duration timeout = Duration.ofSeconds(60L);
 
+    private boolean topicMessageLookup = true;
+
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class StreamingProperties {
+
+        private boolean enabled = true;
+
+        @Min(32)
+        private int fetchSize = 250;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -35,6 +35,7 @@ import lombok.extern.log4j.Log4j2;
 import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
+import org.springframework.jdbc.core.JdbcOperations;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -46,6 +47,7 @@ public class DomainBuilder {
 
     private final Instant now = Instant.now();
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
     private final TopicMessageRepository topicMessageRepository;
     private long sequenceNumber = 0L;
 
@@ -118,6 +120,31 @@ public class DomainBuilder {
         return Flux.concat(publishers);
     }
 
+    /**
+     * Inserts a topic message lookup for the partition covering the given topic messages, as the importer would for a
+     * partitioned topic_message table.
+     *
+     * @param partition the partition name
+     * @param first     the first topic message of the topic in the partition
+     * @param last      the last topic message of the topic in the partition
+     * @return a Mono that completes once inserted
+     */
+    public Mono<Void> topicMessageLookup(String partition, TopicMessage first, TopicMessage last) {
+        var sql =
+                """
+                insert into topic_message_lookup (partition, sequence_number_range, timestamp_range, topic_id)
+                values (?, int8range(?, ?), int8range(?, ?), ?)
+                """;
+        return Mono.fromRunnable(() -> jdbcOperations.update(
+                sql,
+                partition,
+                first.getSequenceNumber(),
+                last.getSequenceNumber() + 1,
+                first.getConsensusTimestamp(),
+                last.getConsensusTimestamp() + 1,
+                first.getTopicId()));
+    }
+
     private Mono<Entity> insert(Entity entity) {
         return Mono.defer(() -> Mono.just(entityRepository.save(entity))).doOnNext(t -> log.trace("Inserted: {}", t));
     }
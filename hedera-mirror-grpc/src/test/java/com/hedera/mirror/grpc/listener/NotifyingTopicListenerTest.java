@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.grpc.listener;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.grpc.domain.TopicMessage;
@@ -122,6 +124,15 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void topicId() {
+        assertThat(topicListener.getTopicId(JSON)).isEqualTo(1001L);
+        assertThat(topicListener.getTopicId("{\"message\":{\"topic_id\":1},\"topic_id\":2}"))
+                .isEqualTo(2L);
+        assertThat(topicListener.getTopicId("{\"sequence_number\":1}")).isEqualTo(-1L);
+        assertThat(topicListener.getTopicId("invalid")).isEqualTo(-1L);
+    }
+
     @Override
     protected void publish(Flux<TopicMessage> publisher) {
         publisher
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Compares fanning out messages to 10k subscribers over 1k topics using the topic dispatcher against every subscriber
+ * filtering the shared stream of all topics.
+ */
+@Log4j2
+@Tag("performance")
+class TopicDispatcherPerformanceTest {
+
+    private static final int MESSAGES = 100_000;
+    private static final int SUBSCRIBERS = 10_000;
+    private static final int TOPICS = 1_000;
+
+    @Test
+    void fanOut() {
+        var filtered = benchmark(source -> topicId -> source.filter(t -> t.getTopicId() == topicId));
+        var dispatched = benchmark(source -> {
+            var dispatcher = new TopicDispatcher<>(
+                    "benchmark",
+                    source,
+                    TopicMessage::getTopicId,
+                    Function.identity(),
+                    new ListenerProperties(),
+                    new SimpleMeterRegistry());
+            return dispatcher::listen;
+        });
+
+        log.info(
+                "Delivered {} messages to {} subscribers over {} topics in {} dispatched and {} filtered",
+                MESSAGES,
+                SUBSCRIBERS,
+                TOPICS,
+                dispatched,
+                filtered);
+    }
+
+    private Duration benchmark(Function<Flux<TopicMessage>, TopicSubscriber> listener) {
+        Sinks.Many<TopicMessage> sink = Sinks.many().multicast().directBestEffort();
+        var topicSubscriber = listener.apply(sink.asFlux().share());
+        var received = new AtomicLong();
+        List<Disposable> subscriptions = new ArrayList<>(SUBSCRIBERS);
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            subscriptions.add(topicSubscriber.listen(i % TOPICS).subscribe(t -> received.incrementAndGet()));
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        for (int i = 0; i < MESSAGES; i++) {
+            var topicMessage = TopicMessage.builder()
+                    .consensusTimestamp((long) i)
+                    .sequenceNumber(i)
+                    .topicId(i % TOPICS)
+                    .build();
+            sink.tryEmitNext(topicMessage);
+        }
+
+        var elapsed = stopwatch.elapsed();
+        subscriptions.forEach(Disposable::dispose);
+        assertThat(received).hasValue((long) MESSAGES * SUBSCRIBERS / TOPICS);
+        return elapsed;
+    }
+
+    @FunctionalInterface
+    private interface TopicSubscriber {
+        Flux<TopicMessage> listen(long topicId);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TopicDispatcherTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
+    private AtomicInteger conversions;
+    private TopicDispatcher<TopicMessage> dispatcher;
+    private ListenerProperties listenerProperties;
+    private MeterRegistry meterRegistry;
+    private Sinks.Many<TopicMessage> source;
+
+    @BeforeEach
+    void setup() {
+        conversions = new AtomicInteger();
+        listenerProperties = new ListenerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        source = Sinks.many().multicast().directBestEffort();
+        dispatcher = new TopicDispatcher<>(
+                "test",
+                source.asFlux(),
+                TopicMessage::getTopicId,
+                t -> {
+                    conversions.incrementAndGet();
+                    return t;
+                },
+                listenerProperties,
+                meterRegistry);
+    }
+
+    @Test
+    void dispatchesByTopic() {
+        var topic1 = dispatcher.listen(1L).map(TopicMessage::getSequenceNumber);
+        var topic2 = dispatcher.listen(2L).map(TopicMessage::getSequenceNumber);
+
+        var verifier1 = StepVerifier.create(topic1)
+                .expectNext(1L, 4L)
+                .thenCancel()
+                .verifyLater();
+        var verifier2 = StepVerifier.create(topic2)
+                .expectNext(2L)
+                .thenCancel()
+                .verifyLater();
+
+        source.tryEmitNext(topicMessage(1L, 1L));
+        source.tryEmitNext(topicMessage(2L, 2L));
+        source.tryEmitNext(topicMessage(3L, 3L));
+        source.tryEmitNext(topicMessage(1L, 4L));
+
+        verifier1.verify(WAIT);
+        verifier2.verify(WAIT);
+        assertThat(conversions).hasValue(3);
+    }
+
+    @Test
+    void sharedTopic() {
+        var verifier1 = StepVerifier.create(dispatcher.listen(1L).map(TopicMessage::getSequenceNumber))
+                .expectNext(1L)
+                .thenCancel()
+                .verifyLater();
+        var verifier2 = StepVerifier.create(dispatcher.listen(1L).map(TopicMessage::getSequenceNumber))
+                .expectNext(1L)
+                .thenCancel()
+                .verifyLater();
+
+        source.tryEmitNext(topicMessage(1L, 1L));
+
+        verifier1.verify(WAIT);
+        verifier2.verify(WAIT);
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void unsubscribe() {
+        StepVerifier.create(dispatcher.listen(1L))
+                .then(() -> source.tryEmitNext(topicMessage(1L, 1L)))
+                .expectNextCount(1L)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(dispatcher.getTopicCount()).isZero();
+        assertThat(source.currentSubscriberCount()).isZero();
+        assertThat(meterRegistry.find("hedera.mirror.grpc.listener.dropped").counter())
+                .isNull();
+
+        // Messages for topics without subscribers are discarded without being converted
+        source.tryEmitNext(topicMessage(1L, 2L));
+        assertThat(conversions).hasValue(1);
+    }
+
+    @Test
+    void dropped() {
+        listenerProperties.setMaxBufferSize(1);
+        int count = 2048;
+        var received = new AtomicInteger();
+        var subscriber = new BaseSubscriber<TopicMessage>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // Don't request anything until the buffers are full
+            }
+
+            @Override
+            protected void hookOnNext(TopicMessage value) {
+                received.incrementAndGet();
+            }
+        };
+        dispatcher.listen(1L).subscribe(subscriber);
+
+        for (int i = 1; i <= count; i++) {
+            source.tryEmitNext(topicMessage(1L, i));
+        }
+
+        subscriber.request(Long.MAX_VALUE);
+        var dropped = meterRegistry
+                .find("hedera.mirror.grpc.listener.dropped")
+                .tag("topic", "1")
+                .counter();
+        subscriber.dispose();
+
+        assertThat(dropped).isNotNull();
+        assertThat(dropped.count()).isPositive();
+        assertThat(received.get() + dropped.count()).isEqualTo(count);
+    }
+
+    private TopicMessage topicMessage(long topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .build();
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.mirror.grpc.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.grpc.GrpcIntegrationTest;
@@ -124,6 +125,60 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void findTimestampRangesEmpty() {
+        domainBuilder.topicMessage().block();
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(EntityId.of(100L, EntityType.TOPIC))
+                .build();
+
+        assertThat(topicMessageRepository.findTimestampRanges(filter)).isEmpty();
+    }
+
+    @Test
+    void findTimestampRanges() {
+        var now = Instant.now();
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.consensusTimestamp(now)).block();
+        var topicMessage2 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(10)))
+                .block();
+        var topicMessage3 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(20)))
+                .block();
+        var topicMessage4 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(30)))
+                .block();
+        var otherTopic = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(40)).topicId(200))
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p1", topicMessage1, topicMessage1)
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p2", topicMessage2, topicMessage3)
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p3", topicMessage4, topicMessage4)
+                .block();
+        domainBuilder.topicMessageLookup("topic_message_p3", otherTopic, otherTopic).block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(now.plusSeconds(15))
+                .endTime(now.plusSeconds(25))
+                .topicId(EntityId.of(100L, EntityType.TOPIC))
+                .build();
+        assertThat(topicMessageRepository.findTimestampRanges(filter))
+                .containsExactly(range(topicMessage2, topicMessage3));
+
+        filter = filter.toBuilder().startTime(Instant.EPOCH).endTime(null).build();
+        assertThat(topicMessageRepository.findTimestampRanges(filter))
+                .containsExactly(
+                        range(topicMessage1, topicMessage1),
+                        range(topicMessage2, topicMessage3),
+                        range(topicMessage4, topicMessage4));
+    }
+
     @Test
     void findLatest() {
         TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
@@ -135,4 +190,8 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findLatest(topicMessage1.getConsensusTimestamp(), pageable))
                 .containsExactly(topicMessage2, topicMessage3);
     }
+
+    private Range<Long> range(TopicMessage first, TopicMessage last) {
+        return Range.closedOpen(first.getConsensusTimestamp(), last.getConsensusTimestamp() + 1);
+    }
 }
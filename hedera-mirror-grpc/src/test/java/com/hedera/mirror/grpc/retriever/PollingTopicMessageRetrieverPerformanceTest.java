@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.grpc.GrpcIntegrationTest;
+import com.hedera.mirror.grpc.converter.InstantToLongConverter;
+import com.hedera.mirror.grpc.domain.DomainBuilder;
+import com.hedera.mirror.grpc.domain.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Benchmarks retrieving a sparse topic with a few messages a month over two years, interleaved with a busy topic, with
+ * and without the topic message lookup.
+ */
+@Tag("performance")
+class PollingTopicMessageRetrieverPerformanceTest extends GrpcIntegrationTest {
+
+    private static final int BUSY_MESSAGES_PER_MONTH = 20_000;
+    private static final int ITERATIONS = 20;
+    private static final int MONTHS = 24;
+    private static final int SPARSE_MESSAGES_PER_MONTH = 3;
+    private static final EntityId TOPIC_ID = EntityId.of(100L, EntityType.TOPIC);
+
+    @Autowired
+    private DomainBuilder domainBuilder;
+
+    @Resource
+    private JdbcOperations jdbcOperations;
+
+    @Resource
+    private PollingTopicMessageRetriever pollingTopicMessageRetriever;
+
+    @Resource
+    private RetrieverProperties retrieverProperties;
+
+    @Test
+    void sparseTopic() {
+        var start = Instant.parse("2022-01-01T00:00:00Z");
+        var expected = new ArrayList<Long>();
+
+        for (int month = 0; month < MONTHS; month++) {
+            var monthStart = start.plus(month * 30L, ChronoUnit.DAYS);
+            var messages = new ArrayList<TopicMessage>();
+
+            for (int i = 0; i < SPARSE_MESSAGES_PER_MONTH; i++) {
+                var timestamp = monthStart.plus(i, ChronoUnit.DAYS);
+                messages.add(domainBuilder
+                        .topicMessage(t -> t.consensusTimestamp(timestamp))
+                        .block());
+            }
+
+            messages.forEach(t -> expected.add(t.getSequenceNumber()));
+            domainBuilder
+                    .topicMessageLookup("topic_message_" + month, messages.get(0), messages.get(messages.size() - 1))
+                    .block();
+            insertBusyTopic(monthStart);
+        }
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(start)
+                .endTime(start.plus(MONTHS * 30L, ChronoUnit.DAYS))
+                .topicId(TOPIC_ID)
+                .build();
+        boolean topicMessageLookup = retrieverProperties.isTopicMessageLookup();
+
+        try {
+            retrieverProperties.setTopicMessageLookup(false);
+            var withoutLookup = benchmark(filter, expected);
+            retrieverProperties.setTopicMessageLookup(true);
+            var withLookup = benchmark(filter, expected);
+            log.info(
+                    "Retrieved {} messages over {} months {} times in {} with the lookup and {} without it",
+                    expected.size(),
+                    MONTHS,
+                    ITERATIONS,
+                    withLookup,
+                    withoutLookup);
+        } finally {
+            retrieverProperties.setTopicMessageLookup(topicMessageLookup);
+        }
+    }
+
+    private Duration benchmark(TopicMessageFilter filter, List<Long> expected) {
+        var stopwatch = Stopwatch.createStarted();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            var actual = pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .collectList()
+                    .block();
+            assertThat(actual).containsExactlyElementsOf(expected);
+        }
+
+        return stopwatch.elapsed();
+    }
+
+    private void insertBusyTopic(Instant monthStart) {
+        long startTimestamp = InstantToLongConverter.INSTANCE.convert(monthStart);
+        long interval = Duration.ofDays(30).toNanos() / BUSY_MESSAGES_PER_MONTH;
+        jdbcOperations.update(
+                """
+                insert into topic_message (consensus_timestamp, message, payer_account_id, running_hash,
+                  running_hash_version, sequence_number, topic_id)
+                select ? + i * ? + 1, '\\x0102'::bytea, 10, '\\x0304'::bytea, 3, i, 200
+                from generate_series(1, ?) as i
+                """,
+                startTimestamp,
+                interval,
+                BUSY_MESSAGES_PER_MONTH);
+    }
+}
@@ -16,12 +16,15 @@
 
 package com.hedera.mirror.grpc.retriever;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.grpc.GrpcIntegrationTest;
 import com.hedera.mirror.grpc.domain.DomainBuilder;
 import com.hedera.mirror.grpc.domain.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Resource;
 import java.time.Duration;
 import java.time.Instant;
@@ -44,6 +47,9 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
     @Autowired
     private DomainBuilder domainBuilder;
 
+    @Resource
+    private MeterRegistry meterRegistry;
+
     @Resource
     private PollingTopicMessageRetriever pollingTopicMessageRetriever;
 
@@ -285,6 +291,93 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         retrieverProperties.setTimeout(timeout);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void topicMessageLookup(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 2);
+        var partitions = meterRegistry
+                .find("hedera.mirror.grpc.retriever.partitions")
+                .summary();
+        double partitionsScanned = partitions.totalAmount();
+
+        var now = Instant.now();
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.consensusTimestamp(now)).block();
+        domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(1)).topicId(200))
+                .block();
+        var topicMessage3 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(10)))
+                .block();
+        var topicMessage4 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(11)))
+                .block();
+        var topicMessage5 = domainBuilder
+                .topicMessage(t -> t.consensusTimestamp(now.plusSeconds(20)))
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p1", topicMessage1, topicMessage1)
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p2", topicMessage3, topicMessage4)
+                .block();
+        domainBuilder
+                .topicMessageLookup("topic_message_p3", topicMessage5, topicMessage5)
+                .block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(Instant.EPOCH)
+                .topicId(TOPIC_ID)
+                .build();
+
+        StepVerifier.withVirtualTime(() ->
+                        pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber))
+                .thenAwait(WAIT)
+                .expectNext(1L, 3L, 4L, 5L)
+                .expectComplete()
+                .verify(WAIT);
+
+        assertThat(partitions.totalAmount() - partitionsScanned).isEqualTo(3.0);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void streaming(boolean throttle) {
+        int maxPageSize = overrideMaxPageSize(throttle, 100);
+        var streaming = retrieverProperties.getStreaming();
+        int fetchSize = streaming.getFetchSize();
+        streaming.setFetchSize(32);
+        var firstMessage = meterRegistry.find("hedera.mirror.grpc.retriever.first").timer();
+        var heap = meterRegistry.find("hedera.mirror.grpc.retriever.heap").summary();
+        long firstMessageCount = firstMessage.count();
+        long heapCount = heap.count();
+
+        try {
+            domainBuilder.topicMessages(70, Instant.now()).blockLast();
+            TopicMessageFilter filter = TopicMessageFilter.builder()
+                    .startTime(Instant.EPOCH)
+                    .topicId(TOPIC_ID)
+                    .build();
+
+            var flux = pollingTopicMessageRetriever.retrieve(filter, throttle).map(TopicMessage::getSequenceNumber);
+            StepVerifier.create(flux, 0L)
+                    .thenRequest(1L)
+                    .expectNext(1L)
+                    .thenRequest(40L)
+                    .expectNextSequence(LongStream.rangeClosed(2, 41).boxed().toList())
+                    .thenRequest(Long.MAX_VALUE)
+                    .expectNextSequence(LongStream.rangeClosed(42, 70).boxed().toList())
+                    .expectComplete()
+                    .verify(WAIT);
+
+            assertThat(firstMessage.count()).isEqualTo(firstMessageCount + 1);
+            assertThat(heap.count()).isEqualTo(heapCount + 1);
+        } finally {
+            streaming.setFetchSize(fetchSize);
+            restoreMaxPageSize(throttle, maxPageSize);
+        }
+    }
+
     @Test
     void unthrottledShouldKeepPolling() {
         retrieverProperties.getUnthrottled().setMaxPolls(20);
@@ -21,6 +21,7 @@ import com.hedera.mirror.importer.downloader.StreamSourceProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -50,6 +51,7 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 class CloudStorageConfiguration {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
+    private final MeterRegistry meterRegistry;
     private final MetricsExecutionInterceptor metricsExecutionInterceptor;
 
     @Bean
@@ -61,7 +63,8 @@ class CloudStorageConfiguration {
             var provider =
                     switch (source.getType()) {
                         case LOCAL -> new LocalStreamFileProvider(commonDownloaderProperties);
-                        case GCP, S3 -> new S3StreamFileProvider(commonDownloaderProperties, s3Client(source));
+                        case GCP, S3 -> new S3StreamFileProvider(
+                                commonDownloaderProperties, meterRegistry, s3Client(source));
                     };
 
             providers.add(provider);
@@ -29,6 +29,12 @@ import com.hedera.mirror.importer.parser.event.EventFileParser;
 import com.hedera.mirror.importer.parser.event.EventParserProperties;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
 import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.channel.NullChannel;
@@ -37,6 +43,7 @@ import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.MessageChannels;
 import org.springframework.integration.dsl.Pollers;
 import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.PollableChannel;
 
 @Configuration
 public class MessagingConfiguration {
@@ -78,8 +85,23 @@ public class MessagingConfiguration {
     }
 
     @Bean
-    IntegrationFlow integrationFlowRecord(RecordFileParser parser) {
-        return integrationFlow(parser, RecordFile.class);
+    IntegrationFlow integrationFlowRecord(
+            RecordFileParser parser,
+            RecordParserProperties properties,
+            @Qualifier(CHANNEL_RECORD) MessageChannel channel) {
+        if (!properties.getBatch().isEnabled() || !(channel instanceof PollableChannel pollableChannel)) {
+            return integrationFlow(parser, RecordFile.class);
+        }
+
+        return IntegrationFlow.from(CHANNEL_RECORD)
+                .handle(
+                        RecordFile.class,
+                        (s, h) -> {
+                            parser.parse(batch(s, pollableChannel, properties.getBatch()));
+                            return null;
+                        },
+                        e -> e.poller(Pollers.fixedDelay(properties.getFrequency())))
+                .get();
     }
 
     @Bean
@@ -115,6 +137,44 @@ public class MessagingConfiguration {
                 .get();
     }
 
+    /**
+     * Drains the record files already queued behind the given one until the batch budget is reached. The queue is
+     * only non-empty when the importer is behind, so this falls back to one record file per transaction once it has
+     * caught up. The budget is checked before taking the next file so a batch can exceed it by at most one file.
+     */
+    private List<RecordFile> batch(
+            RecordFile first, PollableChannel channel, RecordParserProperties.BatchProperties properties) {
+        var batch = new ArrayList<RecordFile>();
+        batch.add(first);
+
+        var lag = Duration.between(Instant.ofEpochSecond(0L, first.getConsensusEnd()), Instant.now());
+        if (lag.compareTo(properties.getRealTimeThreshold()) < 0) {
+            return batch;
+        }
+
+        long maxBytes = properties.getMaxSize() * 1024L * 1024L;
+        long maxSpan = properties.getMaxSpan().toNanos();
+        long items = Objects.requireNonNullElse(first.getCount(), 0L);
+        long bytes = Objects.requireNonNullElse(first.getSize(), 0);
+        var last = first;
+
+        while (items < properties.getMaxItems()
+                && bytes < maxBytes
+                && last.getConsensusEnd() - first.getConsensusStart() < maxSpan) {
+            var message = channel.receive(0L);
+            if (message == null) {
+                break;
+            }
+
+            last = (RecordFile) message.getPayload();
+            batch.add(last);
+            items += Objects.requireNonNullElse(last.getCount(), 0L);
+            bytes += Objects.requireNonNullElse(last.getSize(), 0);
+        }
+
+        return batch;
+    }
+
     private String channelName(StreamType streamType) {
         return CHANNEL_STREAM + "." + streamType.toString().toLowerCase();
     }
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.domain;
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import java.util.Optional;
@@ -68,4 +69,12 @@ public interface EntityIdService {
      * @param aliasable Represents a mapping of alias to entity ID.
      */
     void notify(Entity entity);
+
+    /**
+     * Resolves the aliases and EVM addresses referenced by the record items that are not already cached using a single
+     * query per kind, so that the lookups made while processing the record items don't each query the database.
+     *
+     * @param recordItems The record items of a record file about to be processed
+     */
+    void warm(Iterable<RecordItem> recordItems);
 }
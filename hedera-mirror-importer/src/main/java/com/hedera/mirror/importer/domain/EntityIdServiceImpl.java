@@ -26,30 +26,66 @@ import com.google.protobuf.GeneratedMessageV3;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcOperations;
 
 @Log4j2
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
+    private static final String FIND_BY_ALIASES_SQL =
+            "select id, alias from entity where alias = any(?) and deleted <> true";
+    private static final String FIND_BY_EVM_ADDRESSES_SQL =
+            "select id, evm_address from entity where evm_address = any(?) and deleted <> true";
+
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
+
+    // Metrics
+    private final Counter warmHitMetric;
+    private final Counter warmMissMetric;
+    private final DistributionSummary warmBatchSizeMetric;
 
     public EntityIdServiceImpl(
-            @Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+            @Named(CACHE_MANAGER_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry) {
         this.cache = cacheManager.getCache("entityId");
         this.entityRepository = entityRepository;
+        this.jdbcOperations = jdbcOperations;
+
+        var warmMetric = Counter.builder("hedera.mirror.importer.entity.id.warm")
+                .description("The number of aliases and EVM addresses referenced by a record file that were already "
+                        + "cached (hit) or had to be resolved (miss)");
+        warmHitMetric = warmMetric.tag("result", "hit").register(meterRegistry);
+        warmMissMetric = warmMetric.tag("result", "miss").register(meterRegistry);
+        warmBatchSizeMetric = DistributionSummary.builder("hedera.mirror.importer.entity.id.warm.batch")
+                .description("The number of aliases or EVM addresses resolved by a single query")
+                .register(meterRegistry);
     }
 
     @Override
@@ -133,6 +169,118 @@ public class EntityIdServiceImpl implements EntityIdService {
         cache.put(builder.build(), entityId);
     }
 
+    @Override
+    public void warm(Iterable<RecordItem> recordItems) {
+        var accountIds = new HashSet<AccountID>();
+        var contractIds = new HashSet<ContractID>();
+        for (var recordItem : recordItems) {
+            collect(recordItem, accountIds, contractIds);
+        }
+
+        var aliases = new HashMap<ByteString, List<GeneratedMessageV3>>();
+        var evmAddresses = new HashMap<ByteString, List<GeneratedMessageV3>>();
+
+        for (var accountId : accountIds) {
+            var alias = accountId.getAlias();
+            if (isCached(accountId) || isParsable(alias, accountId.getShardNum(), accountId.getRealmNum())) {
+                continue;
+            }
+
+            var unresolved = alias.size() == DomainUtils.EVM_ADDRESS_LENGTH ? evmAddresses : aliases;
+            unresolved.computeIfAbsent(alias, k -> new ArrayList<>()).add(accountId);
+        }
+
+        for (var contractId : contractIds) {
+            var evmAddress = contractId.getEvmAddress();
+            if (!isCached(contractId) && !isParsable(evmAddress, contractId.getShardNum(), contractId.getRealmNum())) {
+                evmAddresses.computeIfAbsent(evmAddress, k -> new ArrayList<>()).add(contractId);
+            }
+        }
+
+        warm(FIND_BY_ALIASES_SQL, aliases);
+        warm(FIND_BY_EVM_ADDRESSES_SQL, evmAddresses);
+    }
+
+    private void collect(RecordItem recordItem, Set<AccountID> accountIds, Set<ContractID> contractIds) {
+        var body = recordItem.getTransactionBody();
+
+        if (body.hasCryptoTransfer()) {
+            var cryptoTransfer = body.getCryptoTransfer();
+            cryptoTransfer.getTransfers().getAccountAmountsList().forEach(aa -> collect(aa, accountIds));
+
+            for (var tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+                tokenTransferList.getTransfersList().forEach(aa -> collect(aa, accountIds));
+
+                for (var nftTransfer : tokenTransferList.getNftTransfersList()) {
+                    collect(nftTransfer.getReceiverAccountID(), accountIds);
+                    collect(nftTransfer.getSenderAccountID(), accountIds);
+                }
+            }
+        } else if (body.hasContractCall()) {
+            collect(body.getContractCall().getContractID(), contractIds);
+        }
+
+        var transactionRecord = recordItem.getTransactionRecord();
+        if (transactionRecord.hasContractCallResult()) {
+            collect(transactionRecord.getContractCallResult().getContractID(), contractIds);
+        }
+    }
+
+    private void collect(AccountAmount accountAmount, Set<AccountID> accountIds) {
+        collect(accountAmount.getAccountID(), accountIds);
+    }
+
+    private void collect(AccountID accountId, Set<AccountID> accountIds) {
+        if (accountId.getAccountCase() == AccountID.AccountCase.ALIAS) {
+            accountIds.add(accountId);
+        }
+    }
+
+    private void collect(ContractID contractId, Set<ContractID> contractIds) {
+        if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+            contractIds.add(contractId);
+        }
+    }
+
+    private boolean isCached(GeneratedMessageV3 entityIdProto) {
+        boolean cached = cache.get(entityIdProto) != null;
+        (cached ? warmHitMetric : warmMissMetric).increment();
+        return cached;
+    }
+
+    // Same check as findByEvmAddress to skip EVM addresses in the 'shard.realm.num' form that don't need a query
+    private boolean isParsable(ByteString evmAddress, long shardNum, long realmNum) {
+        if (evmAddress.size() != DomainUtils.EVM_ADDRESS_LENGTH) {
+            return false;
+        }
+
+        var entityId = DomainUtils.fromEvmAddress(DomainUtils.toBytes(evmAddress));
+        return entityId != null && entityId.getShardNum() == shardNum && entityId.getRealmNum() == realmNum;
+    }
+
+    private void warm(String sql, Map<ByteString, List<GeneratedMessageV3>> unresolved) {
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        var values = unresolved.keySet().stream().map(DomainUtils::toBytes).toArray(byte[][]::new);
+        warmBatchSizeMetric.record(values.length);
+
+        jdbcOperations.query(
+                sql,
+                rs -> {
+                    long id = rs.getLong(1);
+                    var keys = unresolved.getOrDefault(DomainUtils.fromBytes(rs.getBytes(2)), List.of());
+                    for (var key : keys) {
+                        var type = key instanceof ContractID ? CONTRACT : ACCOUNT;
+                        cache.put(key, EntityId.of(id, type));
+                    }
+                },
+                (Object) values);
+
+        log.debug("Resolved {} aliases or EVM addresses in one query", values.length);
+    }
+
     private EntityId load(AccountID accountId) {
         switch (accountId.getAccountCase()) {
             case ACCOUNTNUM:
@@ -79,6 +79,26 @@ public class StreamFileData {
         return new ByteArrayInputStream(getDecompressedBytes());
     }
 
+    /**
+     * Unlike {@link #getInputStream()}, decompresses the bytes as they're read instead of buffering all of the
+     * decompressed bytes up front.
+     */
+    public InputStream getDecompressingInputStream() {
+        var compressor = streamFilename.getCompressor();
+        var inputStream = new ByteArrayInputStream(bytes);
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
+    }
+
     public String getFilename() {
         return streamFilename.getFilename();
     }
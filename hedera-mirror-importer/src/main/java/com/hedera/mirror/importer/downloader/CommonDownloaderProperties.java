@@ -19,6 +19,9 @@ package com.hedera.mirror.importer.downloader;
 import com.hedera.mirror.importer.MirrorProperties;
 import com.hedera.mirror.importer.MirrorProperties.HederaNetwork;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -67,6 +70,14 @@ public class CommonDownloaderProperties {
 
     private String gcpProjectId;
 
+    @NotNull
+    @Valid
+    private HedgeProperties hedge = new HedgeProperties();
+
+    @Max(100)
+    @Min(0)
+    private int lookAhead;
+
     @DurationMin(seconds = 1)
     @NotNull
     private Duration pathRefreshInterval = Duration.ofSeconds(10L);
@@ -88,6 +99,13 @@ public class CommonDownloaderProperties {
     @NotNull
     private Duration timeout = Duration.ofSeconds(30L);
 
+    @Max(100)
+    @Min(0)
+    private int verificationLookAhead = 5;
+
+    @Min(1)
+    private int verificationThreads = Runtime.getRuntime().availableProcessors();
+
     @PostConstruct
     public void init() {
         if (StringUtils.isBlank(bucketName)
@@ -128,6 +146,27 @@ public class CommonDownloaderProperties {
                 : HederaNetwork.isAllowAnonymousAccess(mirrorProperties.getNetwork());
     }
 
+    @Data
+    @Validated
+    public static class HedgeProperties {
+
+        // Hedging requires at least two sources so the hedge request can go to a different source. Disabled by default
+        // since every hedge is an extra request that's billed to the operator by requester pays buckets.
+        private boolean enabled = false;
+
+        @DurationMin(millis = 0)
+        @NotNull
+        private Duration maxDelay = Duration.ofSeconds(2L);
+
+        @DurationMin(millis = 0)
+        @NotNull
+        private Duration minDelay = Duration.ofMillis(100L);
+
+        @DecimalMax("0.999")
+        @DecimalMin("0.5")
+        private double percentile = 0.95;
+    }
+
     public enum PathType {
         ACCOUNT_ID,
         AUTO,
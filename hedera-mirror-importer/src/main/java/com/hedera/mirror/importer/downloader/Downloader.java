@@ -44,6 +44,7 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.ShutdownHelper;
 import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.nio.file.Path;
@@ -52,16 +53,23 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -98,12 +106,16 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     protected final AtomicReference<Optional<T>> lastStreamFile = new AtomicReference<>(Optional.empty());
     private final ConsensusNodeService consensusNodeService;
     private final ExecutorService signatureDownloadThreadPool; // One per node during the signature download process
+    private final ExecutorService lookAheadThreadPool; // One per look-ahead data file download
+    private final AtomicInteger lookAheadQueueDepth = new AtomicInteger();
     private final MirrorProperties mirrorProperties;
     private final StreamType streamType;
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
+    private final Counter lookAheadHitMetric;
+    private final Counter lookAheadMissMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
     private final Timer.Builder streamVerificationMetric;
@@ -131,6 +143,11 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         this.streamFileReader = streamFileReader;
         this.streamFileNotifier = streamFileNotifier;
         Runtime.getRuntime().addShutdownHook(new Thread(signatureDownloadThreadPool::shutdown));
+        var lookAhead = downloaderProperties.getCommon().getLookAhead();
+        this.lookAheadThreadPool = lookAhead > 0 ? Executors.newFixedThreadPool(lookAhead + 1) : null;
+        if (lookAheadThreadPool != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(lookAheadThreadPool::shutdownNow));
+        }
         mirrorProperties = downloaderProperties.getMirrorProperties();
 
         streamType = downloaderProperties.getStreamType();
@@ -156,6 +173,17 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hedera.mirror.download.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder("hedera.mirror.download.lookahead.queue", lookAheadQueueDepth, AtomicInteger::get)
+                .description("The number of data files being downloaded ahead of hash chain verification")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        var lookAheadMetric = Counter.builder("hedera.mirror.download.lookahead")
+                .description("The number of verified data files that were or were not already downloaded ahead")
+                .tag("type", streamType.toString());
+        lookAheadHitMetric = lookAheadMetric.tag("result", "hit").register(meterRegistry);
+        lookAheadMissMetric = lookAheadMetric.tag("result", "miss").register(meterRegistry);
     }
 
     public abstract void download();
@@ -304,6 +332,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * If look-ahead is enabled, the data files of the next few filenames are downloaded and parsed concurrently while
+     * the hash chain is still verified in order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -312,54 +343,184 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        var lookAheadIter = sigFilesMap.keySet().iterator();
+        var lookAheadFiles = new HashMap<StreamFilename, LookAheadFile<T>>();
+        var verificationIter = sigFilesMap.keySet().iterator();
+        var verifications = new HashMap<StreamFilename, CompletableFuture<Void>>();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                Instant startTime = Instant.now();
+                var sigFilename = sigFilenameIter.next();
+                var signatures = sigFilesMap.get(sigFilename);
+                lookAhead(sigFilesMap, lookAheadIter, lookAheadFiles);
+                verifyAhead(sigFilesMap, verificationIter, verifications);
+                var verification = verifications.remove(sigFilename);
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-
-                var consensusCount = signatures.stream()
-                        .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
-                        .count();
-
-                if (consensusCount == nodeIds.size()) {
-                    log.debug("Verified signature file {} reached consensus", sigFilename);
-                } else if (consensusCount > 0) {
-                    log.warn(
-                            "Verified signature file {} reached consensus but with some errors: {}",
-                            sigFilename,
-                            statusMap(signatures, nodeIds));
-                }
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                if (!verifySignatureFiles(
+                        sigFilename, signatures, verification, nodeIds, sigFilenameIter.hasNext())) {
+                    discard(lookAheadFiles.remove(sigFilename));
                     continue;
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
+                boolean valid = verifySignatures(signatures, lookAheadFiles.remove(sigFilename));
+                if (Thread.currentThread().isInterrupted()) {
+                    log.warn("Interrupted while verifying data files, signatures: {}", signatures);
+                    return;
+                }
+
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
+
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            lookAheadFiles.values().forEach(this::discard);
+            verifications.values().forEach(verification -> verification.cancel(false));
+        }
+    }
+
+    /**
+     * Verifies the signature files of a single filename group reached consensus.
+     *
+     * @return true if consensus was reached, false if it wasn't and the next group should be tried
+     */
+    private boolean verifySignatureFiles(
+            StreamFilename sigFilename,
+            Collection<StreamFileSignature> signatures,
+            CompletableFuture<Void> verification,
+            Set<Long> nodeIds,
+            boolean hasNext) {
+        try {
+            nodeSignatureVerifier.verify(signatures, verification);
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+            var consensusCount = signatures.stream()
+                    .filter(s -> s.getStatus() == StreamFileSignature.SignatureStatus.CONSENSUS_REACHED)
+                    .count();
+
+            if (consensusCount == nodeIds.size()) {
+                log.debug("Verified signature file {} reached consensus", sigFilename);
+            } else if (consensusCount > 0) {
+                log.warn(
+                        "Verified signature file {} reached consensus but with some errors: {}",
+                        sigFilename,
+                        statusMap(signatures, nodeIds));
             }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+            return true;
+        } catch (SignatureVerificationException ex) {
+            var statusMapMessage = statusMap(signatures, nodeIds);
+            if (hasNext) {
+                log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                return false;
+            }
+
+            throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
         }
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    /**
+     * Starts verifying the signatures of upcoming filenames until the configured number of filenames after the current
+     * one are being verified, so the verification of many small groups keeps the verification pool busy. Only the
+     * consensus check waits for the verification and it's still done in order.
+     */
+    private void verifyAhead(
+            Multimap<StreamFilename, StreamFileSignature> sigFilesMap,
+            Iterator<StreamFilename> verificationIter,
+            Map<StreamFilename, CompletableFuture<Void>> verifications) {
+        int maxVerifyAhead = downloaderProperties.getCommon().getVerificationLookAhead();
+
+        // The current filename is always verified along with up to maxVerifyAhead filenames after it
+        while (verifications.size() <= maxVerifyAhead && verificationIter.hasNext()) {
+            var filename = verificationIter.next();
+            verifications.put(filename, nodeSignatureVerifier.verifyAsync(sigFilesMap.get(filename)));
+        }
+    }
+
+    /**
+     * Starts downloading and parsing the data files of upcoming filenames until the configured number of look-ahead
+     * files are in flight. The data file is speculatively fetched from the first node whose signature was received for
+     * that filename, before its signature has been verified.
+     */
+    private void lookAhead(
+            Multimap<StreamFilename, StreamFileSignature> sigFilesMap,
+            Iterator<StreamFilename> lookAheadIter,
+            Map<StreamFilename, LookAheadFile<T>> lookAheadFiles) {
+        int maxLookAhead = downloaderProperties.getCommon().getLookAhead();
+
+        // The current filename is always downloaded along with up to maxLookAhead filenames after it
+        while (lookAheadThreadPool != null && lookAheadFiles.size() <= maxLookAhead && lookAheadIter.hasNext()) {
+            var filename = lookAheadIter.next();
+            var signature = sigFilesMap.get(filename).iterator().next();
+            var node = signature.getNode();
+            var dataFilename = signature.getDataFilename();
+
+            // Cancelling a FutureTask interrupts its thread, unlike a CompletableFuture. The queue depth is only
+            // decremented once the pool thread is done with the task, so a discarded download still in flight counts.
+            var task = new FutureTask<>(() -> {
+                var streamFileData = streamFileProvider.get(node, dataFilename).block();
+                return new DownloadedStreamFile<>(streamFileData, streamFileReader.read(streamFileData));
+            }) {
+                @Override
+                public void run() {
+                    try {
+                        super.run();
+                    } finally {
+                        lookAheadQueueDepth.decrementAndGet();
+                    }
+                }
+            };
+
+            lookAheadQueueDepth.incrementAndGet();
+            lookAheadThreadPool.execute(task);
+            lookAheadFiles.put(filename, new LookAheadFile<>(node, task));
+        }
+    }
+
+    private void discard(LookAheadFile<T> lookAheadFile) {
+        if (lookAheadFile != null) {
+            lookAheadFile.future().cancel(true);
+        }
+    }
+
+    private DownloadedStreamFile<T> download(StreamFileSignature signature, LookAheadFile<T> lookAheadFile)
+            throws InterruptedException {
+        var node = signature.getNode();
+
+        if (lookAheadFile != null && lookAheadFile.node().equals(node)) {
+            try {
+                var timeout = downloaderProperties.getCommon().getTimeout();
+                var downloaded = lookAheadFile.future().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                lookAheadHitMetric.increment();
+                return downloaded;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new TransientProviderException(e.getCause());
+            } catch (TimeoutException e) {
+                lookAheadFile.future().cancel(true);
+                throw new TransientProviderException(e);
+            }
+        }
+
+        if (lookAheadThreadPool != null) {
+            lookAheadMissMetric.increment();
+        }
+
+        var streamFileData = streamFileProvider.get(node, signature.getDataFilename()).block();
+        return new DownloadedStreamFile<>(streamFileData, streamFileReader.read(streamFileData));
+    }
+
+    private boolean verifySignatures(Collection<StreamFileSignature> signatures, LookAheadFile<T> lookAheadFile) {
         Instant endDate = mirrorProperties.getEndDate();
 
         for (var signature : signatures) {
@@ -373,8 +534,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = streamFileProvider.get(node, dataFilename).block();
-                T streamFile = streamFileReader.read(streamFileData);
+                var downloaded = download(signature, lookAheadFile);
+                var streamFileData = downloaded.streamFileData();
+                T streamFile = downloaded.streamFile();
                 streamFile.setNodeId(nodeId);
 
                 verify(streamFile, signature);
@@ -405,6 +567,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
                 onVerified(streamFileData, streamFile, node);
                 return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
             } catch (HashMismatchException | TransientProviderException e) {
                 log.warn(
                         "Failed processing signature from node {} corresponding to {}. Will retry another node: {}",
@@ -536,4 +701,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 .tag("status", status.toString())
                 .register(meterRegistry);
     }
+
+    private record DownloadedStreamFile<T>(StreamFileData streamFileData, T streamFile) {}
+
+    private record LookAheadFile<T>(ConsensusNode node, Future<DownloadedStreamFile<T>> future) {}
 }
@@ -16,21 +16,48 @@
 
 package com.hedera.mirror.importer.downloader;
 
+import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
 @Named
 @CustomLog
-@RequiredArgsConstructor
 public class NodeSignatureVerifier {
 
     private final ConsensusValidator consensusValidator;
+    private final ForkJoinPool verificationPool;
+
+    // Metrics
+    private final Map<StreamType, Timer> verifyDurationMetrics = new EnumMap<>(StreamType.class);
+
+    public NodeSignatureVerifier(
+            CommonDownloaderProperties commonDownloaderProperties,
+            ConsensusValidator consensusValidator,
+            MeterRegistry meterRegistry) {
+        this.consensusValidator = consensusValidator;
+        this.verificationPool = new ForkJoinPool(commonDownloaderProperties.getVerificationThreads());
+        Runtime.getRuntime().addShutdownHook(new Thread(verificationPool::shutdownNow));
+
+        for (var streamType : StreamType.values()) {
+            var timer = Timer.builder("hedera.mirror.download.signature.verify.duration")
+                    .description("The duration it took to verify a signature file against its node's public key")
+                    .tag("type", streamType.toString())
+                    .register(meterRegistry);
+            verifyDurationMetrics.put(streamType, timer);
+        }
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -48,14 +75,57 @@ public class NodeSignatureVerifier {
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        verify(signatures, verifyAsync(signatures));
+    }
 
-        for (StreamFileSignature streamFileSignature : signatures) {
-            if (verifySignature(streamFileSignature)) {
-                streamFileSignature.setStatus(SignatureStatus.VERIFIED);
-            }
+    /**
+     * Same as {@link #verify(Collection)} but waits for the signatures to be verified by a prior call to
+     * {@link #verifyAsync(Collection)} instead of verifying them again, so the consensus check can still be done in
+     * order.
+     *
+     * @param signatures   a list of signature files which have the same filename
+     * @param verification the result of verifyAsync for the same signatures
+     * @throws SignatureVerificationException
+     */
+    public void verify(Collection<StreamFileSignature> signatures, CompletableFuture<Void> verification)
+            throws SignatureVerificationException {
+        verification.join();
+        consensusValidator.validate(signatures);
+    }
+
+    /**
+     * Verifies each signature against its node's public key concurrently without checking consensus. Signatures that
+     * are valid are marked as verified when the returned future completes.
+     *
+     * @param signatures a list of signature files which have the same filename
+     * @return a future that completes once all the signatures are verified, and cancels the verifications not yet
+     * started when cancelled
+     */
+    public CompletableFuture<Void> verifyAsync(Collection<StreamFileSignature> signatures) {
+        var futures = new CompletableFuture<?>[signatures.size()];
+        int index = 0;
+
+        for (var streamFileSignature : signatures) {
+            futures[index++] = CompletableFuture.runAsync(
+                    () -> {
+                        var timer = verifyDurationMetrics.get(streamFileSignature.getStreamType());
+                        if (timer.record(() -> verifySignature(streamFileSignature))) {
+                            streamFileSignature.setStatus(SignatureStatus.VERIFIED);
+                        }
+                    },
+                    verificationPool);
         }
 
-        consensusValidator.validate(signatures);
+        // Cancelling the combined future doesn't cancel its components, so skip the ones that haven't started yet
+        var verification = CompletableFuture.allOf(futures);
+        verification.whenComplete((result, e) -> {
+            if (e instanceof CancellationException) {
+                for (var future : futures) {
+                    future.cancel(false);
+                }
+            }
+        });
+        return verification;
     }
 
     /**
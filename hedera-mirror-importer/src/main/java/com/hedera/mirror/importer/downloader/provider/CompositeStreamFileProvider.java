@@ -22,12 +22,18 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import lombok.Value;
 import org.springframework.context.annotation.Primary;
@@ -41,26 +47,60 @@ import reactor.util.retry.Retry;
 @Primary
 final class CompositeStreamFileProvider implements StreamFileProvider {
 
+    private final CommonDownloaderProperties.HedgeProperties hedgeProperties;
+    private final Counter hedgeRequestsMetric;
+    private final Counter hedgeWinsMetric;
     private final List<ProviderHealth> providers;
 
-    public CompositeStreamFileProvider(CommonDownloaderProperties properties, List<StreamFileProvider> providers) {
+    public CompositeStreamFileProvider(
+            CommonDownloaderProperties properties, List<StreamFileProvider> providers, MeterRegistry meterRegistry) {
         var providerHealth = new ArrayList<ProviderHealth>();
+        this.hedgeProperties = properties.getHedge();
 
         for (int i = 0; i < providers.size(); ++i) {
             var provider = providers.get(i);
             var sourceProperties = properties.getSources().get(i);
-            providerHealth.add(new ProviderHealth(provider, sourceProperties));
+            var latencyMetric = Timer.builder("hedera.mirror.download.provider.latency")
+                    .description("The latency of successful stream file downloads from a source")
+                    .publishPercentiles(hedgeProperties.getPercentile())
+                    .publishPercentileHistogram()
+                    .tag("provider", String.valueOf(sourceProperties.getType()))
+                    .tag("source", String.valueOf(i))
+                    .register(meterRegistry);
+            providerHealth.add(new ProviderHealth(provider, sourceProperties, latencyMetric));
         }
 
         this.providers = Collections.unmodifiableList(providerHealth);
+        hedgeRequestsMetric = Counter.builder("hedera.mirror.download.hedge")
+                .description("The number of hedge requests sent to another source after the hedge delay")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        hedgeWinsMetric = Counter.builder("hedera.mirror.download.hedge")
+                .description("The number of hedge requests that completed before the original request")
+                .tag("result", "win")
+                .register(meterRegistry);
     }
 
     @Override
     public Mono<StreamFileData> get(ConsensusNode consensusNode, StreamFilename streamFilename) {
         var index = new AtomicInteger(0);
-        return Mono.fromSupplier(() -> getProvider(index))
+        var hedge = new AtomicReference<Hedge>();
+        var primary = Mono.fromSupplier(() -> getProviderHealth(index, hedge.get()))
                 .flatMap(p -> p.get(consensusNode, streamFilename))
-                .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
+                .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index, hedge.get()))));
+
+        if (!hedgeProperties.isEnabled() || providers.size() < 2) {
+            return primary;
+        }
+
+        // The primary request never fails over to the hedge's source. If that's the only source left, it waits for the
+        // hedge's response instead of sending the same request again.
+        var primaryOrHedge = primary.onErrorResume(e -> {
+            var current = hedge.get();
+            return current != null ? current.response() : Mono.error(e);
+        });
+        return Mono.defer(
+                () -> Mono.firstWithSignal(primaryOrHedge, hedge(consensusNode, streamFilename, index, hedge)));
     }
 
     @Override
@@ -73,18 +113,73 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
 
     // Get the next healthy provider
     private StreamFileProvider getProvider(AtomicInteger index) {
+        var providerHealth = getProviderHealth(index);
+        return providerHealth != null ? providerHealth.getProvider() : null;
+    }
+
+    private ProviderHealth getProviderHealth(AtomicInteger index) {
+        return getProviderHealth(index, null);
+    }
+
+    // Get the next healthy provider, skipping the one the hedge request went to
+    private ProviderHealth getProviderHealth(AtomicInteger index, Hedge hedge) {
         for (; index.get() < providers.size(); index.getAndIncrement()) {
             var provider = providers.get(index.get());
 
-            if (provider.isHealthy()) {
-                return provider.getProvider();
+            if (provider.isHealthy() && !isHedged(index.get(), hedge)) {
+                return provider;
             }
         }
 
         return null;
     }
 
-    private boolean shouldRetry(Retry.RetrySignal r, AtomicInteger index) {
+    private boolean isHedged(int index, Hedge hedge) {
+        return hedge != null && hedge.index() == index;
+    }
+
+    /*
+     * If the current source hasn't responded within its hedge delay, send the same request to the next healthy source.
+     * The hedge always goes past the source the original request is using or has already failed over to, and records
+     * its source so the original request skips it. A failed or empty hedge never completes so the outcome is always
+     * decided by the original request unless the hedge succeeds first. Whichever request signals first wins and the
+     * other is cancelled by Mono.firstWithSignal().
+     */
+    private Mono<StreamFileData> hedge(
+            ConsensusNode consensusNode,
+            StreamFilename streamFilename,
+            AtomicInteger index,
+            AtomicReference<Hedge> hedge) {
+        return Mono.defer(() -> {
+                    var current = providers.get(Math.min(index.get(), providers.size() - 1));
+                    return Mono.delay(current.getHedgeDelay());
+                })
+                .flatMap(t -> {
+                    var hedgeIndex = new AtomicInteger(index.get() + 1);
+                    var provider = getProviderHealth(hedgeIndex);
+
+                    if (provider == null) {
+                        return Mono.<StreamFileData>never();
+                    }
+
+                    log.debug(
+                            "Hedging request for {} from node {} to source {}",
+                            streamFilename,
+                            consensusNode,
+                            hedgeIndex.get());
+                    hedgeRequestsMetric.increment();
+                    var response = provider.get(consensusNode, streamFilename).cache();
+                    hedge.set(new Hedge(hedgeIndex.get(), response));
+                    return response.doOnNext(d -> hedgeWinsMetric.increment());
+                })
+                .onErrorResume(e -> {
+                    log.warn("Hedge request for {} failed: {}", streamFilename, e.getMessage());
+                    return Mono.never();
+                })
+                .switchIfEmpty(Mono.never());
+    }
+
+    private boolean shouldRetry(Retry.RetrySignal r, AtomicInteger index, Hedge hedge) {
         var exception = r.failure();
         log.warn("Attempt #{} failed: {}", r.totalRetries() + 1, exception.getMessage());
 
@@ -92,8 +187,13 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
             throw t;
         }
 
-        // Ensure we always keep at least one provider available
-        if (index.get() + 1 >= providers.size()) {
+        // Ensure we always keep at least one provider available. The hedge's source doesn't count since it's skipped.
+        int next = index.get() + 1;
+        if (isHedged(next, hedge)) {
+            next++;
+        }
+
+        if (next >= providers.size()) {
             throw Exceptions.propagate(exception);
         }
 
@@ -111,13 +211,50 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .orElse(false);
     }
 
+    private record Hedge(int index, Mono<StreamFileData> response) {}
+
     @Value
     private class ProviderHealth {
 
         private final StreamFileProvider provider;
         private final StreamSourceProperties sourceProperties;
+        private final Timer latencyMetric;
         private final AtomicLong readmitTime = new AtomicLong(0L); // Zero indicates healthy
 
+        Mono<StreamFileData> get(ConsensusNode consensusNode, StreamFilename streamFilename) {
+            return Mono.defer(() -> {
+                long start = System.nanoTime();
+                return provider.get(consensusNode, streamFilename)
+                        .doOnNext(d -> latencyMetric.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+            });
+        }
+
+        /**
+         * Gets the time to wait for this provider before hedging, which is the configured percentile of its recent
+         * latency bounded by the min and max delay. Falls back to the max delay until there's some latency history.
+         *
+         * @return the hedge delay
+         */
+        Duration getHedgeDelay() {
+            var minDelay = hedgeProperties.getMinDelay();
+            var maxDelay = hedgeProperties.getMaxDelay();
+            var snapshot = latencyMetric.takeSnapshot();
+
+            if (snapshot.count() == 0) {
+                return maxDelay;
+            }
+
+            for (var percentileValue : snapshot.percentileValues()) {
+                double value = percentileValue.value(TimeUnit.NANOSECONDS);
+                if (percentileValue.percentile() == hedgeProperties.getPercentile() && !Double.isNaN(value)) {
+                    var delay = Duration.ofNanos((long) value);
+                    return delay.compareTo(minDelay) < 0 ? minDelay : delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+                }
+            }
+
+            return maxDelay;
+        }
+
         /**
          * Determines if the provider is healthy. This has the side effect of marking an unhealthy provider as healthy
          * again if its readmit time has passed.
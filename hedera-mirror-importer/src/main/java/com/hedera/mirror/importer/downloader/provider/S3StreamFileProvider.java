@@ -26,9 +26,15 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.annotation.Nullable;
 import lombok.CustomLog;
 import lombok.Data;
@@ -53,12 +59,13 @@ public final class S3StreamFileProvider implements StreamFileProvider {
     private static final String TEMPLATE_ACCOUNT_ID_PREFIX = "%s/%s%s/";
     private static final String TEMPLATE_NODE_ID_PREFIX = "%s/%d/%d/%s/";
     private final CommonDownloaderProperties commonDownloaderProperties;
+    private final MeterRegistry meterRegistry;
     private final Map<PathKey, PathResult> paths = new ConcurrentHashMap<>();
     private final S3AsyncClient s3Client;
 
     public Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename) {
         var key = new PathKey(node, streamFilename.getStreamType());
-        var pathResult = paths.computeIfAbsent(key, k -> new PathResult());
+        var pathResult = paths.computeIfAbsent(key, PathResult::new);
         var prefix = getPrefix(key, pathResult.getPathType());
 
         if (streamFilename.getFileType() == SIDECAR) {
@@ -82,14 +89,31 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .doOnSuccess(s -> log.debug("Finished downloading {}", s3Key));
     }
 
+    /**
+     * Lists the signature files after the last filename. The signature files listed by a previous call that are still
+     * after the last filename are returned from memory and S3 is only listed after the last key listed for the node,
+     * so signature files that were listed but not verified yet aren't listed and downloaded again on every poll.
+     */
     @Override
     public Flux<StreamFileData> list(ConsensusNode node, StreamFilename lastFilename) {
         // Number of items we plan do download in a single batch times 2 for file + sig.
         int batchSize = commonDownloaderProperties.getBatchSize() * 2;
         var key = new PathKey(node, lastFilename.getStreamType());
-        var pathResult = paths.computeIfAbsent(key, k -> new PathResult());
+        var pathResult = paths.computeIfAbsent(key, PathResult::new);
         var prefix = getPrefix(key, pathResult.getPathType());
-        var startAfter = prefix + lastFilename.getFilenameAfter();
+        var cursor = pathResult.getCursor();
+        var startAfter = cursor.startAfter(prefix, lastFilename);
+        var pending = cursor.getPending();
+
+        if (!pending.isEmpty()) {
+            pathResult.getDuplicateMetric().increment(pending.size());
+            log.debug("Returning {} signatures already listed after {}", pending.size(), lastFilename);
+        }
+
+        // Stop listing ahead while a full batch of listed signatures is waiting to be verified
+        if (pending.size() >= commonDownloaderProperties.getBatchSize()) {
+            return Flux.fromIterable(pending);
+        }
 
         var listRequest = ListObjectsV2Request.builder()
                 .bucket(commonDownloaderProperties.getBucketName())
@@ -100,21 +124,28 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .requestPayer(RequestPayer.REQUESTER)
                 .build();
 
-        return Mono.fromFuture(s3Client.listObjectsV2(listRequest))
+        var listed = Mono.fromFuture(s3Client.listObjectsV2(listRequest))
                 .timeout(commonDownloaderProperties.getTimeout())
                 .doOnNext(l -> {
-                    pathResult.update(!l.contents().isEmpty());
+                    pathResult.update(!l.contents().isEmpty() || !pending.isEmpty());
+                    pathResult.getKeysMetric().increment(l.contents().size());
                     log.debug("Returned {} s3 objects", l.contents().size());
                 })
                 .flatMapIterable(ListObjectsV2Response::contents)
                 .map(this::toStreamFilename)
                 .filter(s -> s != EPOCH && s.getFileType() == SIGNATURE)
                 .flatMapSequential(streamFilename -> get(node, streamFilename))
-                .doOnSubscribe(s -> log.debug(
-                        "Searching for the next {} files after {}/{}",
-                        batchSize,
-                        commonDownloaderProperties.getBucketName(),
-                        startAfter))
+                .doOnNext(s -> cursor.add(prefix, s))
+                .doOnSubscribe(s -> {
+                    pathResult.getRequestMetric().increment();
+                    log.debug(
+                            "Searching for the next {} files after {}/{}",
+                            batchSize,
+                            commonDownloaderProperties.getBucketName(),
+                            startAfter);
+                });
+
+        return Flux.concat(Flux.fromIterable(pending), listed)
                 .switchIfEmpty(Flux.defer(() -> pathResult.fallback() ? list(node, lastFilename) : Flux.empty()));
     }
 
@@ -155,12 +186,38 @@ public final class S3StreamFileProvider implements StreamFileProvider {
     @Data
     private class PathResult {
 
+        private final ListingCursor cursor = new ListingCursor();
+
+        private final Counter duplicateMetric;
+
         @Nullable
         private volatile Instant expiration;
 
+        private final Counter keysMetric;
+
         private volatile PathType pathType = commonDownloaderProperties.getPathType();
 
-        private PathResult() {
+        private final Counter requestMetric;
+
+        private PathResult(PathKey key) {
+            var node = String.valueOf(key.node().getNodeId());
+            var type = key.type().toString();
+            duplicateMetric = Counter.builder("hedera.mirror.download.list.duplicates")
+                    .description("The number of signature files returned from memory instead of being listed again")
+                    .tag("node", node)
+                    .tag("type", type)
+                    .register(meterRegistry);
+            keysMetric = Counter.builder("hedera.mirror.download.list.keys")
+                    .description("The number of keys returned by list requests")
+                    .tag("node", node)
+                    .tag("type", type)
+                    .register(meterRegistry);
+            requestMetric = Counter.builder("hedera.mirror.download.list.requests")
+                    .description("The number of list requests sent to the cloud storage provider")
+                    .tag("node", node)
+                    .tag("type", type)
+                    .register(meterRegistry);
+
             if (commonDownloaderProperties.getPathType() == PathType.AUTO) {
                 this.expiration = Instant.now().plus(commonDownloaderProperties.getPathRefreshInterval());
                 this.pathType = PathType.ACCOUNT_ID;
@@ -199,4 +256,49 @@ public final class S3StreamFileProvider implements StreamFileProvider {
             return expiration != null && pathType == PathType.NODE_ID;
         }
     }
+
+    /**
+     * The last key listed under a node's prefix and the signature files listed since the last verified filename. Keys
+     * are compared as filenames since they share the same prefix.
+     */
+    private static class ListingCursor {
+
+        private final NavigableMap<String, StreamFileData> pending = new ConcurrentSkipListMap<>();
+
+        @Nullable
+        private volatile String lastKey;
+
+        @Nullable
+        private volatile String prefix;
+
+        void add(String prefix, StreamFileData streamFileData) {
+            var filename = streamFileData.getStreamFilename().getFilename();
+            pending.put(filename, streamFileData);
+            lastKey = prefix + filename;
+        }
+
+        List<StreamFileData> getPending() {
+            return new ArrayList<>(pending.values());
+        }
+
+        /**
+         * Discards the signature files up to the last filename and returns the key to list after. That's the last key
+         * listed if it's after the last filename and under the same prefix, otherwise the listing starts over from the
+         * last filename.
+         */
+        String startAfter(String prefix, StreamFilename lastFilename) {
+            var filenameAfter = lastFilename.getFilenameAfter();
+            pending.headMap(filenameAfter).clear();
+            var startAfter = prefix + filenameAfter;
+
+            if (!prefix.equals(this.prefix) || lastKey == null || lastKey.compareTo(startAfter) <= 0) {
+                pending.clear();
+                this.prefix = prefix;
+                lastKey = null;
+                return startAfter;
+            }
+
+            return lastKey;
+        }
+    }
 }
@@ -18,8 +18,10 @@ package com.hedera.mirror.importer.downloader.record;
 
 import static com.hedera.mirror.importer.util.Utility.RECOVERABLE_ERROR;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
+import com.google.common.collect.Multimap;
+import com.google.protobuf.Timestamp;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
@@ -32,6 +34,7 @@ import com.hedera.mirror.importer.downloader.Downloader;
 import com.hedera.mirror.importer.downloader.NodeSignatureVerifier;
 import com.hedera.mirror.importer.downloader.StreamFileNotifier;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
+import com.hedera.mirror.importer.exception.FileOperationException;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.record.sidecar.SidecarProperties;
@@ -41,10 +44,14 @@ import com.hedera.mirror.importer.reader.record.sidecar.SidecarFileReader;
 import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
@@ -53,6 +60,11 @@ import reactor.core.publisher.Mono;
 @Named
 public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
+    static final String SIDECAR_FALLBACK_METRIC = "hedera.mirror.download.sidecar.fallback";
+    static final String SIDECAR_LATENCY_METRIC = "hedera.mirror.download.sidecar.latency";
+
+    private final ConsensusNodeService consensusNodeService;
+    private final MeterRegistry meterRegistry;
     private final SidecarFileReader sidecarFileReader;
     private final SidecarProperties sidecarProperties;
 
@@ -79,6 +91,8 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                 streamFileNotifier,
                 streamFileProvider,
                 streamFileReader);
+        this.consensusNodeService = consensusNodeService;
+        this.meterRegistry = meterRegistry;
         this.sidecarFileReader = sidecarFileReader;
         this.sidecarProperties = sidecarProperties;
     }
@@ -113,48 +127,110 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
 
+        var nodes = getSidecarNodes(node);
         var records = Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
-                .flatMap(sidecar -> getSidecar(node, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+                .flatMap(sidecar -> getSidecar(nodes, sidecar, acceptedTypes))
+                .collect(ArrayListMultimap::<Timestamp, TransactionSidecarRecord>create, Multimap::putAll)
                 .block();
 
-        recordFile
-                .getItems()
-                .doOnNext(recordItem -> {
-                    var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-                    if (records.containsKey(timestamp)) {
-                        recordItem.setSidecarRecords(records.get(timestamp));
-                    }
-                })
-                .blockLast();
+        // Attach the sidecar records as the items are read instead of reading them here, so the parser's subscription
+        // is the only one that reads the record file's items
+        recordFile.setItems(recordFile.getItems().doOnNext(recordItem -> {
+            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
+            if (records.containsKey(timestamp)) {
+                recordItem.setSidecarRecords(records.get(timestamp));
+            }
+        }));
     }
 
-    private Mono<SidecarFile> getSidecar(ConsensusNode node, SidecarFile sidecar) {
+    // The node whose record file was verified is tried first, then every other node in case its copy is missing
+    private List<ConsensusNode> getSidecarNodes(ConsensusNode node) {
+        var nodes = new ArrayList<ConsensusNode>();
+        nodes.add(node);
+        consensusNodeService.getNodes().stream()
+                .filter(n -> n.getNodeId() != node.getNodeId())
+                .forEach(nodes::add);
+        return nodes;
+    }
+
+    private Mono<Multimap<Timestamp, TransactionSidecarRecord>> getSidecar(
+            List<ConsensusNode> nodes, SidecarFile sidecar, Set<Integer> acceptedTypes) {
         var sidecarFilename = new StreamFilename(sidecar.getName());
-        return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
-            sidecarFileReader.read(sidecar, streamFileData);
-
-            if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
-                throw new HashMismatchException(
-                        sidecar.getName(),
-                        sidecar.getHash(),
-                        sidecar.getActualHash(),
-                        sidecar.getHashAlgorithm().getName());
-            }
+        var errors = new ArrayList<Throwable>(1);
+
+        return Flux.fromIterable(nodes)
+                .concatMap(node -> getSidecar(node, sidecarFilename, sidecar, acceptedTypes)
+                        .onErrorResume(e -> {
+                            log.warn(
+                                    "Unable to get sidecar file {} from node {}: {}",
+                                    sidecar.getName(),
+                                    node,
+                                    e.getMessage());
+                            errors.add(e);
+                            fallback(node);
+                            return Mono.empty();
+                        }))
+                .next()
+                .switchIfEmpty(Mono.defer(() -> Mono.error(errors.isEmpty()
+                        ? new FileOperationException("No nodes available to get sidecar file " + sidecar.getName())
+                        : errors.get(0))));
+    }
 
-            if (!sidecarProperties.isPersistBytes()) {
-                sidecar.setBytes(null);
-            }
+    /*
+     * Decodes each transaction sidecar record into a per-timestamp index as the sidecar file is streamed. The index is
+     * only returned once the hash of the whole file is verified.
+     */
+    private Mono<Multimap<Timestamp, TransactionSidecarRecord>> getSidecar(
+            ConsensusNode node, StreamFilename sidecarFilename, SidecarFile sidecar, Set<Integer> acceptedTypes) {
+        var stopwatch = Stopwatch.createUnstarted();
+        return streamFileProvider
+                .get(node, sidecarFilename)
+                .doOnSubscribe(s -> stopwatch.start())
+                .map(streamFileData -> {
+                    var records = new ArrayList<TransactionSidecarRecord>();
+                    Multimap<Timestamp, TransactionSidecarRecord> index = ArrayListMultimap.create();
+                    sidecarFileReader.read(sidecar, streamFileData, sidecarRecord -> {
+                        records.add(sidecarRecord);
+                        if (acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(sidecarRecord))) {
+                            index.put(sidecarRecord.getConsensusTimestamp(), sidecarRecord);
+                        }
+                    });
+
+                    if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
+                        throw new HashMismatchException(
+                                sidecar.getName(),
+                                sidecar.getHash(),
+                                sidecar.getActualHash(),
+                                sidecar.getHashAlgorithm().getName());
+                    }
+
+                    if (!sidecarProperties.isPersistBytes()) {
+                        sidecar.setBytes(null);
+                    }
+
+                    sidecar.setRecords(records);
+                    return index;
+                })
+                .doOnEach(signal -> {
+                    if (signal.isOnNext() || signal.isOnError()) {
+                        Timer.builder(SIDECAR_LATENCY_METRIC)
+                                .description("The time it took to download and verify a sidecar file from a node")
+                                .tag("node", String.valueOf(node.getNodeId()))
+                                .tag("success", String.valueOf(signal.isOnNext()))
+                                .register(meterRegistry)
+                                .record(stopwatch.elapsed());
+                    }
+                });
+    }
 
-            return sidecar;
-        });
+    private void fallback(ConsensusNode node) {
+        Counter.builder(SIDECAR_FALLBACK_METRIC)
+                .description("The number of sidecar files that had to be retrieved from another node")
+                .tag("node", String.valueOf(node.getNodeId()))
+                .register(meterRegistry)
+                .increment();
     }
 
     private int getSidecarType(TransactionSidecarRecord transactionSidecarRecord) {
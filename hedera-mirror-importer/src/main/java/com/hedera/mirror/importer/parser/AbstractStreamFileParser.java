@@ -20,10 +20,13 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.StreamFile;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,6 +39,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
     protected final ParserProperties parserProperties;
     protected final StreamFileRepository<T, Long> streamFileRepository;
 
+    private final DistributionSummary parseBatchSizeMetric;
     private final Timer parseDurationMetricFailure;
     private final Timer parseDurationMetricSuccess;
     private final Timer parseLatencyMetric;
@@ -62,6 +66,11 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                         + "and the time at which the file was processed successfully")
                 .tag("type", parserProperties.getStreamType().toString())
                 .register(meterRegistry);
+
+        parseBatchSizeMetric = DistributionSummary.builder("hedera.mirror.parse.batch.size")
+                .description("The number of stream files committed in a single transaction")
+                .tag("type", parserProperties.getStreamType().toString())
+                .register(meterRegistry);
     }
 
     @Override
@@ -84,8 +93,8 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                         streamFile.getName(),
                         stopwatch);
                 success = true;
-                Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
-                parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+                parseBatchSizeMetric.record(1);
+                recordLatency(streamFile);
             } catch (Throwable e) {
                 log.error("Error parsing file {} after {}", streamFile.getName(), stopwatch, e);
                 throw e;
@@ -96,20 +105,93 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         }
     }
 
+    /**
+     * Parses consecutive stream files together so that the fixed cost of persisting a stream file is paid once for all
+     * of them. The stream files that were already parsed are skipped and the hash chain is verified against the
+     * previous stream file in the list instead of the database since they're not persisted until the end.
+     *
+     * @param streamFiles the consecutive stream files to parse
+     */
+    public void parse(List<T> streamFiles) {
+        if (streamFiles.size() == 1) {
+            parse(streamFiles.get(0));
+            return;
+        }
+
+        if (!parserProperties.isEnabled()) {
+            return;
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        boolean success = false;
+        var last = streamFileRepository.findLatest().orElse(null);
+        var parsable = new ArrayList<T>(streamFiles.size());
+
+        for (var streamFile : streamFiles) {
+            if (shouldParse(last, streamFile)) {
+                parsable.add(streamFile);
+                last = streamFile;
+            }
+        }
+
+        if (parsable.isEmpty()) {
+            return;
+        }
+
+        var first = parsable.get(0).getName();
+        var end = parsable.get(parsable.size() - 1).getName();
+
+        try {
+            doParse(parsable);
+
+            long count = parsable.stream().mapToLong(StreamFile::getCount).sum();
+            log.info(
+                    "Successfully processed {} items from {} files {} to {} in {}",
+                    count,
+                    parsable.size(),
+                    first,
+                    end,
+                    stopwatch);
+            success = true;
+            parseBatchSizeMetric.record(parsable.size());
+            parsable.forEach(this::recordLatency);
+        } catch (Throwable e) {
+            log.error("Error parsing files {} to {} after {}", first, end, stopwatch, e);
+            throw e;
+        } finally {
+            Timer timer = success ? parseDurationMetricSuccess : parseDurationMetricFailure;
+            timer.record(stopwatch.elapsed());
+        }
+    }
+
     protected abstract void doParse(T streamFile);
 
+    /**
+     * Parses multiple stream files in the same transaction. Parsers that support batching should override it to
+     * persist all the stream files at once.
+     */
+    protected void doParse(List<T> streamFiles) {
+        streamFiles.forEach(this::doParse);
+    }
+
+    private void recordLatency(T streamFile) {
+        Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
+        parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+    }
+
     private boolean shouldParse(T streamFile) {
         if (!parserProperties.isEnabled()) {
             return false;
         }
 
-        var last = streamFileRepository.findLatest();
+        return shouldParse(streamFileRepository.findLatest().orElse(null), streamFile);
+    }
 
-        if (last.isEmpty()) {
+    private boolean shouldParse(StreamFile<?> lastStreamFile, T streamFile) {
+        if (lastStreamFile == null) {
             return true;
         }
 
-        var lastStreamFile = last.get();
         var name = streamFile.getName();
 
         if (lastStreamFile.getConsensusEnd() >= streamFile.getConsensusStart()) {
@@ -23,7 +23,9 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 import lombok.Data;
 import lombok.Getter;
@@ -36,6 +38,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser")
 public class CommonParserProperties {
 
+    @NotNull
+    private Set<String> binaryCopyTables = new HashSet<>();
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
@@ -48,6 +53,9 @@ public class CommonParserProperties {
     @Min(1)
     private int tempTableBufferSize = 256; // Size in MB
 
+    @NotNull
+    private TempTableScope tempTableScope = TempTableScope.TRANSACTION;
+
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
@@ -69,6 +77,11 @@ public class CommonParserProperties {
         return include.stream().map(TransactionFilter::getFilter).reduce(a -> false, Predicate::or);
     }
 
+    public enum TempTableScope {
+        SESSION, // Create the upsert temp tables once per connection and clear them after each upsert
+        TRANSACTION, // Create the upsert temp tables in every transaction and drop them on commit
+    }
+
     @Data
     @Validated
     public static class TransactionFilter {
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser;
 
 import com.hedera.mirror.common.domain.StreamFile;
 import com.hedera.mirror.importer.exception.ImporterException;
+import java.util.List;
 
 public interface StreamFileListener<T extends StreamFile<?>> {
 
@@ -28,6 +29,16 @@ public interface StreamFileListener<T extends StreamFile<?>> {
 
     void onEnd(T streamFile) throws ImporterException;
 
+    /**
+     * Called when multiple stream files processed in the same transaction after a single {@link #onStart()} end.
+     * Listeners that buffer changes should override it to persist the changes of all the stream files at once.
+     */
+    default void onEnd(List<T> streamFiles) throws ImporterException {
+        for (var streamFile : streamFiles) {
+            onEnd(streamFile);
+        }
+    }
+
     /**
      * Called if an error is encountered during processing of stream file.
      */
@@ -29,6 +29,7 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.importer.converter.ByteArrayToHexSerializer;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
@@ -38,6 +39,7 @@ import java.util.Collection;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyIn;
 import org.postgresql.copy.PGCopyOutputStream;
@@ -54,6 +56,8 @@ public class BatchInserter implements BatchPersister {
     protected final String tableName;
     protected final Timer insertDurationMetric;
     private final String sql;
+    private final String binarySql;
+    private final BinaryCopyWriter binaryCopyWriter;
     private final ObjectWriter writer;
     private final CommonParserProperties properties;
 
@@ -83,12 +87,21 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+        var propertyNames = Lists.newArrayList(schema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
                 .distinct()
+                .toList();
+        String columnsCsv = propertyNames.stream()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
         sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        binarySql = String.format("COPY %s(%s) FROM STDIN WITH (FORMAT binary)", this.tableName, columnsCsv);
+
+        // Upsert temp tables are selected by the name of their final table
+        var copyTableName = StringUtils.removeEnd(this.tableName, UpsertQueryGenerator.TEMP_SUFFIX);
+        binaryCopyWriter = properties.getBinaryCopyTables().contains(copyTableName)
+                ? new BinaryCopyWriter(mapper, entityClass, propertyNames, this.tableName)
+                : null;
         insertDurationMetric = Timer.builder("hedera.mirror.importer.parse.insert")
                 .description("Time to insert transactions into table")
                 .tag("table", this.tableName)
@@ -116,16 +129,23 @@ public class BatchInserter implements BatchPersister {
     }
 
     protected void persistItems(Collection<?> items, Connection connection) throws SQLException, IOException {
+        // Column types must be resolved before the connection is busy with the copy
+        boolean binary = binaryCopyWriter != null && binaryCopyWriter.isSupported(connection);
+        String copySql = binary ? binarySql : sql;
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
-        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(copySql);
 
         if (log.isTraceEnabled()) {
             String csv = writer.writeValueAsString(items);
-            log.trace("Generated SQL: {}\n{}", sql, csv);
+            log.trace("Generated SQL: {}\n{}", copySql, csv);
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            if (binary) {
+                binaryCopyWriter.write(items, pgCopyOutputStream);
+            } else {
+                writer.writeValue(pgCopyOutputStream, items);
+            }
         } finally {
             if (copyIn.isActive()) {
                 copyIn.cancelCopy();
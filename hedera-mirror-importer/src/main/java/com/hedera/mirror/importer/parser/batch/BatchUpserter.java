@@ -16,8 +16,10 @@
 
 package com.hedera.mirror.importer.parser.batch;
 
+import com.google.common.base.Stopwatch;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.TempTableScope;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -25,25 +27,40 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.concurrent.TimeUnit;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
 import javax.sql.DataSource;
 import lombok.extern.log4j.Log4j2;
+import org.postgresql.PGConnection;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table
+ * Writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table. With the
+ * session temp table scope, the temp table is created once per physical connection and emptied after each upsert in
+ * the same round trip as the upsert, instead of being created and truncated before every copy.
  */
 @Log4j2
 public class BatchUpserter extends BatchInserter {
 
+    private final String createSessionTempTableSql;
     private final String createTempTableSql;
     private final String createTempIndexSql;
+    private final String deleteSql;
     private final String finalTableName;
     private final String upsertSql;
     private final String setTempBuffersSql;
     private final String truncateSql;
+    private final TempTableScope tempTableScope;
+    private final Timer stagingMetric;
     private final Timer upsertMetric;
 
+    // Physical connections that already have the session temp table
+    private final Set<PGConnection> sessionConnections = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
     public BatchUpserter(
             Class<?> entityClass,
             DataSource dataSource,
@@ -52,13 +69,22 @@ public class BatchUpserter extends BatchInserter {
             UpsertQueryGenerator upsertQueryGenerator) {
         super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
         createTempIndexSql = upsertQueryGenerator.getCreateTempIndexQuery();
+        createSessionTempTableSql = upsertQueryGenerator.getCreateSessionTempTableQuery();
         createTempTableSql = upsertQueryGenerator.getCreateTempTableQuery();
+        deleteSql = String.format("delete from %s", tableName);
         setTempBuffersSql = String.format("set temp_buffers = '%dMB'", properties.getTempTableBufferSize());
         truncateSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
+        tempTableScope = properties.getTempTableScope();
+        stagingMetric = Timer.builder("hedera.mirror.importer.parse.upsert")
+                .description("Time to stage and merge transaction information from temp to final table")
+                .tag("phase", "staging")
+                .tag("table", finalTableName)
+                .register(meterRegistry);
         upsertMetric = Timer.builder("hedera.mirror.importer.parse.upsert")
-                .description("Time to insert transaction information from temp to final table")
+                .description("Time to stage and merge transaction information from temp to final table")
+                .tag("phase", "merge")
                 .tag("table", finalTableName)
                 .register(meterRegistry);
     }
@@ -70,15 +96,24 @@ public class BatchUpserter extends BatchInserter {
         }
 
         try {
+            var stopwatch = Stopwatch.createStarted();
+            boolean session = tempTableScope == TempTableScope.SESSION;
+
             // create temp table to copy into
-            createTempTable(connection);
+            if (session) {
+                createSessionTempTable(connection);
+            } else {
+                createTempTable(connection);
+            }
 
             // copy items to temp table
             super.persistItems(items, connection);
+            stagingMetric.record(stopwatch.elapsed());
 
             // Upsert items from the temporary table to the final table
-            upsert(connection);
+            upsert(connection, session);
         } catch (Exception e) {
+            evictSessionConnection(connection);
             throw new ParserException(
                     String.format("Error copying %d items to table %s", items.size(), finalTableName), e);
         }
@@ -106,14 +141,66 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Created temp table {}", tableName);
     }
 
-    private void upsert(Connection connection) throws SQLException {
-        var startTime = System.nanoTime();
+    private void createSessionTempTable(Connection connection) throws SQLException {
+        var pgConnection = connection.unwrap(PGConnection.class);
+        if (sessionConnections.contains(pgConnection)) {
+            return;
+        }
+
+        try (var statement = connection.createStatement()) {
+            statement.addBatch(setTempBuffersSql);
+            statement.addBatch(createSessionTempTableSql);
+            statement.addBatch(createTempIndexSql);
+            statement.executeBatch();
+        }
+
+        sessionConnections.add(pgConnection);
+
+        // The temp table creation is undone if the transaction rolls back
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        sessionConnections.remove(pgConnection);
+                    }
+                }
+            });
+        }
+
+        log.trace("Created session temp table {}", tableName);
+    }
+
+    // Recreate the session temp table on the next attempt in case a failure rolled back its creation
+    private void evictSessionConnection(Connection connection) {
+        try {
+            sessionConnections.remove(connection.unwrap(PGConnection.class));
+        } catch (SQLException e) {
+            log.warn("Unable to unwrap connection for table {}", tableName, e);
+        }
+    }
+
+    private void upsert(Connection connection, boolean session) throws SQLException {
+        var stopwatch = Stopwatch.createStarted();
+
+        try {
+            int count;
+            if (session) {
+                // Empty the temp table in the same round trip so it's ready for the next batch in this transaction
+                try (var statement = connection.createStatement()) {
+                    statement.addBatch(upsertSql);
+                    statement.addBatch(deleteSql);
+                    count = statement.executeBatch()[0];
+                }
+            } else {
+                try (PreparedStatement preparedStatement = connection.prepareStatement(upsertSql)) {
+                    count = preparedStatement.executeUpdate();
+                }
+            }
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(upsertSql)) {
-            int count = preparedStatement.executeUpdate();
             log.debug("Inserted {} rows from {} table to {} table", count, tableName, finalTableName);
         } finally {
-            upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            upsertMetric.record(stopwatch.elapsed());
         }
     }
 }
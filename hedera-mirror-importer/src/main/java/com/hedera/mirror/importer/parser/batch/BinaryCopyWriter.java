@@ -0,0 +1,382 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes domain objects to a PostgreSQL COPY stream in binary format. The columns and their order are the same as the
+ * Jackson CSV schema used by {@link BatchInserter}, while the wire encoding of each column is chosen from its
+ * PostgreSQL type. Values are written directly to the stream, so byte arrays, numbers and ranges are never converted
+ * to text. Text and enum columns are rendered by the same serializers the CSV writer uses, and fail if the property
+ * doesn't serialize to a scalar.
+ */
+@Log4j2
+class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, // signature
+        0, 0, 0, 0, // flags
+        0, 0, 0, 0 // header extension length
+    };
+
+    private static final String COLUMN_TYPE_SQL =
+            """
+            select a.attname, t.typname, t.typtype
+            from pg_attribute a
+            join pg_type t on t.oid = a.atttypid
+            where a.attrelid = ?::regclass and a.attnum > 0 and not a.attisdropped
+            """;
+
+    // Range flags from rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private final List<String> columnNames;
+    private final Map<Enum<?>, Object> enumValues = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper;
+    private final Map<String, BeanPropertyWriter> properties = new HashMap<>();
+    private final String tableName;
+    private volatile List<ColumnEncoder> encoders;
+    private volatile boolean supported = true;
+
+    @SneakyThrows
+    BinaryCopyWriter(ObjectMapper mapper, Class<?> entityClass, List<String> columnNames, String tableName) {
+        this.columnNames = columnNames;
+        this.mapper = mapper;
+        this.tableName = tableName;
+        mapper.getSerializerProviderInstance()
+                .findValueSerializer(entityClass)
+                .properties()
+                .forEachRemaining(p -> {
+                    if (p instanceof BeanPropertyWriter beanPropertyWriter) {
+                        properties.put(p.getName(), beanPropertyWriter);
+                    }
+                });
+    }
+
+    /**
+     * Resolves the PostgreSQL type of each column the first time it's called for the table. Must be called before the
+     * COPY is started on the connection.
+     *
+     * @param connection the connection the COPY will run on
+     * @return whether every column of the table can be encoded in binary format
+     */
+    boolean isSupported(Connection connection) throws SQLException {
+        if (encoders == null && supported) {
+            synchronized (this) {
+                if (encoders == null && supported) {
+                    encoders = createEncoders(connection);
+                    supported = encoders != null;
+                }
+            }
+        }
+
+        return supported;
+    }
+
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        var columnEncoders = encoders;
+        var provider = mapper.getSerializerProviderInstance();
+        out.write(HEADER);
+
+        for (var item : items) {
+            out.writeShort(columnEncoders.size());
+            for (var encoder : columnEncoders) {
+                encoder.write(item, out, provider);
+            }
+        }
+
+        out.writeShort(-1);
+        out.flush();
+    }
+
+    private List<ColumnEncoder> createEncoders(Connection connection) throws SQLException {
+        var columnTypes = new HashMap<String, ValueEncoder>();
+
+        try (var statement = connection.prepareStatement(COLUMN_TYPE_SQL)) {
+            statement.setString(1, tableName);
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    boolean isEnum = "e".equals(resultSet.getString(3));
+                    var valueEncoder = isEnum ? ValueEncoder.TEXT : ValueEncoder.of(resultSet.getString(2));
+                    if (valueEncoder != null) {
+                        columnTypes.put(resultSet.getString(1), valueEncoder);
+                    }
+                }
+            }
+        }
+
+        var columnEncoders = new ArrayList<ColumnEncoder>(columnNames.size());
+        for (var name : columnNames) {
+            var column = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name);
+            var property = properties.get(name);
+            var valueEncoder = columnTypes.get(column);
+
+            if (property == null || valueEncoder == null) {
+                log.warn("Unable to use binary copy for table {} due to unsupported column {}", tableName, column);
+                return null;
+            }
+
+            columnEncoders.add(new ColumnEncoder(property, valueEncoder));
+        }
+
+        log.info("Using binary copy for table {}", tableName);
+        return columnEncoders;
+    }
+
+    /**
+     * Converts a property value to the value Jackson would have written to the CSV, without the intermediate string.
+     */
+    private Object normalize(Object value) {
+        if (value instanceof EntityId entityId) {
+            return EntityId.isEmpty(entityId) ? null : entityId.getId();
+        } else if (value instanceof Enum<?> enumValue) {
+            // Honors @JsonValue so enums persisted by ordinal or id are written the same as in the CSV
+            return enumValues.computeIfAbsent(enumValue, e -> mapper.convertValue(e, Object.class));
+        }
+
+        return value;
+    }
+
+    private class ColumnEncoder {
+
+        private final BeanPropertyWriter property;
+        private final ValueEncoder valueEncoder;
+
+        private ColumnEncoder(BeanPropertyWriter property, ValueEncoder valueEncoder) {
+            this.property = property;
+            this.valueEncoder = valueEncoder;
+        }
+
+        private void write(Object item, DataOutputStream out, SerializerProvider provider) throws IOException {
+            Object value;
+            try {
+                value = valueEncoder == ValueEncoder.TEXT
+                        ? serializeText(item, provider)
+                        : normalize(property.get(item));
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Unable to get value of " + property.getName(), e);
+            }
+
+            if (value == null) {
+                out.writeInt(-1);
+            } else {
+                valueEncoder.write(value, out);
+            }
+        }
+
+        /**
+         * Serializes the property with its CSV serializer and returns the resulting scalar as text, so custom
+         * serializers and @JsonValue are honored the same as in the CSV.
+         */
+        private String serializeText(Object item, SerializerProvider provider) throws Exception {
+            var buffer = new TokenBuffer(mapper, false);
+            property.serializeAsElement(item, buffer, provider);
+
+            try (var parser = buffer.asParser()) {
+                var token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    return null;
+                } else if (token != null && token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    return parser.getText();
+                }
+
+                throw new IOException(String.format(
+                        "Unable to encode %s of table %s as text from %s", property.getName(), tableName, token));
+            }
+        }
+    }
+
+    private enum ValueEncoder {
+        BOOL {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                out.writeInt(1);
+                out.writeBoolean((Boolean) value);
+            }
+        },
+        BYTEA {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                var bytes = (byte[]) value;
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        },
+        INT2 {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                out.writeInt(Short.BYTES);
+                out.writeShort(((Number) value).shortValue());
+            }
+        },
+        INT4 {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                out.writeInt(Integer.BYTES);
+                out.writeInt(((Number) value).intValue());
+            }
+        },
+        INT8 {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                out.writeInt(Long.BYTES);
+                out.writeLong(((Number) value).longValue());
+            }
+        },
+        INT2_ARRAY {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                writeArray((List<?>) value, INT2, 21, Short.BYTES, out);
+            }
+        },
+        INT4_ARRAY {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                writeArray((List<?>) value, INT4, 23, Integer.BYTES, out);
+            }
+        },
+        INT8_ARRAY {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                writeArray((List<?>) value, INT8, 20, Long.BYTES, out);
+            }
+        },
+        INT8RANGE {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                var range = (Range<?>) value;
+                if (range.isEmpty()) {
+                    out.writeInt(1);
+                    out.writeByte(RANGE_EMPTY);
+                    return;
+                }
+
+                int flags = 0;
+                int length = 1;
+                if (range.hasLowerBound()) {
+                    flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+                    length += Integer.BYTES + Long.BYTES;
+                } else {
+                    flags |= RANGE_LB_INF;
+                }
+
+                if (range.hasUpperBound()) {
+                    flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+                    length += Integer.BYTES + Long.BYTES;
+                } else {
+                    flags |= RANGE_UB_INF;
+                }
+
+                out.writeInt(length);
+                out.writeByte(flags);
+                if (range.hasLowerBound()) {
+                    INT8.write(range.lowerEndpoint(), out);
+                }
+                if (range.hasUpperBound()) {
+                    INT8.write(range.upperEndpoint(), out);
+                }
+            }
+        },
+        TEXT {
+            @Override
+            void write(Object value, DataOutputStream out) throws IOException {
+                var bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        };
+
+        static ValueEncoder of(String pgType) {
+            return switch (pgType) {
+                case "bool" -> BOOL;
+                case "bytea" -> BYTEA;
+                case "int2" -> INT2;
+                case "int4" -> INT4;
+                case "int8" -> INT8;
+                case "_int2" -> INT2_ARRAY;
+                case "_int4" -> INT4_ARRAY;
+                case "_int8" -> INT8_ARRAY;
+                case "int8range" -> INT8RANGE;
+                case "bpchar", "text", "varchar" -> TEXT;
+                default -> null;
+            };
+        }
+
+        abstract void write(Object value, DataOutputStream out) throws IOException;
+
+        private static void writeArray(
+                List<?> values, ValueEncoder elementEncoder, int elementOid, int elementSize, DataOutputStream out)
+                throws IOException {
+            int nulls = 0;
+            for (var element : values) {
+                nulls += element == null ? 1 : 0;
+            }
+
+            int length = 3 * Integer.BYTES;
+            if (!values.isEmpty()) {
+                length += 2 * Integer.BYTES + values.size() * Integer.BYTES + (values.size() - nulls) * elementSize;
+            }
+
+            out.writeInt(length);
+            out.writeInt(values.isEmpty() ? 0 : 1); // dimensions
+            out.writeInt(nulls > 0 ? 1 : 0); // has nulls
+            out.writeInt(elementOid);
+
+            if (!values.isEmpty()) {
+                out.writeInt(values.size());
+                out.writeInt(1); // lower bound
+                for (var element : values) {
+                    if (element == null) {
+                        out.writeInt(-1);
+                    } else {
+                        elementEncoder.write(element, out);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
@@ -36,8 +37,11 @@ import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import org.apache.logging.log4j.Level;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -48,9 +52,11 @@ import reactor.core.publisher.Flux;
 public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
     private final AtomicReference<RecordFile> last;
+    private final EntityIdService entityIdService;
     private final RecordItemListener recordItemListener;
     private final RecordStreamFileListener recordStreamFileListener;
     private final MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
+    private final RecordParserProperties recordParserProperties;
 
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
@@ -64,12 +70,15 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             StreamFileRepository<RecordFile, Long> streamFileRepository,
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
-            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor) {
+            MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor,
+            EntityIdService entityIdService) {
         super(meterRegistry, parserProperties, streamFileRepository);
+        this.entityIdService = entityIdService;
         this.last = new AtomicReference<>();
         this.recordItemListener = recordItemListener;
         this.recordStreamFileListener = recordStreamFileListener;
         this.mirrorDateRangePropertiesProcessor = mirrorDateRangePropertiesProcessor;
+        this.recordParserProperties = parserProperties;
 
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
@@ -118,37 +127,98 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         super.parse(recordFile);
     }
 
+    /**
+     * Parses consecutive record files queued during catch-up in a single transaction with a single flush
+     *
+     * @param recordFiles containing the consecutive files to be processed
+     */
+    @Override
+    @Leader
+    @Retryable(
+            backoff =
+                    @Backoff(
+                            delayExpression = "#{@recordParserProperties.getRetry().getMinBackoff().toMillis()}",
+                            maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
+                            multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
+            retryFor = Throwable.class,
+            noRetryFor = OutOfMemoryError.class,
+            maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
+    @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
+    public void parse(List<RecordFile> recordFiles) {
+        super.parse(recordFiles);
+    }
+
     @Override
     protected void doParse(RecordFile recordFile) {
         DateRangeFilter dateRangeFilter =
                 mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType());
 
         try {
-            Flux<RecordItem> recordItems = recordFile.getItems();
+            recordStreamFileListener.onStart();
+            processItems(recordFile, dateRangeFilter);
+            recordStreamFileListener.onEnd(recordFile);
+        } catch (Exception ex) {
+            recordStreamFileListener.onError();
+            throw ex;
+        }
+    }
 
-            if (log.getLevel().isInRange(Level.DEBUG, Level.TRACE)) {
-                recordItems = recordItems.doOnNext(this::logItem);
-            }
+    @Override
+    protected void doParse(List<RecordFile> recordFiles) {
+        DateRangeFilter dateRangeFilter =
+                mirrorDateRangePropertiesProcessor.getDateRangeFilter(parserProperties.getStreamType());
+        var pending = new ArrayList<RecordFile>(recordFiles.size());
 
+        try {
             recordStreamFileListener.onStart();
 
-            long count = recordItems
-                    .doOnNext(recordFile::processItem)
-                    .filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()))
-                    .doOnNext(recordItemListener::onItem)
-                    .doOnNext(this::recordMetrics)
-                    .count()
-                    .block();
+            for (var recordFile : recordFiles) {
+                // Flush the v5 files before the first v6 file since updateIndex only corrects persisted files
+                if (!pending.isEmpty() && isFirstV6(pending.get(pending.size() - 1), recordFile)) {
+                    recordStreamFileListener.onEnd(pending);
+                    recordStreamFileListener.onStart();
+                    pending = new ArrayList<>();
+                }
 
-            recordFile.finishLoad(count);
-            updateIndex(recordFile);
-            recordStreamFileListener.onEnd(recordFile);
+                processItems(recordFile, dateRangeFilter);
+                pending.add(recordFile);
+            }
+
+            recordStreamFileListener.onEnd(pending);
         } catch (Exception ex) {
             recordStreamFileListener.onError();
             throw ex;
         }
     }
 
+    private void processItems(RecordFile recordFile, DateRangeFilter dateRangeFilter) {
+        Flux<RecordItem> recordItems = recordFile.getItems();
+
+        if (log.getLevel().isInRange(Level.DEBUG, Level.TRACE)) {
+            recordItems = recordItems.doOnNext(this::logItem);
+        }
+
+        // Resolve the aliases used by each batch of items in bulk instead of with a query per transaction. Batching
+        // keeps the items flux to a single subscription, so a file's items are only read once and never all retained.
+        if (recordParserProperties.isPrefetchAliases()) {
+            recordItems = recordItems
+                    .buffer(recordParserProperties.getPrefetchAliasesBatchSize())
+                    .doOnNext(entityIdService::warm)
+                    .flatMapIterable(Function.identity());
+        }
+
+        long count = recordItems
+                .doOnNext(recordFile::processItem)
+                .filter(r -> dateRangeFilter.filter(r.getConsensusTimestamp()))
+                .doOnNext(recordItemListener::onItem)
+                .doOnNext(this::recordMetrics)
+                .count()
+                .block();
+
+        recordFile.finishLoad(count);
+        updateIndex(recordFile);
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace(
@@ -163,7 +233,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private void recordMetrics(RecordItem recordItem) {
         sizeMetrics
                 .getOrDefault(recordItem.getTransactionType(), unknownSizeMetric)
-                .record(recordItem.getTransactionBytes().length);
+                .record(recordItem.getTransactionSize());
 
         Instant consensusTimestamp =
                 Utility.convertToInstant(recordItem.getTransactionRecord().getConsensusTimestamp());
@@ -182,7 +252,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             lastRecordFile = recordFileRepository.findLatest().orElse(null);
         }
 
-        if (lastRecordFile != null && lastRecordFile.getVersion() < VERSION && recordFile.getVersion() >= VERSION) {
+        if (lastRecordFile != null && isFirstV6(lastRecordFile, recordFile)) {
             long offset = recordFile.getIndex() - lastRecordFile.getIndex() - 1;
 
             if (offset != 0) {
@@ -194,4 +264,8 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
         last.compareAndSet(lastInMemory, recordFile);
     }
+
+    private boolean isFirstV6(RecordFile previous, RecordFile recordFile) {
+        return previous.getVersion() < VERSION && recordFile.getVersion() >= VERSION;
+    }
 }
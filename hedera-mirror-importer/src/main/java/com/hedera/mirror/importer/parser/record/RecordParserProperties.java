@@ -18,7 +18,11 @@ package com.hedera.mirror.importer.parser.record;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.parser.AbstractParserProperties;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -29,8 +33,36 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @NotNull
+    private BatchProperties batch = new BatchProperties();
+
+    private boolean prefetchAliases = true;
+
+    @Min(1)
+    private int prefetchAliasesBatchSize = 1000;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
     }
+
+    @Data
+    @Validated
+    public static class BatchProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private long maxItems = 250_000;
+
+        @Min(1)
+        private int maxSize = 256; // Size in MB
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxSpan = Duration.ofMinutes(1L);
+
+        @NotNull
+        private Duration realTimeThreshold = Duration.ofSeconds(30L);
+    }
 }
@@ -45,6 +45,13 @@ public class CompositeRecordStreamFileListener implements RecordStreamFileListen
         }
     }
 
+    @Override
+    public void onEnd(List<RecordFile> streamFiles) throws ImporterException {
+        for (var listener : listeners) {
+            listener.onEnd(streamFiles);
+        }
+    }
+
     @Override
     public void onError() {
         onEach(StreamFileListener::onError);
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import java.util.Arrays;
+
+/**
+ * Accumulates the net balance change per entity id in an open addressing map of primitive longs, so tracking the
+ * balance of a crypto transfer doesn't allocate. Id 0 is used to mark an empty slot, which is fine since it's the empty
+ * entity id and is never tracked. The arrays are kept when cleared so they're reused by the next record file, unless
+ * they grew well past what the record file needed. Not thread-safe.
+ */
+final class BalanceAccumulator {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    private long[] amounts;
+    private long[] ids;
+    private int mask;
+    private int size;
+
+    BalanceAccumulator() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    void add(long id, long amount) {
+        if (id == 0) {
+            return;
+        }
+
+        int index = indexOf(id);
+        amounts[index] += amount;
+
+        if (ids[index] == 0) {
+            ids[index] = id;
+            if (++size > (ids.length >> 1)) {
+                rehash();
+            }
+        }
+    }
+
+    /**
+     * Returns the balance change accumulated so far for the id and resets it to zero. The slot is kept, so this doesn't
+     * disturb the probe sequence of other ids.
+     */
+    long take(long id) {
+        if (id == 0) {
+            return 0L;
+        }
+
+        int index = indexOf(id);
+        long amount = amounts[index];
+        amounts[index] = 0L;
+        return amount;
+    }
+
+    void clear() {
+        // Arrays grown by an unusually large record file are released instead of zero filled for every later one
+        if (ids.length > DEFAULT_CAPACITY && size < (ids.length >> 3)) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (size > 0) {
+            Arrays.fill(ids, 0L);
+            Arrays.fill(amounts, 0L);
+        }
+
+        size = 0;
+    }
+
+    void forEach(BalanceConsumer consumer) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != 0) {
+                consumer.accept(ids[i], amounts[i]);
+            }
+        }
+    }
+
+    int capacity() {
+        return ids.length;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        amounts = new long[capacity];
+        ids = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    // Returns the slot containing the id or the empty slot where it would be inserted
+    private int indexOf(long id) {
+        int index = LongObjectHashMap.hash(id) & mask;
+        while (ids[index] != 0 && ids[index] != id) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        var oldAmounts = amounts;
+        var oldIds = ids;
+        allocate(oldIds.length << 1);
+
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != 0) {
+                int index = indexOf(oldIds[i]);
+                ids[index] = oldIds[i];
+                amounts[index] = oldAmounts[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface BalanceConsumer {
+        void accept(long id, long amount);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.BinaryOperator;
+
+/**
+ * An open addressing hash map keyed by a primitive long, so looking up and merging the in-memory state of a record file
+ * doesn't box the entity id. A slot is empty when its value is null, so null values aren't supported. The arrays are
+ * kept when cleared so they're reused by the next record file. Not thread-safe.
+ */
+final class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    LongObjectHashMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int index = indexOf(key);
+        return (V) values[index];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Same semantics as {@link java.util.Map#merge(Object, Object, java.util.function.BiFunction)} except the
+     * remapping function must not return null.
+     */
+    @SuppressWarnings("unchecked")
+    V merge(long key, V value, BinaryOperator<V> remapping) {
+        int index = indexOf(key);
+        var previous = (V) values[index];
+        if (previous != null) {
+            var merged = remapping.apply(previous, value);
+            values[index] = merged;
+            return merged;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > (values.length >> 1)) {
+            rehash();
+        }
+
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    Collection<V> values() {
+        var result = new ArrayList<V>(size);
+        for (var value : values) {
+            if (value != null) {
+                result.add((V) value);
+            }
+        }
+        return result;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    // Returns the slot containing the key or the empty slot where it would be inserted
+    private int indexOf(long key) {
+        int index = hash(key) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldValues.length << 1);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists independent collections of domain objects concurrently, each worker thread using its own connection.
+ * Collections persisted this way must not be read later in the caller's transaction since their rows are not visible
+ * to it.
+ * <p>
+ * The worker transactions commit atomically with the caller's transaction using two-phase commit. They are prepared
+ * before the caller's transaction commits, so a worker that can't commit rolls back the caller's transaction, and are
+ * committed or rolled back with the same outcome after it completes. The global transaction identifier of a prepared
+ * transaction contains the caller's transaction ID, so prepared transactions left behind by a crash or a failed
+ * commit are resolved with the outcome of the caller's transaction the next time the persister is used. This requires
+ * max_prepared_transactions to be at least the number of worker threads.
+ */
+@ConditionOnEntityRecordParser
+@Log4j2
+@Named
+public class ParallelBatchPersister implements TransactionSynchronization {
+
+    static final String GID_PREFIX = "parallel_batch_persister_";
+
+    private final BatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, String> preparedTransactions = new ConcurrentHashMap<>();
+    private final Scheduler scheduler;
+    private final SqlProperties sqlProperties;
+    private final Map<String, Connection> threadConnections = new ConcurrentHashMap<>();
+    private final Collection<TransactionSynchronization> threadSynchronizations = new ConcurrentLinkedQueue<>();
+    private long parentTransactionId;
+    private boolean recoveryNeeded = true;
+    private boolean registered;
+
+    public ParallelBatchPersister(BatchPersister batchPersister, DataSource dataSource, SqlProperties sqlProperties) {
+        this.batchPersister = batchPersister;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.scheduler = Schedulers.newParallel("parallel_batch_persister", sqlProperties.getParallelFlushThreads());
+        this.sqlProperties = sqlProperties;
+    }
+
+    /**
+     * Persists each of the independent collections on a worker thread while running the dependent task on the calling
+     * thread. Returns once both have finished, rethrowing the first failure.
+     *
+     * @param independentItems collections with no ordering dependency on each other or on the dependent task
+     * @param dependentTask    persist operations that must run in order in the caller's transaction
+     */
+    public void persist(Collection<? extends Collection<?>> independentItems, Runnable dependentTask) {
+        var nonEmptyItems = independentItems.stream().filter(items -> !items.isEmpty()).toList();
+        if (nonEmptyItems.isEmpty()) {
+            dependentTask.run();
+            return;
+        }
+
+        if (!registered) {
+            if (recoveryNeeded) {
+                recover();
+            }
+
+            // This will already be registered when there are multiple flushes in the same parent transaction
+            parentTransactionId = jdbcTemplate.queryForObject("select txid_current()", Long.class);
+            TransactionSynchronizationManager.registerSynchronization(this);
+            registered = true;
+        }
+
+        var future = Flux.fromIterable(nonEmptyItems)
+                .flatMap(
+                        items -> Mono.fromRunnable(() -> persistItems(items)).subscribeOn(scheduler),
+                        sqlProperties.getParallelFlushThreads())
+                .then()
+                .toFuture();
+
+        RuntimeException failure = null;
+        try {
+            dependentTask.run();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        // Always wait for the workers so their connections are idle before the parent transaction completes
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (failure == null) {
+                failure = e.getCause() instanceof ParserException parserException
+                        ? parserException
+                        : new ParserException(e.getCause());
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Prepares the worker transactions for commit. A failure rolls back the caller's transaction.
+     */
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        int index = 0;
+        for (var entry : threadConnections.entrySet()) {
+            var gid = GID_PREFIX + parentTransactionId + "_" + index++;
+            var connection = entry.getValue();
+            try (var statement = connection.createStatement()) {
+                statement.execute("prepare transaction '" + gid + "'");
+                preparedTransactions.put(entry.getKey(), gid);
+                // COMMIT PREPARED and ROLLBACK PREPARED can't run inside a transaction block
+                connection.setAutoCommit(true);
+            } catch (SQLException e) {
+                throw new ParserException("Error preparing transaction " + gid + " for " + entry.getKey(), e);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        for (var entry : threadConnections.entrySet()) {
+            var gid = preparedTransactions.get(entry.getKey());
+            try (Connection connection = entry.getValue()) {
+                if (gid == null) {
+                    connection.rollback();
+                } else if (status == STATUS_UNKNOWN) {
+                    // Leave the prepared transaction to the recovery, which knows whether the parent committed
+                    recoveryNeeded = true;
+                    log.warn("Unknown outcome of the parent of prepared transaction {}", gid);
+                } else {
+                    var command = status == STATUS_COMMITTED ? "commit prepared" : "rollback prepared";
+                    try (var statement = connection.createStatement()) {
+                        statement.execute(command + " '" + gid + "'");
+                    }
+                }
+            } catch (Exception e) {
+                // The prepared transaction survives in the database until it's resolved by the next recovery
+                recoveryNeeded = true;
+                log.error("Error completing transaction {} with status {} for {}", gid, status, entry.getKey(), e);
+            }
+        }
+
+        // Notify synchronizations registered by the persisters on the worker threads of the outcome
+        for (var synchronization : threadSynchronizations) {
+            try {
+                synchronization.afterCompletion(status);
+            } catch (Exception e) {
+                log.error("Error completing synchronization with status {}", status, e);
+            }
+        }
+
+        log.debug("Completed {} parallel flush connections with status {}", threadConnections.size(), status);
+        preparedTransactions.clear();
+        threadConnections.clear();
+        threadSynchronizations.clear();
+        registered = false;
+    }
+
+    /**
+     * Resolves the prepared worker transactions left behind by a crash or a failed commit with the outcome of the
+     * caller's transaction they belonged to.
+     */
+    void recover() {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            List<String> gids = new ArrayList<>();
+            try (var statement = connection.prepareStatement(
+                    "select gid from pg_prepared_xacts where database = current_database() and starts_with(gid, ?)")) {
+                statement.setString(1, GID_PREFIX);
+                try (var resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        gids.add(resultSet.getString(1));
+                    }
+                }
+            }
+
+            boolean resolved = true;
+            for (var gid : gids) {
+                resolved &= resolve(connection, gid);
+            }
+
+            recoveryNeeded = !resolved;
+        } catch (SQLException e) {
+            log.error("Error recovering prepared transactions", e);
+        }
+    }
+
+    private boolean resolve(Connection connection, String gid) throws SQLException {
+        var parentId = Long.parseLong(StringUtils.substringBetween(gid, GID_PREFIX, "_"));
+        String status;
+        try (var statement = connection.prepareStatement("select txid_status(?)")) {
+            statement.setLong(1, parentId);
+            try (var resultSet = statement.executeQuery()) {
+                status = resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+
+        if (status == null) {
+            log.error("Unknown status of transaction {}, prepared transaction {} requires remediation", parentId, gid);
+            return false;
+        } else if ("in progress".equals(status)) {
+            return false;
+        }
+
+        var command = "committed".equals(status) ? "commit prepared" : "rollback prepared";
+        try (var statement = connection.createStatement()) {
+            statement.execute(command + " '" + gid + "'");
+        }
+
+        log.warn("Recovered prepared transaction {} of transaction {} with status {}", gid, parentId, status);
+        return true;
+    }
+
+    private void persistItems(Collection<?> items) {
+        threadConnections.computeIfAbsent(Thread.currentThread().getName(), k -> setupThreadTransaction());
+        try {
+            batchPersister.persist(items);
+        } finally {
+            threadSynchronizations.addAll(TransactionSynchronizationManager.getSynchronizations());
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+        }
+    }
+
+    @SneakyThrows
+    private Connection setupThreadTransaction() {
+        // Clean thread from previous run
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+
+        // initialize transaction for thread
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Subsequent calls to get connection on this thread will use the same connection
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+}
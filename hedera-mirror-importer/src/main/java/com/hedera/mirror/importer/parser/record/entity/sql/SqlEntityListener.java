@@ -77,6 +77,7 @@ import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
@@ -96,6 +97,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final EntityProperties entityProperties;
     private final ApplicationEventPublisher eventPublisher;
     private final NftRepository nftRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
     private final SqlProperties sqlProperties;
@@ -131,14 +133,15 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private final Collection<TransactionSignature> transactionSignatures;
 
     // maps of upgradable domains
+    private final BalanceAccumulator balanceAccumulator;
     private final Map<ContractState.Id, ContractState> contractStates;
     private final Map<AbstractCryptoAllowance.Id, CryptoAllowance> cryptoAllowanceState;
-    private final Map<Long, Entity> entityState;
+    private final LongObjectHashMap<Entity> entityState;
     private final Map<NftId, Nft> nfts;
     private final Map<AbstractNftAllowance.Id, NftAllowance> nftAllowanceState;
     private final Map<NftTransferId, NftTransfer> nftTransferState;
-    private final Map<Long, Schedule> schedules;
-    private final Map<Long, Token> tokens;
+    private final LongObjectHashMap<Schedule> schedules;
+    private final LongObjectHashMap<Token> tokens;
     private final Map<AbstractTokenAllowance.Id, TokenAllowance> tokenAllowanceState;
 
     // tracks the state of <token, account> relationships in a batch, the initial state before the batch is in db.
@@ -154,6 +157,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             EntityProperties entityProperties,
             ApplicationEventPublisher eventPublisher,
             NftRepository nftRepository,
+            ParallelBatchPersister parallelBatchPersister,
             RecordFileRepository recordFileRepository,
             SidecarFileRepository sidecarFileRepository,
             SqlProperties sqlProperties,
@@ -163,6 +167,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         this.entityProperties = entityProperties;
         this.eventPublisher = eventPublisher;
         this.nftRepository = nftRepository;
+        this.parallelBatchPersister = parallelBatchPersister;
         this.recordFileRepository = recordFileRepository;
         this.sidecarFileRepository = sidecarFileRepository;
         this.sqlProperties = sqlProperties;
@@ -196,14 +201,15 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         transactionHashes = new ArrayList<>();
         transactionSignatures = new ArrayList<>();
 
+        balanceAccumulator = new BalanceAccumulator();
         contractStates = new HashMap<>();
         cryptoAllowanceState = new HashMap<>();
-        entityState = new HashMap<>();
+        entityState = new LongObjectHashMap<>();
         nfts = new HashMap<>();
         nftAllowanceState = new HashMap<>();
         nftTransferState = new HashMap<>();
-        schedules = new HashMap<>();
-        tokens = new HashMap<>();
+        schedules = new LongObjectHashMap<>();
+        tokens = new LongObjectHashMap<>();
         tokenAccountState = new HashMap<>();
         tokenAllowanceState = new HashMap<>();
     }
@@ -228,6 +234,19 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    @Override
+    public void onEnd(List<RecordFile> recordFiles) {
+        flush();
+        recordFileRepository.saveAll(recordFiles);
+
+        int sidecars = 0;
+        for (var recordFile : recordFiles) {
+            sidecarFileRepository.saveAll(recordFile.getSidecars());
+            sidecars += recordFile.getSidecars().size();
+        }
+        log.info("Processed {} sidecars from {} record files", sidecars, recordFiles.size());
+    }
+
     @Override
     public void onError() {
         cleanup();
@@ -285,10 +304,8 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     @Override
     public void onCryptoTransfer(CryptoTransfer cryptoTransfer) throws ImporterException {
         if (entityProperties.getPersist().isTrackBalance()) {
-            var entity = new Entity();
-            entity.setId(cryptoTransfer.getEntityId());
-            entity.setBalance(cryptoTransfer.getAmount());
-            onEntity(entity);
+            // Merged into the entity state when flushed to avoid allocating an entity per transfer
+            balanceAccumulator.add(cryptoTransfer.getEntityId(), cryptoTransfer.getAmount());
         }
 
         cryptoTransfers.add(cryptoTransfer);
@@ -306,6 +323,16 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             return;
         }
 
+        if (entity.isHistory()) {
+            // Fold the balance changes accumulated so far into the state before the merge closes it, so its history
+            // row has the balance as of this update instead of missing the transfers since the previous one
+            long amount = balanceAccumulator.take(id);
+            if (amount != 0) {
+                var previous = entityState.get(id);
+                (previous != null ? previous : entity).addBalance(amount);
+            }
+        }
+
         Entity merged = entityState.merge(entity.getId(), entity, this::mergeEntity);
         if (merged == entity) {
             // only add the merged object to the collection if the state is replaced with the new entity object, i.e.,
@@ -515,6 +542,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             cryptoAllowanceState.clear();
             cryptoTransfers.clear();
             customFees.clear();
+            balanceAccumulator.clear();
             entities.clear();
             entityState.clear();
             ethereumTransactions.clear();
@@ -553,6 +581,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             eventPublisher.publishEvent(new EntityBatchSaveEvent(this));
 
             Stopwatch stopwatch = Stopwatch.createStarted();
+            mergeBalances();
+
+            if (sqlProperties.isParallelFlush()) {
+                flushParallel();
+                log.info("Completed parallel batch inserts in {}", stopwatch);
+                return;
+            }
 
             // insert only operations
             batchPersister.persist(assessedCustomFees);
@@ -605,6 +640,59 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    /**
+     * Persists the insert only tables with no ordering dependency and that are not read again in the same transaction
+     * concurrently on separate connections, while the remaining tables are persisted in dependency order on the current
+     * connection. Upserts stay on the current connection since they stage rows in temp tables, and a transaction that
+     * used a temp table can't be prepared for the two-phase commit of the worker connections.
+     */
+    private void flushParallel() {
+        List<Collection<?>> independentItems = List.of(
+                assessedCustomFees,
+                contractActions,
+                contractLogs,
+                contractResults,
+                contractStateChanges,
+                cryptoTransfers,
+                customFees,
+                ethereumTransactions,
+                liveHashes,
+                prngs,
+                topicMessages,
+                transactions,
+                transactionSignatures);
+
+        parallelBatchPersister.persist(independentItems, () -> {
+            // insert only operations read later in the transaction or that manage their own connections
+            batchPersister.persist(fileData);
+            batchPersister.persist(networkStakes);
+            batchPersister.persist(nodeStakes);
+            batchPersister.persist(transactionHashes);
+
+            // insert operations with conflict management
+            batchPersister.persist(contracts);
+            batchPersister.persist(contractStates.values());
+            batchPersister.persist(cryptoAllowances);
+            batchPersister.persist(entities);
+            batchPersister.persist(nftAllowances);
+            batchPersister.persist(tokens.values());
+            // ingest tokenAccounts after tokens since some fields of token accounts depends on the associated token
+            batchPersister.persist(tokenAccounts);
+            batchPersister.persist(tokenAllowances);
+            batchPersister.persist(nfts.values()); // persist nft after token entity
+            batchPersister.persist(schedules.values());
+
+            // transfers operations should be last to ensure insert logic completeness, entities should already exist
+            batchPersister.persist(nonFeeTransfers);
+            batchPersister.persist(nftTransferState.values());
+            batchPersister.persist(stakingRewardTransfers);
+            batchPersister.persist(tokenTransfers);
+
+            // handle the transfers from token dissociate transactions after nft is processed
+            tokenDissociateTransferBatchPersister.persist(deletedTokenDissociateTransfers);
+        });
+    }
+
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
@@ -622,6 +710,26 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    /**
+     * Adds the accumulated balance changes to the entity state, creating a non-history entity for entities with only
+     * balance changes. The result is the same as merging an entity per transfer since balance changes are additive.
+     */
+    private void mergeBalances() {
+        balanceAccumulator.forEach((id, amount) -> {
+            var current = entityState.get(id);
+            if (current != null) {
+                current.addBalance(amount);
+                return;
+            }
+
+            var entity = new Entity();
+            entity.setId(id);
+            entity.setBalance(amount);
+            entityState.merge(id, entity, this::mergeEntity);
+            entities.add(entity);
+        });
+    }
+
     private ContractState mergeContractState(ContractState previous, ContractState current) {
         previous.setValue(current.getValue());
         previous.setModifiedTimestamp(current.getModifiedTimestamp());
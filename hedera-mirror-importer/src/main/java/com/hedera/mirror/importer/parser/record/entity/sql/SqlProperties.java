@@ -30,4 +30,9 @@ public class SqlProperties {
     private int batchSize = 20_000;
 
     private boolean enabled = true;
+
+    private boolean parallelFlush = false;
+
+    @Min(1)
+    private int parallelFlushThreads = 4;
 }
@@ -18,6 +18,11 @@ package com.hedera.mirror.importer.reader.record;
 
 import static java.lang.String.format;
 
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -29,11 +34,13 @@ import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hedera.services.stream.proto.SidecarMetadata;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
 import jakarta.inject.Named;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -41,6 +48,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.io.output.NullOutputStream;
@@ -53,13 +61,32 @@ public class ProtoRecordFileReader implements RecordFileReader {
 
     public static final int VERSION = 6;
 
+    private static final int RECORD_STREAM_ITEM_RECORD_TAG =
+            tag(RecordStreamItem.RECORD_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int RECORD_STREAM_ITEM_TRANSACTION_TAG =
+            tag(RecordStreamItem.TRANSACTION_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int BLOCK_NUMBER_TAG =
+            tag(RecordStreamFile.BLOCK_NUMBER_FIELD_NUMBER, WireFormat.WIRETYPE_VARINT);
+    private static final int END_OBJECT_RUNNING_HASH_TAG =
+            tag(RecordStreamFile.END_OBJECT_RUNNING_HASH_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int HAPI_PROTO_VERSION_TAG =
+            tag(RecordStreamFile.HAPI_PROTO_VERSION_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int RECORD_STREAM_ITEMS_TAG =
+            tag(RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int SIDECARS_TAG =
+            tag(RecordStreamFile.SIDECARS_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    private static final int START_OBJECT_RUNNING_HASH_TAG =
+            tag(RecordStreamFile.START_OBJECT_RUNNING_HASH_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
     @Override
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = Instant.now().getEpochSecond();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        try {
+            var decompressedBytes = streamFileData.getDecompressedBytes();
+            var streamedRecordFile = readRecordStreamFile(filename, decompressedBytes);
+            var recordStreamFile = streamedRecordFile.header();
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -73,27 +100,32 @@ public class ProtoRecordFileReader implements RecordFileReader {
                         endHashAlgorithm);
             }
 
+            var recordStreamItems = streamedRecordFile.recordStreamItems();
+            int count = recordStreamItems.size();
+            if (count == 0) {
+                throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+            }
+
             var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
-            int count = items.size();
-            long consensusEnd = items.get(count - 1).getConsensusTimestamp();
+            long consensusStart = getConsensusTimestamp(recordStreamItems.get(0));
+            long consensusEnd = getConsensusTimestamp(recordStreamItems.get(count - 1));
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
             var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
             var sidecars = getSidecars(consensusEnd, recordStreamFile, streamFileData.getStreamFilename());
 
             return RecordFile.builder()
                     .bytes(bytes)
-                    .consensusStart(items.get(0).getConsensusTimestamp())
+                    .consensusStart(consensusStart)
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(digestAlgorithm, streamFileData.getDecompressedBytes()))
+                    .fileHash(getFileHash(digestAlgorithm, decompressedBytes))
                     .hapiVersionMajor(hapiProtoVersion.getMajor())
                     .hapiVersionMinor(hapiProtoVersion.getMinor())
                     .hapiVersionPatch(hapiProtoVersion.getPatch())
                     .hash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(endObjectRunningHash)))
                     .index(recordStreamFile.getBlockNumber())
-                    .items(Flux.fromIterable(items))
+                    .items(readItems(filename, hapiProtoVersion, recordStreamItems))
                     .loadStart(loadStart)
                     .metadataHash(getMetadataHash(digestAlgorithm, recordStreamFile))
                     .name(filename)
@@ -108,6 +140,10 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
+    private static int tag(int fieldNumber, int wireType) {
+        return (fieldNumber << 3) | wireType;
+    }
+
     private MessageDigest createMessageDigest(DigestAlgorithm digestAlgorithm) {
         try {
             return MessageDigest.getInstance(digestAlgorithm.getName());
@@ -178,41 +214,105 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
-        if (count == 0) {
-            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
-        }
+    private long getConsensusTimestamp(ByteString recordStreamItem) throws IOException {
+        var transactionRecord = RecordStreamItem.parseFrom(recordStreamItem).getRecord();
+        return DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
+    }
 
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+    /**
+     * Builds the record items from their serialized slices of the record file as they're consumed. Nothing is cached,
+     * so every subscription reads the items again and only the slices stay on the heap between subscriptions.
+     */
+    private Flux<RecordItem> readItems(
+            String filename, SemanticVersion hapiProtoVersion, List<ByteString> recordStreamItems) {
         var hapiVersion =
                 new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecordBytes(recordStreamItem.getRecord().toByteArray())
-                    .transactionBytes(recordStreamItem.getTransaction().toByteArray())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
-        }
 
-        return items;
+        return Flux.defer(() -> {
+            var previous = new AtomicReference<RecordItem>();
+            return Flux.range(0, recordStreamItems.size()).map(index -> {
+                var recordStreamItem = recordStreamItems.get(index);
+                var recordItem = readItem(filename, hapiVersion, previous.get(), recordStreamItem, index);
+                previous.set(recordItem);
+                return recordItem;
+            });
+        });
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(
-                        format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+    private RecordItem readItem(
+            String filename, Version hapiVersion, RecordItem previous, ByteString recordStreamItem, int index) {
+        var recordBytes = ByteString.EMPTY;
+        var transactionBytes = ByteString.EMPTY;
+
+        try {
+            var input = recordStreamItem.newCodedInput();
+            input.enableAliasing(true);
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == RECORD_STREAM_ITEM_RECORD_TAG) {
+                    recordBytes = input.readBytes();
+                } else if (tag == RECORD_STREAM_ITEM_TRANSACTION_TAG) {
+                    transactionBytes = input.readBytes();
+                } else if (!input.skipField(tag)) {
+                    break;
+                }
             }
+        } catch (IOException e) {
+            throw new InvalidStreamFileException("Error reading record stream item " + index + " of " + filename, e);
+        }
+
+        return RecordItem.builder()
+                .hapiVersion(hapiVersion)
+                .previous(previous)
+                .transactionRecordBytes(recordBytes)
+                .transactionBytes(transactionBytes)
+                .transactionIndex(index)
+                .build();
+    }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+    /**
+     * Walks the top level fields of the record stream file without parsing the record stream items. Each item is kept
+     * as a slice that aliases the decompressed file bytes, while the remaining fields are parsed into a record stream
+     * file without items.
+     */
+    private StreamedRecordFile readRecordStreamFile(String filename, byte[] bytes) throws IOException {
+        if (bytes.length < Integer.BYTES) {
+            throw new EOFException("Missing version in record file " + filename);
+        }
+
+        int version = Ints.fromByteArray(bytes);
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(
+                    format("Expected file %s with version %d, got %d.", filename, VERSION, version));
         }
+
+        var input = UnsafeByteOperations.unsafeWrap(bytes, Integer.BYTES, bytes.length - Integer.BYTES)
+                .newCodedInput();
+        input.enableAliasing(true);
+        var extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+        var header = RecordStreamFile.newBuilder();
+        var recordStreamItems = new ArrayList<ByteString>();
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            if (tag == RECORD_STREAM_ITEMS_TAG) {
+                recordStreamItems.add(input.readBytes());
+            } else if (tag == HAPI_PROTO_VERSION_TAG) {
+                input.readMessage(header.getHapiProtoVersionBuilder(), extensionRegistry);
+            } else if (tag == START_OBJECT_RUNNING_HASH_TAG) {
+                input.readMessage(header.getStartObjectRunningHashBuilder(), extensionRegistry);
+            } else if (tag == END_OBJECT_RUNNING_HASH_TAG) {
+                input.readMessage(header.getEndObjectRunningHashBuilder(), extensionRegistry);
+            } else if (tag == BLOCK_NUMBER_TAG) {
+                header.setBlockNumber(input.readInt64());
+            } else if (tag == SIDECARS_TAG) {
+                header.addSidecars(input.readMessage(SidecarMetadata.parser(), extensionRegistry));
+            } else if (!input.skipField(tag)) {
+                break;
+            }
+        }
+
+        return new StreamedRecordFile(header.build(), recordStreamItems);
     }
+
+    private record StreamedRecordFile(RecordStreamFile header, List<ByteString> recordStreamItems) {}
 }
@@ -18,8 +18,25 @@ package com.hedera.mirror.importer.reader.record.sidecar;
 
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import java.util.ArrayList;
+import java.util.function.Consumer;
 
 public interface SidecarFileReader {
 
-    void read(SidecarFile sidecarFile, StreamFileData streamFileData);
+    default void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
+        var records = new ArrayList<TransactionSidecarRecord>();
+        read(sidecarFile, streamFileData, records::add);
+        sidecarFile.setRecords(records);
+    }
+
+    /**
+     * Reads the sidecar file, passing each transaction sidecar record to the consumer as soon as it's decoded. The
+     * actual hash is only set once the whole file has been read, so the caller must verify it before using the records.
+     *
+     * @param sidecarFile    the sidecar file to populate
+     * @param streamFileData the raw data of the sidecar file
+     * @param consumer       the consumer of the decoded transaction sidecar records
+     */
+    void read(SidecarFile sidecarFile, StreamFileData streamFileData, Consumer<TransactionSidecarRecord> consumer);
 }
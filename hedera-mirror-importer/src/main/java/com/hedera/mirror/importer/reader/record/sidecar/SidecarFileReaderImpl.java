@@ -16,27 +16,51 @@
 
 package com.hedera.mirror.importer.reader.record.sidecar;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import jakarta.inject.Named;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.util.function.Consumer;
 
 @Named
 public class SidecarFileReaderImpl implements SidecarFileReader {
 
+    // The tag of the repeated, length delimited sidecar_records field of the SidecarFile message
+    private static final int SIDECAR_RECORDS_TAG =
+            com.hedera.services.stream.proto.SidecarFile.SIDECAR_RECORDS_FIELD_NUMBER << 3
+                    | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
     @Override
-    public void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
+    public void read(
+            SidecarFile sidecarFile, StreamFileData streamFileData, Consumer<TransactionSidecarRecord> consumer) {
         try (var digestInputStream = new DigestInputStream(
-                streamFileData.getInputStream(),
+                streamFileData.getDecompressingInputStream(),
                 MessageDigest.getInstance(sidecarFile.getHashAlgorithm().getName()))) {
-            var protoSidecarFile = com.hedera.services.stream.proto.SidecarFile.parseFrom(digestInputStream);
+            // Decode the records one at a time instead of parsing a fully buffered SidecarFile message
+            var input = CodedInputStream.newInstance(digestInputStream);
+            var extensionRegistry = ExtensionRegistryLite.getEmptyRegistry();
+            int count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == SIDECAR_RECORDS_TAG) {
+                    consumer.accept(input.readMessage(TransactionSidecarRecord.parser(), extensionRegistry));
+                    count++;
+                } else if (!input.skipField(tag)) {
+                    throw new InvalidProtocolBufferException("Unexpected end group tag in sidecar file");
+                }
+            }
+
             var bytes = streamFileData.getBytes();
             sidecarFile.setActualHash(digestInputStream.getMessageDigest().digest());
             sidecarFile.setBytes(bytes);
-            sidecarFile.setCount(protoSidecarFile.getSidecarRecordsCount());
-            sidecarFile.setRecords(protoSidecarFile.getSidecarRecordsList());
+            sidecarFile.setCount(count);
             sidecarFile.setSize(bytes.length);
         } catch (InvalidStreamFileException e) {
             throw e;
@@ -28,39 +28,53 @@ import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.job.ReconciliationJob;
 import com.hedera.mirror.common.domain.job.ReconciliationStatus;
-import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.ReconciliationJobRepository;
-import com.hedera.mirror.importer.repository.RecordFileRepository;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
-import lombok.Builder;
 import lombok.CustomLog;
 import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Scheduled;
-
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
+
+/**
+ * Reconciles the balances in each balance file with the balances of the previous balance file plus the transfers in
+ * between. The intervals between balance files are reconciled concurrently, but their results are applied in order so
+ * the job's consensus timestamp is a checkpoint that a restart can resume from. Long intervals are split by consensus
+ * timestamp into ranges whose transfers are summed concurrently and merged.
+ */
 @CustomLog
 @Named
 class BalanceReconciliationService {
 
     static final long FIFTY_BILLION_HBARS = 50_000_000_000L * 100_000_000L;
     static final String METRIC = "hedera.mirror.reconciliation";
+    static final String METRIC_BALANCES = METRIC + ".balances";
+    static final String METRIC_CHECKPOINT = METRIC + ".checkpoint";
+    static final String METRIC_INTERVAL = METRIC + ".interval";
 
     // Due to the number of rows returned, it's considerably more performant to not use JPA
     private static final String BALANCE_QUERY =
@@ -84,29 +98,39 @@ class BalanceReconciliationService {
     final AtomicReference<ReconciliationStatus> status;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
+    private final Counter accountBalancesMetric;
+    private final AtomicLong checkpoint;
+    private final Timer intervalMetric;
     private final JdbcOperations jdbcOperations;
-    private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
+    private final Scheduler scheduler;
+    private final Counter tokenBalancesMetric;
 
     BalanceReconciliationService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
-            RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
             ReconciliationJobRepository reconciliationJobRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
-        this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
         this.reconciliationJobRepository = reconciliationJobRepository;
+        this.scheduler = Schedulers.newParallel("reconciliation", reconciliationProperties.getParallelism());
         this.status = meterRegistry.gauge(
                 METRIC, new AtomicReference<>(UNKNOWN), s -> s.get().ordinal());
+        this.checkpoint = meterRegistry.gauge(METRIC_CHECKPOINT, new AtomicLong(0L), c -> c.get() / 1_000_000_000.0);
+
+        var balancesMetric = Counter.builder(METRIC_BALANCES).description("The number of balances reconciled");
+        this.accountBalancesMetric = balancesMetric.tag("type", "account").register(meterRegistry);
+        this.tokenBalancesMetric = balancesMetric.tag("type", "token").register(meterRegistry);
+        this.intervalMetric = Timer.builder(METRIC_INTERVAL)
+                .description("The time it took to reconcile the transfers between two balance files")
+                .register(meterRegistry);
     }
 
     @Scheduled(cron = "${hedera.mirror.importer.reconciliation.cron:0 0 0 * * *}")
-    @SuppressWarnings("java:S3776")
     public synchronized void reconcile() {
         if (!reconciliationProperties.isEnabled()) {
             return;
@@ -117,45 +141,26 @@ class BalanceReconciliationService {
 
         try {
             log.info(
-                    "Reconciling balance files between {} and {} with {} remediation strategy",
+                    "Reconciling balance files between {} and {} with {} remediation strategy and parallelism {}",
                     Instant.ofEpochSecond(0, reconciliationJob.getConsensusTimestamp()),
                     reconciliationProperties.getEndDate(),
-                    reconciliationProperties.getRemediationStrategy());
-            var previous = getNextBalanceSnapshot(reconciliationJob, Optional.empty());
+                    reconciliationProperties.getRemediationStrategy(),
+                    reconciliationProperties.getParallelism());
+            var first = getNextBalanceFile(reconciliationJob.getConsensusTimestamp());
 
-            if (previous.isEmpty()) {
+            if (first.isEmpty()) {
                 log.info("No balance files to process");
                 reconciliationJob.setStatus(UNKNOWN);
                 return;
             }
 
-            var current = getNextBalanceSnapshot(reconciliationJob, previous);
-
-            while (current.isPresent()) {
-                reconcile(previous.get(), current.get());
-                reconciliationJob.increment();
-
-                if (!reconciliationJob.hasErrors()) {
-                    var consensusTimestamp =
-                            current.get().getAccountBalanceFile().getConsensusTimestamp();
-                    reconciliationJob.setConsensusTimestamp(consensusTimestamp);
-
-                    // Periodically update progress
-                    if (reconciliationJob.getCount() % 100 == 0) {
-                        reconciliationJobRepository.save(reconciliationJob);
-                    }
-                }
-
-                if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
-                    previous = Optional.of(current.get().toBuilder()
-                            .balances(previous.get().getBalances())
-                            .tokenBalances(previous.get().getTokenBalances())
-                            .build());
-                } else {
-                    previous = current;
-                }
-
-                current = getNextBalanceSnapshot(reconciliationJob, previous);
+            // Validates the first balance file and, when accumulating, holds the running balances
+            var accumulated = getBalanceSnapshot(first.get());
+            var intervals = getIntervals(first.get(), accumulated)
+                    .flatMapSequential(this::reconcile, reconciliationProperties.getParallelism(), 1);
+
+            try (var results = intervals.toStream(1)) {
+                results.forEach(result -> checkpoint(reconciliationJob, accumulated, result));
             }
 
             if (reconciliationJob.hasErrors()) {
@@ -197,89 +202,134 @@ class BalanceReconciliationService {
                 .build();
 
         status.set(reconciliationJob.getStatus());
+        checkpoint.set(consensusTimestamp);
         return reconciliationJobRepository.save(reconciliationJob);
     }
 
-    private void reconcile(BalanceSnapshot previous, BalanceSnapshot current) {
-        reconcileCryptoTransfers(previous, current);
-        reconcileTokenTransfers(previous, current);
+    /*
+     * Applies the result of an interval in consensus order, so the job's consensus timestamp only advances past an
+     * interval once it and every interval before it reconciled successfully.
+     */
+    private void checkpoint(ReconciliationJob reconciliationJob, BalanceSnapshot accumulated, IntervalResult result) {
+        if (result.exception() != null) {
+            throw result.exception();
+        }
 
-        long elapsed = System.currentTimeMillis() - current.getStartTime();
-        String name = current.getAccountBalanceFile().getName();
-        log.info(
-                "Reconciled balance file {} with {} balances and {} token balances in {} ms",
-                name,
-                current.getBalances().size(),
-                current.getTokenBalances().size(),
-                elapsed);
+        var mismatches = result.mismatches();
 
-        if (Duration.ZERO.compareTo(reconciliationProperties.getDelay()) < 0) {
-            Uninterruptibles.sleepUninterruptibly(reconciliationProperties.getDelay());
+        if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
+            var interval = result.interval();
+            var transfers = result.transfers();
+            mismatches = compare(interval, accumulated.merge(transfers), result.current());
         }
-    }
 
-    private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        var transfersBalance = previous.getBalances();
+        for (var mismatch : mismatches) {
+            if (reconciliationProperties.getRemediationStrategy() == FAIL) {
+                throw mismatch;
+            }
 
-        jdbcOperations.query(
-                CRYPTO_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
+            log.warn(mismatch.getMessage());
+            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), mismatch.getMessage()));
+            reconciliationJob.setStatus(mismatch.getStatus());
+        }
 
-        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
-    }
+        reconciliationJob.increment();
 
-    private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
-        if (!reconciliationProperties.isToken()) {
-            return;
+        if (!reconciliationJob.hasErrors()) {
+            long consensusTimestamp = result.interval().current().getConsensusTimestamp();
+            reconciliationJob.setConsensusTimestamp(consensusTimestamp);
+            reconciliationJobRepository.save(reconciliationJob);
+            checkpoint.set(consensusTimestamp);
         }
+    }
 
-        var tokenBalances = previous.getTokenBalances();
+    /*
+     * Each balance file is the current file of one interval and the previous file of the next, so its balances are
+     * loaded once and shared by both intervals. The first file's balances were already loaded to validate it, and they
+     * are only modified when accumulating, which doesn't read the previous balances.
+     */
+    private Flux<Interval> getIntervals(AccountBalanceFile first, BalanceSnapshot firstBalances) {
+        return Flux.generate(() -> Tuples.of(first, Mono.just(firstBalances)), (previous, sink) -> {
+            var next = getNextBalanceFile(previous.getT1().getConsensusTimestamp() + 1L);
+
+            if (next.isEmpty()) {
+                sink.complete();
+                return previous;
+            }
 
-        jdbcOperations.query(
-                TOKEN_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
-                },
-                previous.getTimestamp(),
-                current.getTimestamp());
+            var current = Tuples.of(next.get(), getBalanceSnapshotMono(next.get()));
+            sink.next(new Interval(previous.getT1(), current.getT1(), previous.getT2(), current.getT2()));
+            return current;
+        });
+    }
 
-        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
+    private Optional<AccountBalanceFile> getNextBalanceFile(long fromTimestamp) {
+        long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
+        return accountBalanceFileRepository.findNextInRange(fromTimestamp, toTimestamp);
     }
 
-    private <K> void reconcileTransfers(
-            ReconciliationStatus failureStatus,
-            Function<BalanceSnapshot, Map<K, Long>> mapper,
-            BalanceSnapshot previous,
-            BalanceSnapshot current) {
-        var transfersBalance = mapper.apply(previous);
-        var currentBalances = mapper.apply(current);
+    /*
+     * Reconciles an interval on the scheduler, capturing any failure in the result so it's only surfaced once the
+     * intervals before it have been applied. When accumulating, the comparison depends upon every prior interval so
+     * it's left to the in order checkpoint.
+     */
+    private Mono<IntervalResult> reconcile(Interval interval) {
+        var result = Mono.defer(() -> {
+            var stopwatch = Stopwatch.createStarted();
+            var current = interval.currentBalances();
+            var transfers = getTransfers(interval);
+
+            if (reconciliationProperties.getRemediationStrategy() == ACCUMULATE) {
+                return Mono.zip(current, transfers, (c, t) -> {
+                    onReconciled(interval, c, stopwatch);
+                    return new IntervalResult(interval, c, t, List.of(), null);
+                });
+            }
 
-        if (!equals(transfersBalance, currentBalances)) {
-            long fromTimestamp = previous.getTimestamp();
-            long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
+            // The previous balances are shared with the previous interval, so they're merged into the transfers instead
+            return Mono.zip(current, transfers, interval.previousBalances()).map(t -> {
+                var mismatches = compare(interval, t.getT2().merge(t.getT3()), t.getT1());
+                onReconciled(interval, t.getT1(), stopwatch);
+                return new IntervalResult(interval, null, null, mismatches, null);
+            });
+        });
 
-            if (reconciliationProperties.getRemediationStrategy() == FAIL) {
-                throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
-            }
+        result = result.onErrorResume(
+                RuntimeException.class, e -> Mono.just(new IntervalResult(interval, null, null, null, e)));
 
-            var error = String.format(failureStatus.getMessage(), fromTimestamp, toTimestamp, difference);
-            log.warn(error);
+        var delay = reconciliationProperties.getDelay();
+        return Duration.ZERO.compareTo(delay) < 0 ? result.delayElement(delay, scheduler) : result;
+    }
+
+    private void onReconciled(Interval interval, BalanceSnapshot current, Stopwatch stopwatch) {
+        var elapsed = stopwatch.elapsed();
+        intervalMetric.record(elapsed);
+        log.info(
+                "Reconciled balance file {} with {} balances and {} token balances in {} ms",
+                interval.current().getName(),
+                current.getBalances().size(),
+                current.getTokenBalances().size(),
+                elapsed.toMillis());
+    }
+
+    private List<ReconciliationException> compare(Interval interval, BalanceSnapshot expected, BalanceSnapshot actual) {
+        long from = interval.fromTimestamp();
+        long to = interval.toTimestamp();
+        var mismatches = new ArrayList<ReconciliationException>(2);
+
+        if (!equals(expected.getBalances(), actual.getBalances())) {
+            var difference = Maps.difference(expected.getBalances(), actual.getBalances());
+            mismatches.add(new ReconciliationException(FAILURE_CRYPTO_TRANSFERS, from, to, difference));
+        }
 
-            var reconciliationJob = previous.getReconciliationJob();
-            reconciliationJob.setError(StringUtils.joinWith("\n", reconciliationJob.getError(), error));
-            reconciliationJob.setStatus(failureStatus);
+        if (!equals(expected.getTokenBalances(), actual.getTokenBalances())) {
+            var difference = Maps.difference(expected.getTokenBalances(), actual.getTokenBalances());
+            mismatches.add(new ReconciliationException(FAILURE_TOKEN_TRANSFERS, from, to, difference));
         }
+
+        accountBalancesMetric.increment(actual.getBalances().size());
+        tokenBalancesMetric.increment(actual.getTokenBalances().size());
+        return mismatches;
     }
 
     private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
@@ -298,26 +348,68 @@ class BalanceReconciliationService {
         return true;
     }
 
-    private Optional<BalanceSnapshot> getNextBalanceSnapshot(
-            ReconciliationJob reconciliationJob, Optional<BalanceSnapshot> previous) {
+    /*
+     * Splits the interval into consensus timestamp ranges no longer than the transfer range and sums the transfers of
+     * each range concurrently into partial sums that are then merged.
+     */
+    private Mono<BalanceSnapshot> getTransfers(Interval interval) {
+        long rangeSize = Math.max(1L, reconciliationProperties.getTransferRange().toNanos());
+        long toTimestamp = interval.toTimestamp();
+        var ranges = new ArrayList<Range<Long>>();
+
+        for (long from = interval.fromTimestamp(); from < toTimestamp; from += rangeSize) {
+            ranges.add(Range.openClosed(from, Math.min(from + rangeSize, toTimestamp)));
+        }
 
-        long startTime = System.currentTimeMillis();
-        long toTimestamp = DomainUtils.convertToNanosMax(reconciliationProperties.getEndDate());
-        long fromTimestamp = previous.map(BalanceSnapshot::getAccountBalanceFile)
-                .map(AccountBalanceFile::getConsensusTimestamp)
-                .map(t -> t + 1L)
-                .orElseGet(reconciliationJob::getConsensusTimestamp);
-
-        return accountBalanceFileRepository
-                .findNextInRange(fromTimestamp, toTimestamp)
-                .map(accountBalanceFile -> {
-                    var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
-                    var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
-                    return new BalanceSnapshot(
-                            accountBalanceFile, balances, recordFile, reconciliationJob, startTime, tokenBalances);
-                });
+        return Flux.fromIterable(ranges)
+                .flatMap(
+                        range -> Mono.fromSupplier(() -> getTransfers(range)).subscribeOn(scheduler),
+                        reconciliationProperties.getParallelism())
+                .reduce(BalanceSnapshot::merge)
+                .defaultIfEmpty(new BalanceSnapshot(new HashMap<>(), new HashMap<>()));
+    }
+
+    private BalanceSnapshot getTransfers(Range<Long> range) {
+        Map<Long, Long> balances = new HashMap<>();
+        Map<TokenAccountId, Long> tokenBalances = new HashMap<>();
+
+        jdbcOperations.query(
+                CRYPTO_TRANSFER_QUERY,
+                rs -> {
+                    long accountId = rs.getLong(1);
+                    long balance = rs.getLong(2);
+                    balances.merge(accountId, balance, Math::addExact);
+                },
+                range.lowerEndpoint(),
+                range.upperEndpoint());
+
+        if (reconciliationProperties.isToken()) {
+            jdbcOperations.query(
+                    TOKEN_TRANSFER_QUERY,
+                    rs -> {
+                        long accountId = rs.getLong(1);
+                        long tokenId = rs.getLong(2);
+                        long balance = rs.getLong(3);
+                        var tokenAccountId = new TokenAccountId(accountId, tokenId);
+                        tokenBalances.merge(tokenAccountId, balance, Math::addExact);
+                    },
+                    range.lowerEndpoint(),
+                    range.upperEndpoint());
+        }
+
+        return new BalanceSnapshot(balances, tokenBalances);
+    }
+
+    private Mono<BalanceSnapshot> getBalanceSnapshotMono(AccountBalanceFile accountBalanceFile) {
+        return Mono.fromSupplier(() -> getBalanceSnapshot(accountBalanceFile))
+                .subscribeOn(scheduler)
+                .cache();
+    }
+
+    private BalanceSnapshot getBalanceSnapshot(AccountBalanceFile accountBalanceFile) {
+        var balances = getAccountBalances(accountBalanceFile);
+        var tokenBalances = getTokenBalances(accountBalanceFile);
+        return new BalanceSnapshot(balances, tokenBalances);
     }
 
     private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
@@ -371,19 +463,39 @@ class BalanceReconciliationService {
         private final long tokenId;
     }
 
-    @Builder(toBuilder = true)
     @Value
     private static class BalanceSnapshot {
 
-        private final AccountBalanceFile accountBalanceFile;
         private final Map<Long, Long> balances;
-        private final Optional<RecordFile> recordFile;
-        private final ReconciliationJob reconciliationJob;
-        private final long startTime;
         private final Map<TokenAccountId, Long> tokenBalances;
 
-        private long getTimestamp() {
-            return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
+        // Adds the other balances to this snapshot's balances in place
+        private BalanceSnapshot merge(BalanceSnapshot other) {
+            other.getBalances().forEach((k, v) -> balances.merge(k, v, Math::addExact));
+            other.getTokenBalances().forEach((k, v) -> tokenBalances.merge(k, v, Math::addExact));
+            return this;
         }
     }
+
+    private record Interval(
+            AccountBalanceFile previous,
+            AccountBalanceFile current,
+            Mono<BalanceSnapshot> previousBalances,
+            Mono<BalanceSnapshot> currentBalances) {
+
+        private long fromTimestamp() {
+            return previous.getConsensusTimestamp() + previous.getTimeOffset();
+        }
+
+        private long toTimestamp() {
+            return current.getConsensusTimestamp() + current.getTimeOffset();
+        }
+    }
+
+    private record IntervalResult(
+            Interval interval,
+            BalanceSnapshot current,
+            BalanceSnapshot transfers,
+            List<ReconciliationException> mismatches,
+            RuntimeException exception) {}
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.reconciliation;
 
 import com.hedera.mirror.importer.util.Utility;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
@@ -42,6 +43,9 @@ class ReconciliationProperties {
     @NotNull
     private Instant endDate = Utility.MAX_INSTANT_LONG;
 
+    @Min(1)
+    private int parallelism = 2;
+
     private RemediationStrategy remediationStrategy = RemediationStrategy.FAIL;
 
     @NotNull
@@ -50,6 +54,10 @@ class ReconciliationProperties {
     // We can't rely upon the NFT count in the balance file and there's not an easy way to just reconcile fungible
     private boolean token = false;
 
+    @DurationMin(seconds = 1)
+    @NotNull
+    private Duration transferRange = Duration.ofHours(1L);
+
     public void setStartDate(Instant startDate) {
         if (startDate == null || startDate.isAfter(endDate)) {
             String message = String.format("Start date %s must be valid and not after end date %s", startDate, endDate);
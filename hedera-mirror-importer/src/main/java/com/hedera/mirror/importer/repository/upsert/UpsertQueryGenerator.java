@@ -18,6 +18,8 @@ package com.hedera.mirror.importer.repository.upsert;
 
 public interface UpsertQueryGenerator {
 
+    String ON_COMMIT_DELETE_ROWS = "on commit delete rows";
+    String ON_COMMIT_DROP = "on commit drop";
     String TEMP_SUFFIX = "_temp";
 
     String getCreateTempIndexQuery();
@@ -28,6 +30,14 @@ public interface UpsertQueryGenerator {
                 getTemporaryTableName(), getFinalTableName());
     }
 
+    /**
+     * Same as {@link #getCreateTempTableQuery()} but the temp table outlives the transaction, only its rows are
+     * discarded on commit.
+     */
+    default String getCreateSessionTempTableQuery() {
+        return getCreateTempTableQuery().replace(ON_COMMIT_DROP, ON_COMMIT_DELETE_ROWS);
+    }
+
     String getFinalTableName();
 
     default String getTemporaryTableName() {
@@ -16,37 +16,109 @@
 
 package com.hedera.mirror.importer.retention;
 
+import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_MANAGER_TABLE_TIME_PARTITION;
+import static com.hedera.mirror.importer.db.TimePartitionServiceImpl.CACHE_NAME_TABLES;
+import static com.hedera.mirror.importer.db.TimePartitionServiceImpl.CACHE_NAME_TABLE_OVERLAPPING_PARTITIONS;
+
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.config.Owner;
+import com.hedera.mirror.importer.db.TimePartition;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+/**
+ * Prunes the data older than the retention period. Partitions of time partitioned tables that lie entirely within the
+ * retention window are detached and dropped, which doesn't generate the WAL and vacuum debt of deleting their rows. The
+ * remaining rows, which are in the boundary partition or in tables that aren't time partitioned, are deleted in batch
+ * periods, with each table deleted concurrently in its own transaction since the tables are independent.
+ */
 @Log4j2
 @Named
-@RequiredArgsConstructor
 public class RetentionJob {
 
+    static final String METRIC_BYTES = "hedera.mirror.importer.retention.bytes";
+    static final String METRIC_ROWS = "hedera.mirror.importer.retention.rows";
+
+    // Only partitions on the column a table is pruned by can be dropped, unlike the id partitions of history tables
+    private static final Set<String> PARTITION_KEYS =
+            Set.of("RANGE (consensus_end)", "RANGE (consensus_timestamp)", "RANGE (created_timestamp)");
+    private static final String CITUS_SQL = "select exists(select 1 from pg_extension where extname = 'citus')";
+    private static final String DETACH_PENDING_SQL =
+            "select exists(select 1 from pg_inherits where inhrelid = to_regclass(?) and inhdetachpending)";
+    private static final String DISTRIBUTED_SQL =
+            "select exists(select 1 from pg_dist_partition where logicalrelid = to_regclass(?))";
+    private static final String PARTITION_KEY_SQL = "select pg_get_partkeydef(to_regclass(?))";
+    private static final String PARTITION_SIZE_SQL =
+            """
+            select pg_total_relation_size(oid), greatest(reltuples, 0)::bigint
+            from pg_class
+            where oid = to_regclass(?)
+            """;
+
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
-    private final Collection<RetentionRepository> retentionRepositories;
+    private final Map<String, RetentionRepository> retentionRepositories;
+    private final Scheduler scheduler;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
+    @SuppressWarnings("java:S107")
+    public RetentionJob(
+            @Qualifier(CACHE_MANAGER_TABLE_TIME_PARTITION) CacheManager cacheManager,
+            @Owner JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            RecordFileRepository recordFileRepository,
+            RetentionProperties retentionProperties,
+            Collection<RetentionRepository> retentionRepositories,
+            TimePartitionService timePartitionService,
+            TransactionOperations transactionOperations) {
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.recordFileRepository = recordFileRepository;
+        this.retentionProperties = retentionProperties;
+        this.retentionRepositories = new TreeMap<>();
+        retentionRepositories.forEach(r -> this.retentionRepositories.put(getTableName(r), r));
+        this.scheduler = Schedulers.newParallel("retention", retentionProperties.getParallelism());
+        this.timePartitionService = timePartitionService;
+        this.transactionOperations = transactionOperations;
+    }
+
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
     public synchronized void prune() {
         if (!retentionProperties.isEnabled()) {
@@ -67,6 +139,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp, iterator.getCounters());
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -84,14 +160,14 @@ public class RetentionJob {
         var next = iterator.next();
         long endTimestamp = next.getConsensusEnd();
 
-        transactionOperations.executeWithoutResult(t -> retentionRepositories.forEach(repository -> {
-            String table = getTableName(repository);
-
-            if (retentionProperties.shouldPrune(table)) {
-                long count = repository.prune(endTimestamp);
-                counters.merge(table, count, Long::sum);
-            }
-        }));
+        Flux.fromIterable(retentionRepositories.keySet())
+                .filter(retentionProperties::shouldPrune)
+                .flatMap(
+                        table -> Mono.fromRunnable(() -> prune(table, endTimestamp, counters))
+                                .subscribeOn(scheduler),
+                        retentionProperties.getParallelism())
+                .then()
+                .block();
 
         long countAfter = counters.values().stream().reduce(0L, Long::sum);
         long count = countAfter - countBefore;
@@ -100,6 +176,141 @@ public class RetentionJob {
         log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
     }
 
+    private void prune(String table, long endTimestamp, Map<String, Long> counters) {
+        var repository = retentionRepositories.get(table);
+        Integer count = transactionOperations.execute(t -> repository.prune(endTimestamp));
+        long pruned = Objects.requireNonNullElse(count, 0);
+        counters.merge(table, pruned, Long::sum);
+        increment(METRIC_ROWS, "The number of rows pruned, estimated for dropped partitions", table, "delete", pruned);
+    }
+
+    private void dropPartitions(long maxTimestamp, Map<String, Long> counters) {
+        for (var table : retentionRepositories.keySet()) {
+            if (!retentionProperties.shouldPrune(table) || !isPartitionedByPruneColumn(table)) {
+                continue;
+            }
+
+            // Always read the current partitions since partitions are created and dropped after they're cached
+            evictTimePartitions(table);
+            var partitions = timePartitionService.getTimePartitions(table);
+            boolean distributed = isDistributed(table);
+            boolean dropped = false;
+
+            for (var partition : partitions) {
+                if (partition.getEnd() > maxTimestamp) {
+                    break;
+                }
+
+                try {
+                    dropPartition(partition, distributed, counters);
+                    dropped = true;
+                } catch (DataAccessException e) {
+                    // Its rows are still deleted below and the partition is retried on the next run
+                    log.warn("Skipping dropping partition {}: {}", partition.getName(), e.getMessage());
+                    break;
+                }
+            }
+
+            if (dropped) {
+                evictTimePartitions(table);
+            }
+        }
+    }
+
+    private void dropPartition(TimePartition partition, boolean distributed, Map<String, Long> counters) {
+        var stopwatch = Stopwatch.createStarted();
+        var table = partition.getParent();
+        var name = partition.getName();
+        var size = jdbcTemplate.queryForObject(
+                PARTITION_SIZE_SQL, (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)}, name);
+        long bytes = size != null ? size[0] : 0L;
+        long rows = size != null ? size[1] : 0L;
+
+        if (distributed) {
+            detachAndDrop(table, name);
+        } else {
+            detachConcurrentlyAndDrop(table, name);
+        }
+
+        counters.merge(table, rows, Long::sum);
+        increment(METRIC_BYTES, "The number of bytes reclaimed by dropping partitions", table, "partition", bytes);
+        increment(METRIC_ROWS, "The number of rows pruned, estimated for dropped partitions", table, "partition", rows);
+        log.info("Dropped partition {} with about {} rows and {} bytes in {}", name, rows, bytes, stopwatch);
+    }
+
+    /*
+     * Citus doesn't support detaching partitions of distributed tables concurrently, so they're detached and dropped in
+     * a transaction that gives up waiting for the access exclusive lock on the parent after the lock timeout. Otherwise
+     * the detach would block ingestion while it waits behind long running queries.
+     */
+    private void detachAndDrop(String table, String partition) {
+        long lockTimeout = retentionProperties.getLockTimeout().toMillis();
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (var statement = connection.createStatement()) {
+                statement.execute(String.format("set local lock_timeout = %d", lockTimeout));
+                statement.execute(String.format("alter table %s detach partition %s", table, partition));
+                statement.execute(String.format("drop table %s", partition));
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+
+            return null;
+        });
+    }
+
+    /*
+     * Detaching concurrently only takes a share update exclusive lock on the parent so it doesn't block ingestion, but
+     * it can't run in a transaction block so it's a separate statement. A partition left pending by an interrupted
+     * detach has to be finalized instead.
+     */
+    private void detachConcurrentlyAndDrop(String table, String partition) {
+        var detachPending = jdbcTemplate.queryForObject(DETACH_PENDING_SQL, Boolean.class, partition);
+        var mode = Boolean.TRUE.equals(detachPending) ? "finalize" : "concurrently";
+        jdbcTemplate.execute(String.format("alter table %s detach partition %s %s", table, partition, mode));
+        jdbcTemplate.execute(String.format("drop table %s", partition));
+    }
+
+    // A new builder each time since builders aren't thread-safe and tables are pruned concurrently
+    private void increment(String metric, String description, String table, String type, long amount) {
+        Counter.builder(metric)
+                .description(description)
+                .tag("table", table)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+
+    private void evictTimePartitions(String table) {
+        var tables = cacheManager.getCache(CACHE_NAME_TABLES);
+        if (tables != null) {
+            tables.evict(table);
+        }
+
+        var overlappingPartitions = cacheManager.getCache(CACHE_NAME_TABLE_OVERLAPPING_PARTITIONS);
+        if (overlappingPartitions != null) {
+            overlappingPartitions.clear();
+        }
+    }
+
+    // The Citus catalog only exists if the extension is installed so it's checked first
+    private boolean isDistributed(String table) {
+        var citus = jdbcTemplate.queryForObject(CITUS_SQL, Boolean.class);
+        return Boolean.TRUE.equals(citus)
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(DISTRIBUTED_SQL, Boolean.class, table));
+    }
+
+    private boolean isPartitionedByPruneColumn(String table) {
+        var partitionKey = jdbcTemplate.queryForObject(PARTITION_KEY_SQL, String.class, table);
+        return partitionKey != null && PARTITION_KEYS.contains(partitionKey);
+    }
+
     private String getTableName(RetentionRepository repository) {
         Class<?> targetClass = repository.getClass().getInterfaces()[0];
         String className = ClassUtils.getSimpleName(targetClass);
@@ -113,7 +324,7 @@ public class RetentionJob {
     @Data
     private class RecordFileIterator implements Iterator<RecordFile> {
 
-        private final Map<String, Long> counters = new TreeMap<>();
+        private final Map<String, Long> counters = new ConcurrentSkipListMap<>();
         private final RecordFile max;
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private RecordFile current;
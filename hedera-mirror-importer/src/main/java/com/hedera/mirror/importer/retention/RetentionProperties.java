@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.retention;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.Collections;
@@ -34,6 +35,8 @@ public class RetentionProperties {
     @NotNull
     private Duration batchPeriod = Duration.ofDays(1L);
 
+    private boolean dropPartitions = true;
+
     private boolean enabled = false;
 
     @NotNull
@@ -45,6 +48,13 @@ public class RetentionProperties {
     @NotNull
     private Set<String> include = Collections.emptySet();
 
+    // How long to wait for the lock on a distributed table to detach one of its partitions before skipping it
+    @NotNull
+    private Duration lockTimeout = Duration.ofSeconds(5L);
+
+    @Min(1)
+    private int parallelism = 4;
+
     @NotNull
     private Duration period = Duration.ofDays(90L);
 
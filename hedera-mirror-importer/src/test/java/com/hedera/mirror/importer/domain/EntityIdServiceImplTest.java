@@ -26,9 +26,12 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,6 +48,7 @@ class EntityIdServiceImplTest extends IntegrationTest {
         0, 0, 0, 0, 0, 0, 0, 100, // num
     };
 
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
 
@@ -324,6 +328,62 @@ class EntityIdServiceImplTest extends IntegrationTest {
         assertThat(entityIdService.lookup(accountId)).hasValue(EntityId.of(100, CONTRACT));
     }
 
+    @Test
+    void warm() {
+        var account = domainBuilder.entity().persist();
+        var accountWithEvmAddress = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null))
+                .persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var accountId = getProtoAccountId(account);
+        var evmAddressAccountId = AccountID.newBuilder()
+                .setAlias(DomainUtils.fromBytes(accountWithEvmAddress.getEvmAddress()))
+                .build();
+        var contractId = getProtoContractId(contract);
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(accountAmount(accountId, -100L))
+                        .addAccountAmounts(accountAmount(evmAddressAccountId, 100L)))
+                .build();
+        var contractCall = recordItemBuilder.contractCall(contractId).build();
+
+        entityIdService.warm(List.of(cryptoTransfer, contractCall));
+
+        // lookups are served from the cache
+        entityRepository.deleteAll();
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(evmAddressAccountId)).hasValue(accountWithEvmAddress.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+    }
+
+    @Test
+    void warmNotFound() {
+        var account = domainBuilder.entity().get();
+        var accountId = getProtoAccountId(account);
+        var recordItem = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder().addAccountAmounts(accountAmount(accountId, 100L)))
+                .build();
+
+        entityIdService.warm(List.of(recordItem));
+
+        // misses aren't cached so an alias created later in the same record file still resolves
+        entityRepository.save(account);
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+    }
+
+    private AccountAmount accountAmount(AccountID accountId, long amount) {
+        return AccountAmount.newBuilder()
+                .setAccountID(accountId)
+                .setAmount(amount)
+                .build();
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
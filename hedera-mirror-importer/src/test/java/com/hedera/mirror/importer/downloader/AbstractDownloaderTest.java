@@ -246,7 +246,8 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -550,6 +551,7 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         expectLastStreamFile(Instant.EPOCH);
         downloader.download();
         verifyForSuccess();
+        verifyLookAheadQueueEmpty();
     }
 
     @Test
@@ -564,6 +566,42 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         expectLastStreamFile(Instant.EPOCH);
         downloader.download();
         verifyForSuccess();
+        verifyLookAheadQueueEmpty();
+    }
+
+    @Test
+    void lookAhead() {
+        commonDownloaderProperties.setLookAhead(2);
+        downloader = getDownloader();
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(meterRegistry
+                        .find("hedera.mirror.download.lookahead")
+                        .tags("type", streamType.toString(), "result", "hit")
+                        .counter())
+                .isNotNull()
+                .satisfies(c -> assertThat(c.count()).isPositive());
+    }
+
+    @Test
+    void lookAheadStreamFileCorrupted() throws Exception {
+        commonDownloaderProperties.setLookAhead(2);
+        downloader = getDownloader();
+        corruptedNodeAccountId = nodes.iterator().next().getNodeAccountId();
+        mirrorProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(Predicate.not(this::isSigFile))
+                .filter(p -> p.toString().contains(corruptedNodeAccountId.toString()))
+                .forEach(AbstractDownloaderTest::corruptFile);
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+        verifyForSuccess();
+        verifyLookAheadQueueEmpty();
     }
 
     @Test
@@ -680,6 +718,16 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(downloaderProperties.isEnabled()).isEqualTo(expectEnabled);
     }
 
+    // Discarded look-ahead downloads are interrupted and leave the queue once their thread is done with them
+    private void verifyLookAheadQueueEmpty() {
+        var queue = meterRegistry
+                .find("hedera.mirror.download.lookahead.queue")
+                .tags("type", streamType.toString())
+                .gauge();
+        assertThat(queue).isNotNull();
+        await().atMost(Duration.ofSeconds(5)).until(() -> queue.value() == 0.0);
+    }
+
     protected void verifyStreamFiles(List<String> files) {
         verifyStreamFiles(files, s -> {});
     }
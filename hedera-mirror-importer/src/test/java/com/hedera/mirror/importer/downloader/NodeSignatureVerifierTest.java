@@ -40,7 +40,10 @@ import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
 import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.DOWNLOADED;
 import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.VERIFIED;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -50,6 +53,9 @@ import com.hedera.mirror.importer.domain.ConsensusNodeStub;
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureType;
 import com.hedera.mirror.importer.domain.StreamFilename;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.KeyPair;
@@ -57,13 +63,14 @@ import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
+import java.time.Duration;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -79,7 +86,8 @@ class NodeSignatureVerifierTest {
     @Mock
     private ConsensusValidator consensusValidator;
 
-    @InjectMocks
+    private MeterRegistry meterRegistry;
+
     private NodeSignatureVerifier nodeSignatureVerifier;
 
     @BeforeAll
@@ -96,7 +104,9 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new MirrorProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
@@ -129,6 +139,50 @@ class NodeSignatureVerifierTest {
                 .containsOnly(VERIFIED);
     }
 
+    @Test
+    void verifyAsync() {
+        var signatures = List.of(streamFileSignature(), streamFileSignature(), streamFileSignature());
+
+        var verification = nodeSignatureVerifier.verifyAsync(signatures);
+
+        assertThat(verification).succeedsWithin(Duration.ofSeconds(5));
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+        verify(consensusValidator, never()).validate(signatures);
+        assertThat(meterRegistry
+                        .find("hedera.mirror.download.signature.verify.duration")
+                        .tag("type", StreamType.RECORD.toString())
+                        .timer())
+                .isNotNull()
+                .returns(3L, Timer::count);
+    }
+
+    @Test
+    void verifyAsyncCancelled() {
+        commonDownloaderProperties.setVerificationThreads(1);
+        var verifier = new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
+        var signatures = IntStream.range(0, 200).mapToObj(i -> streamFileSignature()).toList();
+
+        verifier.verifyAsync(signatures).cancel(false);
+
+        await().during(Duration.ofMillis(500))
+                .atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(signatures)
+                        .extracting(StreamFileSignature::getStatus)
+                        .contains(DOWNLOADED));
+    }
+
+    @Test
+    void verifyAfterVerifyAsync() {
+        var signature = streamFileSignature();
+        var signatures = List.of(signature);
+        var verification = nodeSignatureVerifier.verifyAsync(signatures);
+
+        nodeSignatureVerifier.verify(signatures, verification);
+
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+        verify(consensusValidator).validate(signatures);
+    }
+
     @Test
     void partialFailure() {
         var signature1 = streamFileSignature();
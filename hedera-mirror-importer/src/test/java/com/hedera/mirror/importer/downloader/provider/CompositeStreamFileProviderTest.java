@@ -18,6 +18,10 @@ package com.hedera.mirror.importer.downloader.provider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.importer.MirrorProperties;
@@ -27,6 +31,8 @@ import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamSourceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,9 +53,11 @@ class CompositeStreamFileProviderTest {
     private static final StreamFilename FILENAME = StreamFilename.EPOCH;
     private static final ConsensusNode NODE = ConsensusNodeStub.builder().build();
     private static final Duration WAIT = Duration.ofSeconds(10L);
+    private static final StreamFileData HEDGE_DATA = StreamFileData.from(StreamFilename.EPOCH.getFilename(), "hedge");
 
     private CommonDownloaderProperties properties;
     private CompositeStreamFileProvider compositeStreamFileProvider;
+    private MeterRegistry meterRegistry;
 
     @Mock
     private StreamFileProvider streamFileProvider1;
@@ -62,8 +70,12 @@ class CompositeStreamFileProviderTest {
         properties = new CommonDownloaderProperties(new MirrorProperties());
         properties.getSources().add(new StreamSourceProperties());
         properties.getSources().add(new StreamSourceProperties());
-        compositeStreamFileProvider =
-                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1, streamFileProvider2));
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMaxDelay(Duration.ofSeconds(1L));
+        properties.getHedge().setMinDelay(Duration.ofSeconds(1L));
+        meterRegistry = new SimpleMeterRegistry();
+        compositeStreamFileProvider = new CompositeStreamFileProvider(
+                properties, List.of(streamFileProvider1, streamFileProvider2), meterRegistry);
     }
 
     @Test
@@ -122,7 +134,8 @@ class CompositeStreamFileProviderTest {
 
     @Test
     void getSingleSource() {
-        compositeStreamFileProvider = new CompositeStreamFileProvider(properties, List.of(streamFileProvider1));
+        compositeStreamFileProvider =
+                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1), meterRegistry);
         var error = new RuntimeException("error");
         when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.error(error));
         StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
@@ -158,6 +171,73 @@ class CompositeStreamFileProviderTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void getHedged() {
+        when(streamFileProvider1.get(NODE, FILENAME)).thenAnswer(i -> delayed(DATA, Duration.ofSeconds(5L)));
+        when(streamFileProvider2.get(NODE, FILENAME)).thenAnswer(i -> delayed(HEDGE_DATA, Duration.ofMillis(100L)));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(HEDGE_DATA)
+                .expectComplete()
+                .verify(WAIT);
+        assertThat(hedgeCount("sent")).isOne();
+        assertThat(hedgeCount("win")).isOne();
+    }
+
+    @Test
+    void getHedgeNotNeeded() {
+        when(streamFileProvider1.get(NODE, FILENAME)).thenAnswer(i -> delayed(DATA, Duration.ofMillis(100L)));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(DATA)
+                .expectComplete()
+                .verify(WAIT);
+        verify(streamFileProvider2, never()).get(any(), any());
+        assertThat(hedgeCount("sent")).isZero();
+        assertThat(hedgeCount("win")).isZero();
+    }
+
+    @Test
+    void getHedgeFails() {
+        when(streamFileProvider1.get(NODE, FILENAME)).thenAnswer(i -> delayed(DATA, Duration.ofSeconds(2L)));
+        when(streamFileProvider2.get(NODE, FILENAME)).thenReturn(Mono.error(new IllegalStateException("error")));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(DATA)
+                .expectComplete()
+                .verify(WAIT);
+        assertThat(hedgeCount("sent")).isOne();
+        assertThat(hedgeCount("win")).isZero();
+    }
+
+    @Test
+    void getHedgeSourceSkippedOnFailover() {
+        when(streamFileProvider1.get(NODE, FILENAME)).thenAnswer(i -> Mono.delay(Duration.ofSeconds(2L))
+                .then(Mono.error(new IllegalStateException("error"))));
+        when(streamFileProvider2.get(NODE, FILENAME)).thenAnswer(i -> delayed(HEDGE_DATA, Duration.ofSeconds(3L)));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(HEDGE_DATA)
+                .expectComplete()
+                .verify(WAIT);
+
+        // The original request fails over to the hedge's source by waiting for its response, not requesting it again
+        verify(streamFileProvider2, times(1)).get(NODE, FILENAME);
+        assertThat(hedgeCount("sent")).isOne();
+    }
+
+    @Test
+    void getHedgeDisabled() {
+        properties.getHedge().setEnabled(false);
+        when(streamFileProvider1.get(NODE, FILENAME)).thenAnswer(i -> delayed(DATA, Duration.ofSeconds(5L)));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(DATA)
+                .expectComplete()
+                .verify(WAIT);
+        verify(streamFileProvider2, never()).get(any(), any());
+    }
+
     @Test
     void list() {
         when(streamFileProvider1.list(NODE, FILENAME)).thenReturn(Flux.just(DATA));
@@ -178,4 +258,16 @@ class CompositeStreamFileProviderTest {
                 .expectComplete()
                 .verify(WAIT);
     }
+
+    private Mono<StreamFileData> delayed(StreamFileData streamFileData, Duration delay) {
+        return Mono.just(streamFileData).delayElement(delay);
+    }
+
+    private double hedgeCount(String result) {
+        return meterRegistry
+                .find("hedera.mirror.download.hedge")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
 }
@@ -16,12 +16,17 @@
 
 package com.hedera.mirror.importer.downloader.provider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.FileCopier;
 import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -33,6 +38,7 @@ import org.jclouds.ContextBuilder;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -41,6 +47,7 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
 
     private static final int S3_PROXY_PORT = 8001;
 
+    private MeterRegistry meterRegistry;
     private S3Proxy s3Proxy;
 
     @BeforeEach
@@ -53,10 +60,50 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
                 .forcePathStyle(true)
                 .region(Region.of(properties.getRegion()))
                 .build();
-        streamFileProvider = new S3StreamFileProvider(properties, s3AsyncClient);
+        meterRegistry = new SimpleMeterRegistry();
+        streamFileProvider = new S3StreamFileProvider(properties, meterRegistry, s3AsyncClient);
         startS3Proxy();
     }
 
+    @Test
+    void listIncremental() {
+        var node = node("0.0.3");
+        getFileCopier(node).copy();
+        var data1 = streamFileData(node, "2022-07-13T08_46_08.041986003Z.rcd_sig");
+        var data2 = streamFileData(node, "2022-07-13T08_46_11.304284003Z.rcd_sig");
+
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .containsExactly(data1, data2);
+
+        // Signatures not verified yet are returned from memory and only keys after the last listed one are listed
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .containsExactly(data1, data2);
+        assertThat(counter("requests")).isEqualTo(2.0);
+        assertThat(counter("duplicates")).isEqualTo(2.0);
+
+        // Signatures up to the last verified filename are discarded
+        assertThat(streamFileProvider.list(node, data1.getStreamFilename()).collectList().block())
+                .containsExactly(data2);
+        assertThat(counter("requests")).isEqualTo(3.0);
+        assertThat(counter("duplicates")).isEqualTo(3.0);
+    }
+
+    @Test
+    void listIncrementalFullBatch() {
+        properties.setBatchSize(1);
+        var node = node("0.0.3");
+        getFileCopier(node).copy();
+        var data1 = streamFileData(node, "2022-07-13T08_46_08.041986003Z.rcd_sig");
+
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .containsExactly(data1);
+
+        // No listing while a full batch of signatures is waiting to be verified
+        assertThat(streamFileProvider.list(node, StreamFilename.EPOCH).collectList().block())
+                .containsExactly(data1);
+        assertThat(counter("requests")).isEqualTo(1.0);
+    }
+
     @Override
     protected FileCopier createFileCopier(Path dataPath) {
         var fromPath = Path.of("data", "recordstreams", "v6");
@@ -84,6 +131,15 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
                 .until(() -> s3Proxy.getState().equals(AbstractLifeCycle.STARTED));
     }
 
+    private double counter(String name) {
+        return meterRegistry
+                .find("hedera.mirror.download.list." + name)
+                .counters()
+                .stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
     @AfterEach
     void after() throws Exception {
         if (s3Proxy != null) {
@@ -81,7 +81,7 @@ abstract class AbstractRecordFileDownloaderTest extends AbstractLinkedStreamDown
                 new ProtoRecordFileReader());
         sidecarProperties = new SidecarProperties();
         sidecarProperties.setEnabled(true);
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, meterRegistry, s3AsyncClient);
         return new RecordFileDownloader(
                 consensusNodeService,
                 (RecordDownloaderProperties) downloaderProperties,
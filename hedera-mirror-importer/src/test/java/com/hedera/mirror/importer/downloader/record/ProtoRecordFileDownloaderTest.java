@@ -26,6 +26,8 @@ import com.hedera.mirror.importer.downloader.AbstractDownloaderTest;
 import com.hedera.services.stream.proto.SidecarFile;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -136,6 +138,35 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
         assertThat(downloaderProperties.getStreamPath()).doesNotExist();
     }
 
+    @Test
+    void sidecarFileFallback() throws IOException {
+        fileCopier.copy();
+        Files.walk(s3Path)
+                .filter(p -> p.endsWith(SIDECAR_FILENAME))
+                .filter(p -> !p.toString().contains("0.0.3"))
+                .forEach(p -> p.toFile().delete());
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyStreamFiles(List.of(file1, file2));
+        assertThat(downloaderProperties.getStreamPath()).doesNotExist();
+
+        var fallbacks = meterRegistry.find(RecordFileDownloader.SIDECAR_FALLBACK_METRIC).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        var attempts = meterRegistry.find(RecordFileDownloader.SIDECAR_LATENCY_METRIC).timers().stream()
+                .mapToLong(Timer::count)
+                .sum();
+        assertThat(attempts).isEqualTo((long) fallbacks + 1L);
+        assertThat(meterRegistry
+                        .find(RecordFileDownloader.SIDECAR_LATENCY_METRIC)
+                        .tag("node", "0")
+                        .tag("success", "true")
+                        .timer())
+                .isNotNull()
+                .returns(1L, Timer::count);
+    }
+
     @Test
     void sidecarFileHashMismatch() throws IOException {
         try (var byteArrayOutputStream = new ByteArrayOutputStream();
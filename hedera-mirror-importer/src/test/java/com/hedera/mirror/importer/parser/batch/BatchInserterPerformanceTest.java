@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.CaseFormat;
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Compares the throughput of the CSV and binary COPY formats for a few of the busiest insert-only tables.
+ */
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+@Tag("performance")
+class BatchInserterPerformanceTest extends IntegrationTest {
+
+    private static final int ITEMS = 20_000;
+    private static final int ITERATIONS = 5;
+
+    private final DataSource dataSource;
+    private final DomainBuilder domainBuilder;
+    private final TransactionOperations transactionOperations;
+
+    @ParameterizedTest
+    @ValueSource(classes = {ContractResult.class, CryptoTransfer.class, Transaction.class})
+    void csvVersusBinary(Class<?> domainClass) {
+        var items = Stream.generate(supplier(domainClass)).limit(ITEMS).toList();
+        var tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, domainClass.getSimpleName());
+        var csvProperties = new CommonParserProperties();
+        var binaryProperties = new CommonParserProperties();
+        binaryProperties.setBinaryCopyTables(Set.of(tableName));
+        var meterRegistry = new SimpleMeterRegistry();
+        var csvInserter = new BatchInserter(domainClass, dataSource, meterRegistry, csvProperties);
+        var binaryInserter = new BatchInserter(domainClass, dataSource, meterRegistry, binaryProperties);
+
+        // Warm up both code paths before measuring
+        persist(csvInserter, items);
+        persist(binaryInserter, items);
+
+        var csv = Duration.ZERO;
+        var binary = Duration.ZERO;
+        for (int i = 0; i < ITERATIONS; i++) {
+            csv = csv.plus(persist(csvInserter, items));
+            binary = binary.plus(persist(binaryInserter, items));
+        }
+
+        log.info(
+                "Copied {} {} rows {} times using CSV in {} and binary in {}",
+                ITEMS,
+                tableName,
+                ITERATIONS,
+                csv,
+                binary);
+        assertThat(binary).isPositive();
+    }
+
+    private Duration persist(BatchInserter batchInserter, List<?> items) {
+        var stopwatch = Stopwatch.createUnstarted();
+        transactionOperations.executeWithoutResult(status -> {
+            stopwatch.start();
+            batchInserter.persist(items);
+            stopwatch.stop();
+            status.setRollbackOnly();
+        });
+        return stopwatch.elapsed();
+    }
+
+    private Supplier<?> supplier(Class<?> domainClass) {
+        if (domainClass == ContractResult.class) {
+            return () -> domainBuilder.contractResult().get();
+        } else if (domainClass == CryptoTransfer.class) {
+            return () -> domainBuilder.cryptoTransfer().get();
+        }
+        return () -> domainBuilder.transaction().get();
+    }
+}
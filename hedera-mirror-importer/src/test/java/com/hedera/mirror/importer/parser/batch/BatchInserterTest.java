@@ -26,17 +26,20 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
 import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.domain.AssessedCustomFeeWrapper;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.ContractResultRepository;
 import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.TokenTransferRepository;
 import com.hedera.mirror.importer.repository.TopicMessageRepository;
@@ -49,7 +52,10 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import javax.sql.DataSource;
+import lombok.AllArgsConstructor;
+import lombok.Data;
 import org.apache.commons.lang3.RandomUtils;
 import org.bouncycastle.util.Strings;
 import org.junit.jupiter.api.Test;
@@ -62,9 +68,15 @@ class BatchInserterTest extends IntegrationTest {
     @Resource
     private BatchPersister batchInserter;
 
+    @Resource
+    private ContractResultRepository contractResultRepository;
+
     @Resource
     private CryptoTransferRepository cryptoTransferRepository;
 
+    @Resource
+    private DataSource dataSource;
+
     @Resource
     private DomainBuilder domainBuilder;
 
@@ -99,6 +111,54 @@ class BatchInserterTest extends IntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        var properties = new CommonParserProperties();
+        properties.setBinaryCopyTables(Set.of("contract_result", "crypto_transfer", "topic_message", "transaction"));
+        var meterRegistry = new SimpleMeterRegistry();
+        var contractResults = List.of(
+                domainBuilder.contractResult().get(),
+                domainBuilder.contractResult().customize(c -> c.amount(null)).get());
+        var cryptoTransfer = cryptoTransfer(2);
+        cryptoTransfer.setErrata(ErrataType.INSERT);
+        var cryptoTransfers = List.of(cryptoTransfer(1), cryptoTransfer);
+        var topicMessages = List.of(topicMessage(1, 100), topicMessage(2, 0));
+        var transactions = List.of(domainBuilder.transaction().get(), transaction(3));
+
+        new BatchInserter(ContractResult.class, dataSource, meterRegistry, properties).persist(contractResults);
+        new BatchInserter(CryptoTransfer.class, dataSource, meterRegistry, properties).persist(cryptoTransfers);
+        new BatchInserter(TopicMessage.class, dataSource, meterRegistry, properties).persist(topicMessages);
+        new BatchInserter(Transaction.class, dataSource, meterRegistry, properties).persist(transactions);
+
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    @Test
+    void persistBinaryUnsupportedText() {
+        var properties = new CommonParserProperties();
+        properties.setBinaryCopyTables(Set.of("binary_copy_text"));
+        jdbcTemplate.execute("create table binary_copy_text (id bigint not null, value text)");
+
+        try {
+            var batchInserter = new BatchInserter(
+                    BinaryCopyText.class, dataSource, new SimpleMeterRegistry(), properties, "binary_copy_text");
+            var items = List.of(new BinaryCopyText(1L, List.of(1L, 2L)));
+
+            assertThatThrownBy(() -> batchInserter.persist(items))
+                    .isInstanceOf(ParserException.class)
+                    .hasRootCauseInstanceOf(IOException.class)
+                    .rootCause()
+                    .hasMessageContaining("value");
+            assertThat(jdbcTemplate.queryForObject("select count(*) from binary_copy_text", Long.class))
+                    .isZero();
+        } finally {
+            jdbcTemplate.execute("drop table binary_copy_text");
+        }
+    }
+
     @Test
     void persistDuplicates() {
         var transactions = new HashSet<Transaction>();
@@ -250,4 +310,11 @@ class BatchInserterTest extends IntegrationTest {
         topicMessage.setTopicId(EntityId.of("0.0.1001", EntityType.TOPIC));
         return topicMessage;
     }
+
+    @AllArgsConstructor
+    @Data
+    private static class BinaryCopyText {
+        private Long id;
+        private List<Long> value;
+    }
 }
@@ -45,6 +45,8 @@ import com.hedera.mirror.common.domain.token.TokenSupplyTypeEnum;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.token.TokenTypeEnum;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.TempTableScope;
 import com.hedera.mirror.importer.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.repository.NftAllowanceRepository;
@@ -57,11 +59,16 @@ import com.hedera.mirror.importer.repository.TokenAllowanceRepository;
 import com.hedera.mirror.importer.repository.TokenRepository;
 import com.hedera.mirror.importer.repository.TokenTransferRepository;
 import com.hedera.mirror.importer.repository.TopicMessageLookupRepository;
+import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
@@ -80,6 +87,7 @@ class BatchUpserterTest extends IntegrationTest {
 
     private final BatchPersister batchPersister;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
+    private final DataSource dataSource;
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
@@ -92,6 +100,7 @@ class BatchUpserterTest extends IntegrationTest {
     private final TokenTransferRepository tokenTransferRepository;
     private final TopicMessageLookupRepository topicMessageLookupRepository;
     private final TransactionOperations transactionOperations;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     @Qualifier(DELETED_TOKEN_DISSOCIATE_BATCH_PERSISTER)
     private final BatchPersister tokenDissociateTransferBatchUpserter;
@@ -121,6 +130,36 @@ class BatchUpserterTest extends IntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void entityInsertAndUpdateBinary() {
+        var properties = new CommonParserProperties();
+        properties.setBinaryCopyTables(Set.of("entity"));
+        var binaryBatchUpserter = new BatchUpserter(
+                Entity.class,
+                dataSource,
+                new SimpleMeterRegistry(),
+                properties,
+                upsertQueryGeneratorFactory.get(Entity.class));
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().customize(e -> e.memo("")).get();
+        persist(binaryBatchUpserter, List.of(entity1, entity2));
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrder(entity1, entity2);
+
+        var update = domainBuilder.entity().customize(e -> e.id(entity1.getId()).memo("updated")).get();
+        persist(binaryBatchUpserter, List.of(update));
+
+        assertThat(entityRepository.findById(entity1.getId()))
+                .get()
+                .returns("updated", Entity::getMemo)
+                .returns(update.getTimestampRange(), Entity::getTimestampRange);
+        assertThat(findHistory(Entity.class))
+                .hasSize(1)
+                .first()
+                .returns(
+                        Range.closedOpen(entity1.getTimestampLower(), update.getTimestampLower()),
+                        Entity::getTimestampRange);
+    }
+
     @Test
     void entityInsertAndUpdate() {
         var entities = new ArrayList<Entity>();
@@ -193,6 +232,47 @@ class BatchUpserterTest extends IntegrationTest {
                 .containsExactlyInAnyOrder(3L, 4L);
     }
 
+    @Test
+    void entityInsertAndUpdateSessionTempTable() {
+        var properties = new CommonParserProperties();
+        properties.setTempTableScope(TempTableScope.SESSION);
+        var meterRegistry = new SimpleMeterRegistry();
+        var sessionBatchUpserter = new BatchUpserter(
+                Entity.class, dataSource, meterRegistry, properties, upsertQueryGeneratorFactory.get(Entity.class));
+        var entities = new ArrayList<Entity>();
+        entities.add(getEntity(1, 1L, 1, "memo-1"));
+        entities.add(getEntity(2, 1L, 1, "memo-2"));
+        var updateEntities = new ArrayList<Entity>();
+        updateEntities.add(getEntity(2, null, 5, "updated-memo-2"));
+        updateEntities.add(getEntity(3, null, 5, "memo-3"));
+
+        // temp table must be empty for the second batch in the same transaction
+        persist(sessionBatchUpserter, entities, updateEntities);
+
+        // temp table from the previous transaction is reused
+        persist(sessionBatchUpserter, List.of(getEntity(3, null, 6, "updated-memo-3")));
+
+        // temp table is recreated after a rollback
+        transactionOperations.executeWithoutResult(t -> {
+            sessionBatchUpserter.persist(List.of(getEntity(4, 7L, 7, "memo-4")));
+            t.setRollbackOnly();
+        });
+        persist(sessionBatchUpserter, List.of(getEntity(5, 8L, 8, "memo-5")));
+
+        assertThat(entityRepository.findAll())
+                .extracting(Entity::getMemo)
+                .containsExactlyInAnyOrder("memo-1", "updated-memo-2", "updated-memo-3", "memo-5");
+        assertThat(findHistory(Entity.class))
+                .extracting(Entity::getId)
+                .containsExactlyInAnyOrder(2L, 3L);
+        assertThat(meterRegistry
+                        .find("hedera.mirror.importer.parse.upsert")
+                        .tag("phase", "merge")
+                        .timer())
+                .isNotNull()
+                .returns(5L, Timer::count);
+    }
+
     @Test
     void tokenInsertOnly() {
         var tokens = new ArrayList<Token>();
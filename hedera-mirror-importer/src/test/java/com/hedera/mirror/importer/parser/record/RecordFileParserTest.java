@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mock.Strictness.LENIENT;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,6 +36,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor;
 import com.hedera.mirror.importer.config.MirrorDateRangePropertiesProcessor.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -52,6 +54,7 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -76,6 +79,9 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     @Mock(strictness = LENIENT)
     private MirrorDateRangePropertiesProcessor mirrorDateRangePropertiesProcessor;
 
+    @Mock
+    private EntityIdService entityIdService;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -110,7 +116,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
                 recordFileRepository,
                 recordItemListener,
                 recordStreamFileListener,
-                mirrorDateRangePropertiesProcessor);
+                mirrorDateRangePropertiesProcessor,
+                entityIdService);
     }
 
     @Override
@@ -334,6 +341,81 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         verify(recordFileRepository, never()).updateIndex(anyLong());
     }
 
+    @Test
+    void parseBatch() {
+        // given
+        var streamFile1 = getStreamFile();
+        var recordItem1 = recordItem;
+        var streamFile2 = getStreamFile();
+        streamFile2.setPreviousHash(streamFile1.getHash());
+
+        // when
+        parser.parse(List.of(streamFile1, streamFile2));
+
+        // then
+        verify(recordStreamFileListener).onStart();
+        verify(recordItemListener).onItem(recordItem1);
+        verify(recordItemListener).onItem(recordItem);
+        verify(recordStreamFileListener).onEnd(List.of(streamFile1, streamFile2));
+        verify(recordStreamFileListener, never()).onEnd(any(RecordFile.class));
+        verify(recordStreamFileListener, never()).onError();
+        assertEquals(1L, streamFile1.getCount());
+        assertEquals(1L, streamFile2.getCount());
+    }
+
+    @Test
+    void parseBatchSkipsExisting() {
+        // given
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+        var streamFile3 = getStreamFile();
+        streamFile2.setPreviousHash(streamFile1.getHash());
+        streamFile3.setPreviousHash(streamFile2.getHash());
+        when(recordFileRepository.findLatest()).thenReturn(Optional.of(streamFile1));
+
+        // when
+        parser.parse(List.of(streamFile1, streamFile2, streamFile3));
+
+        // then
+        verify(recordStreamFileListener).onEnd(List.of(streamFile2, streamFile3));
+    }
+
+    @Test
+    void parseBatchHashMismatch() {
+        // given
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+
+        // when
+        assertThatThrownBy(() -> parser.parse(List.of(streamFile1, streamFile2)))
+                .isInstanceOf(HashMismatchException.class);
+
+        // then
+        verifyNoInteractions(recordItemListener);
+        verify(recordStreamFileListener, never()).onStart();
+    }
+
+    @Test
+    void parseBatchBlockNumberMigration() {
+        // given
+        int offset = 2;
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+        streamFile1.setIndex(streamFile2.getIndex() - offset);
+        streamFile1.setVersion(5);
+        streamFile2.setPreviousHash(streamFile1.getHash());
+
+        // when
+        parser.parse(List.of(streamFile1, streamFile2));
+
+        // then the v5 file is persisted before the v6 file corrects its index
+        var inOrder = inOrder(recordStreamFileListener, recordFileRepository);
+        inOrder.verify(recordStreamFileListener).onEnd(List.of(streamFile1));
+        inOrder.verify(recordFileRepository).updateIndex(offset - 1);
+        inOrder.verify(recordStreamFileListener).onEnd(List.of(streamFile2));
+        verify(recordStreamFileListener, times(2)).onStart();
+    }
+
     private RecordItem contractCall(
             ContractFunctionResult contractFunctionResult, long timestamp, int transactionIdNonce) {
         return recordItemBuilder
@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.importer.parser.record.entity.AbstractEntityRecordItemListenerTest;
+import com.hedera.mirror.importer.parser.record.entity.sql.SqlEntityListener;
+import jakarta.annotation.Resource;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("performance")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EntityRecordItemListenerPerformanceBalanceTest extends AbstractEntityRecordItemListenerTest {
+
+    private static final int ACCOUNT_COUNT = 1000;
+    private static final int TRANSFER_COUNT = 10_000;
+
+    @Resource
+    private SqlEntityListener sqlEntityListener;
+
+    @Resource
+    private TransactionTemplate transactionTemplate;
+
+    private List<CryptoTransfer> cryptoTransfers;
+
+    @BeforeAll
+    public void setUp() {
+        long startingAccountNum = 3000; // some hard coded tests accounts exist under this range so start above
+        cryptoTransfers = new ArrayList<>(TRANSFER_COUNT);
+
+        for (int i = 0; i < TRANSFER_COUNT; i++) {
+            long accountNum = startingAccountNum + (i % ACCOUNT_COUNT);
+            long amount = i % 2 == 0 ? 10L : -5L;
+            cryptoTransfers.add(domainBuilder
+                    .cryptoTransfer()
+                    .customize(c -> c.amount(amount).entityId(accountNum))
+                    .get());
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void trackBalanceAllocation() {
+        entityProperties.getPersist().setTrackBalance(true);
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onStart();
+
+            long allocatedStart = threadMXBean.getThreadAllocatedBytes(threadId);
+            cryptoTransfers.forEach(sqlEntityListener::onCryptoTransfer);
+            long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedStart;
+
+            log.info(
+                    "Tracking balance of {} crypto transfers to {} accounts allocated {} bytes, {} bytes per transfer",
+                    TRANSFER_COUNT,
+                    ACCOUNT_COUNT,
+                    allocated,
+                    allocated / TRANSFER_COUNT);
+            // Only the growth of the crypto transfer list should allocate, not an entity per transfer
+            assertThat(allocated / TRANSFER_COUNT).isLessThan(64L);
+
+            sqlEntityListener.onEnd(domainBuilder.recordFile().get());
+        });
+
+        assertThat(entityRepository.count()).isEqualTo(ACCOUNT_COUNT);
+    }
+}
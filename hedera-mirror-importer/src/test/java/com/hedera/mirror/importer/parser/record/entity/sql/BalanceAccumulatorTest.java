@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BalanceAccumulatorTest {
+
+    private final BalanceAccumulator balanceAccumulator = new BalanceAccumulator();
+
+    @Test
+    void add() {
+        balanceAccumulator.add(1L, 10L);
+        balanceAccumulator.add(2L, -5L);
+        balanceAccumulator.add(1L, -3L);
+
+        assertThat(balanceAccumulator.size()).isEqualTo(2);
+        assertThat(toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 7L, 2L, -5L));
+    }
+
+    @Test
+    void addEmptyId() {
+        balanceAccumulator.add(0L, 10L);
+        assertThat(balanceAccumulator.isEmpty()).isTrue();
+        assertThat(toMap()).isEmpty();
+    }
+
+    @Test
+    void addRehash() {
+        var expected = new HashMap<Long, Long>();
+        for (long id = 1; id <= 10_000; id++) {
+            balanceAccumulator.add(id, id);
+            balanceAccumulator.add(id, 1L);
+            expected.put(id, id + 1);
+        }
+
+        assertThat(balanceAccumulator.size()).isEqualTo(10_000);
+        assertThat(toMap()).containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    @Test
+    void clear() {
+        balanceAccumulator.add(1L, 10L);
+        balanceAccumulator.clear();
+        assertThat(balanceAccumulator.isEmpty()).isTrue();
+
+        balanceAccumulator.add(1L, 5L);
+        assertThat(toMap()).containsExactlyEntriesOf(Map.of(1L, 5L));
+    }
+
+    @Test
+    void clearShrinks() {
+        int capacity = balanceAccumulator.capacity();
+        for (long id = 1; id <= 10_000; id++) {
+            balanceAccumulator.add(id, id);
+        }
+
+        // The arrays are kept for a record file that used them
+        int grown = balanceAccumulator.capacity();
+        balanceAccumulator.clear();
+        assertThat(balanceAccumulator.capacity()).isEqualTo(grown).isGreaterThan(capacity);
+
+        // But released once a record file uses a small fraction of them
+        balanceAccumulator.add(1L, 5L);
+        balanceAccumulator.clear();
+        assertThat(balanceAccumulator.capacity()).isEqualTo(capacity);
+        assertThat(balanceAccumulator.isEmpty()).isTrue();
+
+        balanceAccumulator.add(2L, 3L);
+        assertThat(toMap()).containsExactlyEntriesOf(Map.of(2L, 3L));
+    }
+
+    @Test
+    void take() {
+        balanceAccumulator.add(1L, 10L);
+        balanceAccumulator.add(2L, -5L);
+
+        assertThat(balanceAccumulator.take(1L)).isEqualTo(10L);
+        assertThat(balanceAccumulator.take(1L)).isZero();
+        assertThat(balanceAccumulator.take(3L)).isZero();
+        assertThat(balanceAccumulator.take(0L)).isZero();
+
+        balanceAccumulator.add(1L, 3L);
+        assertThat(toMap()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, -5L));
+    }
+
+    private Map<Long, Long> toMap() {
+        var map = new HashMap<Long, Long>();
+        balanceAccumulator.forEach(map::put);
+        return map;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    private final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+    @Test
+    void merge() {
+        assertThat(map.merge(1L, "a", String::concat)).isEqualTo("a");
+        assertThat(map.merge(0L, "b", String::concat)).isEqualTo("b");
+        assertThat(map.merge(1L, "c", String::concat)).isEqualTo("ac");
+
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(0L)).isEqualTo("b");
+        assertThat(map.get(1L)).isEqualTo("ac");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.values()).containsExactlyInAnyOrder("ac", "b");
+    }
+
+    @Test
+    void mergeRehash() {
+        var expected = new ArrayList<String>();
+        for (long key = -5_000; key < 5_000; key++) {
+            map.merge(key, String.valueOf(key), String::concat);
+            expected.add(String.valueOf(key));
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        assertThat(map.get(-5_000L)).isEqualTo("-5000");
+        assertThat(map.get(4_999L)).isEqualTo("4999");
+        assertThat(map.values()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void clear() {
+        map.merge(1L, "a", String::concat);
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.values()).isEmpty();
+    }
+}
@@ -21,6 +21,7 @@ import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
 import static com.hedera.mirror.common.domain.entity.EntityType.SCHEDULE;
 import static com.hedera.mirror.common.domain.entity.EntityType.TOKEN;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Range;
@@ -38,6 +39,7 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.common.domain.file.FileData;
 import com.hedera.mirror.common.domain.schedule.Schedule;
 import com.hedera.mirror.common.domain.token.Nft;
 import com.hedera.mirror.common.domain.token.NftId;
@@ -59,8 +61,10 @@ import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionSignature;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.EnabledIfV1;
 import com.hedera.mirror.importer.IntegrationTest;
 import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.repository.AssessedCustomFeeRepository;
 import com.hedera.mirror.importer.repository.ContractActionRepository;
@@ -96,12 +100,14 @@ import com.hedera.mirror.importer.repository.TransactionSignatureRepository;
 import com.hedera.mirror.importer.util.Utility;
 import com.hederahashgraph.api.proto.java.Key;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
@@ -131,6 +137,7 @@ class SqlEntityListenerTest extends IntegrationTest {
     private final ContractStateRepository contractStateRepository;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
     private final DomainBuilder domainBuilder;
     private final EntityProperties entityProperties;
     private final EntityRepository entityRepository;
@@ -142,6 +149,7 @@ class SqlEntityListenerTest extends IntegrationTest {
     private final NftAllowanceRepository nftAllowanceRepository;
     private final NftTransferRepository nftTransferRepository;
     private final NodeStakeRepository nodeStakeRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
     private final PrngRepository prngRepository;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
@@ -172,6 +180,7 @@ class SqlEntityListenerTest extends IntegrationTest {
         entityProperties.getPersist().setTransactionHash(false);
         entityProperties.getPersist().setTrackBalance(true);
         sqlProperties.setBatchSize(20_000);
+        sqlProperties.setParallelFlush(false);
         sqlEntityListener.onStart();
     }
 
@@ -197,6 +206,131 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void parallelFlush() {
+        // given
+        sqlProperties.setParallelFlush(true);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var contractLog = domainBuilder.contractLog().get();
+        var entity = domainBuilder.entity().get();
+        var schedule = domainBuilder.schedule().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onContractLog(contractLog);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onSchedule(schedule);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(contractLogRepository.findAll()).containsExactly(contractLog);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findById(entity.getId())).isPresent();
+        assertThat(scheduleRepository.findAll()).containsExactly(schedule);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+    }
+
+    @Test
+    void parallelFlushRollback() {
+        // given
+        sqlProperties.setParallelFlush(true);
+        var topicMessage = domainBuilder.topicMessage().get();
+        var transaction = domainBuilder.transaction().get();
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when
+        sqlEntityListener.onTopicMessage(topicMessage);
+        sqlEntityListener.onTransaction(transaction);
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onEnd(recordFile);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(topicMessageRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @EnabledIfV1
+    @Test
+    void parallelFlushPrepareFailure() {
+        // given
+        sqlProperties.setParallelFlush(true);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var recordFile = domainBuilder.recordFile().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // A transaction that operated on a temp table can't be prepared, so the topic message worker fails to prepare
+        jdbcOperations.execute(
+                """
+                create function parallel_flush_failure() returns trigger as $$
+                begin
+                  create temp table if not exists parallel_flush_failure (id int);
+                  return new;
+                end
+                $$ language plpgsql;
+                create trigger parallel_flush_failure before insert on topic_message
+                  for each row execute function parallel_flush_failure();
+                """);
+
+        // when
+        try {
+            sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+            sqlEntityListener.onEntity(entity);
+            sqlEntityListener.onTopicMessage(topicMessage);
+            sqlEntityListener.onTransaction(transaction);
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                            status -> sqlEntityListener.onEnd(recordFile)))
+                    .isInstanceOf(ParserException.class);
+        } finally {
+            jdbcOperations.execute(
+                    """
+                    drop trigger parallel_flush_failure on topic_message;
+                    drop function parallel_flush_failure();
+                    """);
+        }
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(entityRepository.count()).isZero();
+        assertThat(topicMessageRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(jdbcOperations.queryForObject("select count(*) from pg_prepared_xacts", Integer.class))
+                .isZero();
+    }
+
+    @EnabledIfV1
+    @Test
+    void parallelFlushRecover() throws SQLException {
+        // given
+        var committed = domainBuilder.fileData().get();
+        var committedId = jdbcOperations.queryForObject("select txid_current()", Long.class);
+        var rolledBack = domainBuilder.fileData().get();
+        var rolledBackId = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return jdbcOperations.queryForObject("select txid_current()", Long.class);
+        });
+        prepareFileData(committed, ParallelBatchPersister.GID_PREFIX + committedId + "_0");
+        prepareFileData(rolledBack, ParallelBatchPersister.GID_PREFIX + rolledBackId + "_0");
+
+        // when
+        parallelBatchPersister.recover();
+
+        // then
+        assertThat(fileDataRepository.findAll()).containsExactly(committed);
+        assertThat(jdbcOperations.queryForObject("select count(*) from pg_prepared_xacts", Integer.class))
+                .isZero();
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
@@ -219,6 +353,28 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(assessedCustomFeeRepository.findAll()).containsExactly(assessedCustomFee);
     }
 
+    @Test
+    void onEndMultipleRecordFiles() {
+        // given
+        var cryptoTransfer1 = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer2 = domainBuilder.cryptoTransfer().get();
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+        transactionTemplate.executeWithoutResult(
+                status -> sqlEntityListener.onEnd(List.of(recordFile1, recordFile2)));
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrder(cryptoTransfer1, cryptoTransfer2);
+        assertThat(recordFileRepository.findAll()).containsExactlyInAnyOrder(recordFile1, recordFile2);
+        assertThat(sidecarFileRepository.findAll())
+                .containsAll(recordFile1.getSidecars())
+                .containsAll(recordFile2.getSidecars());
+    }
+
     @Test
     void onContract() {
         // given
@@ -564,6 +720,94 @@ class SqlEntityListenerTest extends IntegrationTest {
         assertThat(entityRepository.findAll()).containsOnly(expectedContract);
     }
 
+    @Test
+    void onCryptoTransferBeforeAndAfterEntityUpdate() {
+        // given
+        var account = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .persist();
+        var accountUpdate = domainBuilder
+                .entity()
+                .customize(e -> e.balance(null)
+                        .createdTimestamp(null)
+                        .id(account.getId())
+                        .memo("updated")
+                        .type(ACCOUNT))
+                .get();
+        var cryptoTransfer1 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(-15L).entityId(account.getId()))
+                .get();
+        var cryptoTransfer2 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(30L).entityId(account.getId()))
+                .get();
+        var cryptoTransfer3 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(5L).entityId(domainBuilder.id()))
+                .get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+        sqlEntityListener.onEntity(accountUpdate);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer3);
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns(115L, Entity::getBalance)
+                .returns("updated", Entity::getMemo);
+        assertThat(entityRepository.findById(cryptoTransfer3.getEntityId()))
+                .get()
+                .returns(5L, Entity::getBalance);
+        assertThat(findHistory(Entity.class)).hasSize(1);
+    }
+
+    @Test
+    void onCryptoTransferBetweenEntityUpdates() {
+        // given
+        var account = domainBuilder
+                .entity()
+                .customize(e -> e.balance(100L).type(ACCOUNT))
+                .get();
+        var accountUpdate = domainBuilder
+                .entity()
+                .customize(e -> e.balance(null)
+                        .createdTimestamp(null)
+                        .id(account.getId())
+                        .memo("updated")
+                        .type(ACCOUNT))
+                .get();
+        var cryptoTransfer1 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(-15L).entityId(account.getId()))
+                .get();
+        var cryptoTransfer2 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(30L).entityId(account.getId()))
+                .get();
+
+        // when
+        sqlEntityListener.onEntity(account);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer1);
+        sqlEntityListener.onEntity(accountUpdate);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer2);
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findById(account.getId()))
+                .get()
+                .returns(115L, Entity::getBalance)
+                .returns("updated", Entity::getMemo);
+        assertThat(findHistory(Entity.class))
+                .singleElement()
+                .returns(85L, Entity::getBalance)
+                .returns(accountUpdate.getTimestampLower(), Entity::getTimestampUpper);
+    }
+
     @Test
     void onEndNull() {
         sqlEntityListener.onEnd(null);
@@ -2498,6 +2742,25 @@ class SqlEntityListenerTest extends IntegrationTest {
                 .isEqualTo(ethereumTransaction);
     }
 
+    private void prepareFileData(FileData fileData, String gid) throws SQLException {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.prepareStatement(
+                        "insert into file_data (consensus_timestamp, entity_id, file_data, transaction_type) "
+                                + "values (?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            statement.setLong(1, fileData.getConsensusTimestamp());
+            statement.setLong(2, fileData.getEntityId().getId());
+            statement.setBytes(3, fileData.getFileData());
+            statement.setInt(4, fileData.getTransactionType());
+            statement.execute();
+
+            try (var prepare = connection.createStatement()) {
+                prepare.execute("prepare transaction '" + gid + "'");
+            }
+            connection.setAutoCommit(true);
+        }
+    }
+
     private void completeFileAndCommit() {
         RecordFile recordFile = domainBuilder.recordFile().get();
         transactionTemplate.executeWithoutResult(status -> sqlEntityListener.onEnd(recordFile));
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.google.common.primitives.Bytes;
 import com.google.common.primitives.Ints;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
@@ -96,6 +97,29 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         assertThat(recordFile.getDigestAlgorithm()).isEqualTo(DigestAlgorithm.SHA_384);
     }
 
+    @Test
+    void testItemsReadPerSubscription() {
+        var bytes = gzip(ProtoRecordStreamFile.of(b -> b.addRecordStreamItems(b.getRecordStreamItems(0))));
+        var reader = new ProtoRecordFileReader();
+        var streamFileData = StreamFileData.from(FILENAME, bytes);
+        var recordFile = reader.read(streamFileData);
+
+        var items = recordFile.getItems().collectList().block();
+        assertThat(recordFile.getCount()).isEqualTo(2L);
+        assertThat(items).hasSize(2).extracting(RecordItem::getTransactionIndex).containsExactly(0, 1);
+        assertThat(items.get(1).getPrevious()).isSameAs(items.get(0));
+        // Items aren't cached, so a second subscription reads them again
+        var reread = recordFile.getItems().collectList().block();
+        assertThat(reread).hasSameSizeAs(items);
+        for (int i = 0; i < items.size(); i++) {
+            var expected = items.get(i);
+            assertThat(reread.get(i))
+                    .isNotSameAs(expected)
+                    .returns(expected.getTransaction(), RecordItem::getTransaction)
+                    .returns(expected.getTransactionRecord(), RecordItem::getTransactionRecord);
+        }
+    }
+
     @SneakyThrows
     private byte[] gzip(byte[] data) {
         try (var byteArrayOutputStream = new ByteArrayOutputStream();
@@ -23,6 +23,8 @@ import static com.hedera.mirror.common.domain.job.ReconciliationStatus.SUCCESS;
 import static com.hedera.mirror.common.domain.job.ReconciliationStatus.UNKNOWN;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.FIFTY_BILLION_HBARS;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.METRIC;
+import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.METRIC_CHECKPOINT;
+import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.METRIC_INTERVAL;
 import static com.hedera.mirror.importer.reconciliation.BalanceReconciliationService.TokenAccountId;
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.ACCUMULATE;
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
@@ -72,9 +74,11 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         reconciliationProperties.setDelay(Duration.ZERO);
         reconciliationProperties.setEnabled(true);
         reconciliationProperties.setEndDate(Utility.MAX_INSTANT_LONG);
+        reconciliationProperties.setParallelism(2);
         reconciliationProperties.setRemediationStrategy(FAIL);
         reconciliationProperties.setStartDate(Instant.EPOCH);
         reconciliationProperties.setToken(true);
+        reconciliationProperties.setTransferRange(Duration.ofHours(1L));
         reconciliationService.status.set(UNKNOWN);
     }
 
@@ -177,6 +181,88 @@ class BalanceReconciliationServiceTest extends IntegrationTest {
         assertThat(end - start).isGreaterThanOrEqualTo(delay);
     }
 
+    @Test
+    void parallel() {
+        // given
+        reconciliationProperties.setParallelism(4);
+        reconciliationProperties.setRemediationStrategy(RESET);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        AccountBalanceFile checkpoint = null;
+
+        for (int i = 1; i <= 10; i++) {
+            transfer(2, 3, 1);
+            var balance = balance(Map.of(2L, FIFTY_BILLION_HBARS - i, 3L, (long) i));
+            if (i == 5) {
+                checkpoint = balance;
+                domainBuilder.cryptoTransfer().customize(c -> c.amount(1).entityId(4)).persist();
+            }
+        }
+
+        var timer = meterRegistry.find(METRIC_INTERVAL).timer();
+        long count = timer.count();
+
+        // when
+        reconcile();
+
+        // then
+        long checkpointSeconds = checkpoint.getConsensusTimestamp() / 1_000_000_000L;
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, checkpoint)
+                .returns(10L, ReconciliationJob::getCount)
+                .extracting(ReconciliationJob::getError)
+                .asInstanceOf(InstanceOfAssertFactories.STRING)
+                .contains("only on left={4=1}");
+        assertThat(timer.count()).isEqualTo(count + 10L);
+        assertThat(meterRegistry.find(METRIC_CHECKPOINT).gauge())
+                .isNotNull()
+                .extracting(Gauge::value)
+                .satisfies(v -> assertThat(v.longValue()).isEqualTo(checkpointSeconds));
+    }
+
+    @Test
+    void resumesFromCheckpoint() {
+        // given
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 3, 100);
+        balance(Map.of(2L, FIFTY_BILLION_HBARS - 100, 3L, 100L));
+        transfer(3, 4, 10);
+        var balance3 = balance(Map.of(3L, 90L, 4L, 10L, 2L, FIFTY_BILLION_HBARS - 100));
+        domainBuilder.cryptoTransfer().customize(c -> c.amount(1).entityId(4)).persist();
+        var missingTransfer = domainBuilder.cryptoTransfer().customize(c -> c.amount(-1).entityId(3));
+        var last = balance(Map.of(3L, 89L, 4L, 11L, 2L, FIFTY_BILLION_HBARS - 100));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(FAILURE_CRYPTO_TRANSFERS, balance3).returns(2L, ReconciliationJob::getCount);
+
+        // given
+        missingTransfer.persist();
+
+        // when
+        reconciliationService.reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(1L, ReconciliationJob::getCount);
+    }
+
+    @Test
+    void transferRange() {
+        // given
+        reconciliationProperties.setTransferRange(Duration.ofNanos(1L));
+        balance(Map.of(2L, FIFTY_BILLION_HBARS));
+        transfer(2, 3, 1000);
+        transfer(3, 4, 100);
+        transfer(2, 5, 10);
+        var last = balance(Map.of(2L, FIFTY_BILLION_HBARS - 1010L, 3L, 900L, 4L, 100L, 5L, 10L));
+
+        // when
+        reconcile();
+
+        // then
+        assertReconciliationJob(SUCCESS, last).returns(1L, ReconciliationJob::getCount);
+    }
+
     @Test
     void tokenTransfersSuccess() {
         // given
@@ -16,32 +16,48 @@
 
 package com.hedera.mirror.importer.retention;
 
+import static com.hedera.mirror.importer.retention.RetentionJob.METRIC_BYTES;
+import static com.hedera.mirror.importer.retention.RetentionJob.METRIC_ROWS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.EnabledIfV2;
 import com.hedera.mirror.importer.IntegrationTest;
+import com.hedera.mirror.importer.config.Owner;
+import com.hedera.mirror.importer.db.TimePartition;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.TransactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor(onConstructor = @__(@Autowired))
 class RetentionJobTest extends IntegrationTest {
 
+    private final @Owner JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final TimePartitionService timePartitionService;
     private final TransactionRepository transactionRepository;
+    private TimePartition droppedPartition;
 
     @BeforeEach
     void setup() {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
         retentionProperties.setPeriod(Duration.ofDays(-1L));
@@ -50,7 +66,20 @@ class RetentionJobTest extends IntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(true);
         retentionProperties.setEnabled(false);
+
+        // Recreate the partition dropped by the test so later tests can insert into its range
+        if (droppedPartition != null) {
+            var range = droppedPartition.getTimestampRange();
+            jdbcTemplate.execute(String.format(
+                    "create table %s partition of %s for values from ('%d') to ('%d')",
+                    droppedPartition.getName(),
+                    droppedPartition.getParent(),
+                    range.lowerEndpoint(),
+                    range.upperEndpoint()));
+            droppedPartition = null;
+        }
     }
 
     @Test
@@ -183,8 +212,118 @@ class RetentionJobTest extends IntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void pruneMetrics() {
+        // given
+        recordFile();
+        recordFile();
+        double before = rows("delete");
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(rows("delete") - before).isEqualTo(2.0);
+    }
+
+    @EnabledIfV2
+    @Test
+    void prunePartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setInclude(Set.of("transaction"));
+        var partitions = timePartitionService.getTimePartitions("transaction");
+        var oldest = partitions.get(0);
+        long boundary = partitions.get(1).getTimestampRange().lowerEndpoint();
+        recordFile(oldest.getTimestampRange().lowerEndpoint());
+        var recordFile2 = recordFile(boundary);
+        var recordFile3 = recordFile(boundary + 1);
+        var transaction3 = transactionRepository.findById(recordFile3.getConsensusEnd());
+        retentionProperties.setPeriod(
+                Duration.ofNanos(recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd()));
+        double deletedBefore = rows("delete");
+        droppedPartition = oldest;
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(transactionRepository.findAll()).containsExactly(transaction3.get());
+        assertThat(timePartitionService.getTimePartitions("transaction"))
+                .hasSize(partitions.size() - 1)
+                .doesNotContain(oldest);
+        assertThat(rows("delete") - deletedBefore).isEqualTo(1.0);
+        assertThat(meterRegistry
+                        .find(METRIC_BYTES)
+                        .tags("table", "transaction", "type", "partition")
+                        .counter())
+                .isNotNull()
+                .returns(true, c -> c.count() > 0);
+    }
+
+    @EnabledIfV2
+    @Test
+    void prunePartitionsLockTimeout() throws Exception {
+        // given
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setInclude(Set.of("transaction"));
+        var lockTimeout = retentionProperties.getLockTimeout();
+        retentionProperties.setLockTimeout(Duration.ofMillis(100L));
+        var partitions = timePartitionService.getTimePartitions("transaction");
+        var oldest = partitions.get(0);
+        long boundary = partitions.get(1).getTimestampRange().lowerEndpoint();
+        recordFile(oldest.getTimestampRange().lowerEndpoint());
+        var recordFile2 = recordFile(boundary);
+        var recordFile3 = recordFile(boundary + 1);
+        var transaction3 = transactionRepository.findById(recordFile3.getConsensusEnd());
+        retentionProperties.setPeriod(
+                Duration.ofNanos(recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd()));
+        double deletedBefore = rows("delete");
+
+        // when a reader holds a lock on the table the partition can't be detached before the lock timeout
+        var dataSource = Objects.requireNonNull(jdbcTemplate.getDataSource());
+        try (var reader = dataSource.getConnection();
+                var statement = reader.createStatement()) {
+            reader.setAutoCommit(false);
+            statement.execute("select count(*) from transaction");
+            retentionJob.prune();
+            reader.rollback();
+        } finally {
+            retentionProperties.setLockTimeout(lockTimeout);
+        }
+
+        // then the partition is skipped and its rows are deleted instead
+        assertThat(transactionRepository.findAll()).containsExactly(transaction3.get());
+        assertThat(timePartitionService.getTimePartitions("transaction"))
+                .hasSize(partitions.size())
+                .contains(oldest);
+        assertThat(rows("delete") - deletedBefore).isEqualTo(2.0);
+    }
+
+    private double rows(String type) {
+        return Optional.ofNullable(meterRegistry
+                        .find(METRIC_ROWS)
+                        .tags("table", "transaction", "type", type)
+                        .counter())
+                .map(Counter::count)
+                .orElse(0.0);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
+        return persistTransaction(recordFile);
+    }
+
+    private RecordFile recordFile(long consensusEnd) {
+        var recordFile = domainBuilder
+                .recordFile()
+                .customize(r -> r.consensusStart(consensusEnd).consensusEnd(consensusEnd))
+                .persist();
+        return persistTransaction(recordFile);
+    }
+
+    private RecordFile persistTransaction(RecordFile recordFile) {
         domainBuilder
                 .transaction()
                 .customize(t -> t.consensusTimestamp(recordFile.getConsensusEnd()))
@@ -31,19 +31,27 @@ import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
 import com.hedera.mirror.web3.exception.InvalidTransactionException;
 import com.hedera.mirror.web3.exception.RateLimitException;
+import com.hedera.mirror.web3.service.ClientRateLimiter;
+import com.hedera.mirror.web3.service.ContractCallExecutor;
 import com.hedera.mirror.web3.service.ContractCallService;
 import com.hedera.mirror.web3.service.model.CallServiceParameters;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
 import com.hedera.mirror.web3.viewmodel.ContractCallResponse;
+import com.hedera.mirror.web3.viewmodel.ContractCallTraceResponse;
 import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import io.github.bucket4j.Bucket;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -61,22 +69,48 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 @RestController
 class ContractController {
+    private final ClientRateLimiter clientRateLimiter;
+    private final ContractCallExecutor contractCallExecutor;
     private final ContractCallService contractCallService;
     private final Bucket bucket;
 
     @CrossOrigin(origins = "*")
     @PostMapping(value = "/call")
-    Mono<ContractCallResponse> call(@RequestBody @Valid ContractCallRequest request) {
+    Mono<ContractCallResponse> call(@RequestBody @Valid ContractCallRequest request, ServerHttpRequest httpRequest) {
 
-        if (!bucket.tryConsume(1)) {
-            throw new RateLimitException("Rate limit exceeded.");
+        validateRateLimit(request, httpRequest);
+
+        final var params = constructServiceParameters(request);
+        return contractCallExecutor
+                .execute(() -> contractCallService.processCall(params))
+                .map(ContractCallResponse::new);
+    }
+
+    @CrossOrigin(origins = "*")
+    @PostMapping(value = "/call/trace")
+    Mono<ContractCallTraceResponse> trace(
+            @RequestBody @Valid ContractCallRequest request, ServerHttpRequest httpRequest) {
+
+        if (request.isEstimate()) {
+            throw new InvalidParametersException("Tracing a gas estimate is not supported");
         }
 
+        validateRateLimit(request, httpRequest);
+
         final var params = constructServiceParameters(request);
-        final var result = contractCallService.processCall(params);
-        final var callResponse = new ContractCallResponse(result);
+        return contractCallExecutor
+                .execute(() -> contractCallService.processTrace(params))
+                .map(ContractCallTraceResponse::of);
+    }
 
-        return Mono.just(callResponse);
+    private void validateRateLimit(ContractCallRequest request, ServerHttpRequest httpRequest) {
+        if (!bucket.tryConsume(1)) {
+            throw new RateLimitException("Rate limit exceeded.");
+        }
+
+        if (!clientRateLimiter.tryConsume(httpRequest, request.getGas())) {
+            throw new RateLimitException("Client gas limit exceeded.");
+        }
     }
 
     private CallServiceParameters constructServiceParameters(ContractCallRequest request) {
@@ -97,9 +131,25 @@ class ContractController {
                 .isStatic(isStaticCall)
                 .callType(callType)
                 .isEstimate(request.isEstimate())
+                .block(request.getBlock())
+                .accessList(constructAccessList(request))
                 .build();
     }
 
+    private Map<Address, List<Bytes>> constructAccessList(ContractCallRequest request) {
+        if (request.getAccessList() == null) {
+            return Map.of();
+        }
+
+        final var accessList = new HashMap<Address, List<Bytes>>();
+        for (var entry : request.getAccessList()) {
+            final var storageKeys = accessList.computeIfAbsent(
+                    Address.fromHexString(entry.getAddress()), k -> new ArrayList<>());
+            entry.getStorageKeys().forEach(storageKey -> storageKeys.add(Bytes.fromHexString(storageKey)));
+        }
+        return accessList;
+    }
+
     /** Temporary handler, intended for dealing with forthcoming features that are not yet available, such as the absence of a precompile for gas estimation.**/
     @ExceptionHandler
     @ResponseStatus(NOT_IMPLEMENTED)
@@ -17,13 +17,20 @@
 package com.hedera.mirror.web3.evm.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.hedera.mirror.web3.evm.pricing.RatesAndFeesLoader;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
 import com.hedera.mirror.web3.repository.properties.CacheProperties;
 import com.hedera.services.contracts.gascalculator.GasCalculatorHederaV22;
 import com.hedera.services.fees.BasicHbarCentExchange;
 import com.hedera.services.fees.calculation.BasicFcfsUsagePrices;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.hyperledger.besu.evm.Code;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -42,21 +49,28 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_10MIN = "cacheManager10Min";
     public static final String CACHE_MANAGER_500MS = "cacheManager500Ms";
     public static final String CACHE_MANAGER_STATE = "cacheManagerState";
-    public static final String CACHE_MANAGER_ENTITY = "cacheManagerEntity";
     public static final String CACHE_MANAGER_TOKEN = "cacheManagerToken";
+    public static final String CACHE_MANAGER_HISTORICAL = "cacheManagerHistorical";
+    public static final String CACHE_NAME_BYTECODE = "contract.runtime_bytecode";
+    public static final String CACHE_NAME_CODE = "contract.code";
+    public static final String CACHE_NAME_ENTITY = "entity.id_and_deleted_is_false";
+    public static final String CACHE_NAME_STORAGE = "contract_state.storage";
+    public static final String GAS_ESTIMATION_EXECUTOR = "gasEstimationExecutor";
 
     @Bean(CACHE_MANAGER_STATE)
-    CacheManager cacheManagerState() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheSpecification(cacheProperties.getContractState());
-        return caffeineCacheManager;
-    }
-
-    @Bean(CACHE_MANAGER_ENTITY)
-    CacheManager cacheManagerEntity() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheSpecification(cacheProperties.getEntity());
-        return caffeineCacheManager;
+    StateCacheManager cacheManagerState() {
+        final var stateCacheManager = new StateCacheManager();
+        stateCacheManager.registerCustomCache(
+                CACHE_NAME_BYTECODE, Caffeine.from(cacheProperties.getBytecode()).build());
+        stateCacheManager.registerCustomCache(
+                CACHE_NAME_CODE,
+                Caffeine.from(cacheProperties.getCode())
+                        .weigher((Object key, Object code) -> ((Code) code).getSize())
+                        .build());
+        stateCacheManager.registerCustomCache(CACHE_NAME_ENTITY, Caffeine.from(cacheProperties.getEntity()).build());
+        stateCacheManager.registerCustomCache(
+                CACHE_NAME_STORAGE, Caffeine.from(cacheProperties.getContractState()).build());
+        return stateCacheManager;
     }
 
     @Bean(CACHE_MANAGER_TOKEN)
@@ -73,6 +87,13 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_HISTORICAL)
+    CacheManager cacheManagerHistorical() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getHistorical());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_10MIN)
     @Primary
     CacheManager cacheManager10Min() {
@@ -93,6 +114,26 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    // Shared by all gas estimations, so concurrent requests can't execute more candidates at once than there are cores.
+    // The queue is bounded so a burst of estimates runs the candidates that don't fit on the calling threads instead.
+    @Bean(name = GAS_ESTIMATION_EXECUTOR, destroyMethod = "shutdownNow")
+    ExecutorService gasEstimationExecutor(MirrorNodeEvmProperties mirrorNodeEvmProperties) {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final int queueSize = threads * mirrorNodeEvmProperties.getEstimateGasParallelism();
+        final var threadFactory = new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("gas-estimation-%d")
+                .build();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
     @Bean
     GasCalculatorHederaV22 gasCalculatorHederaV22(
             BasicFcfsUsagePrices usagePricesProvider, BasicHbarCentExchange hbarCentExchange) {
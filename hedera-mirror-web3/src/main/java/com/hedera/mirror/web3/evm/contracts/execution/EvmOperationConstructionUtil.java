@@ -63,7 +63,11 @@ public class EvmOperationConstructionUtil {
 
     public static Map<String, Provider<ContractCreationProcessor>> ccps(
             GasCalculator gasCalculator, MirrorNodeEvmProperties mirrorNodeEvmProperties) {
-        final var evm = constructEvm(gasCalculator, mirrorNodeEvmProperties);
+        return ccps(gasCalculator, constructEvm(gasCalculator, mirrorNodeEvmProperties));
+    }
+
+    public static Map<String, Provider<ContractCreationProcessor>> ccps(
+            final GasCalculator gasCalculator, final EVM evm) {
         return Map.of(
                 EVM_VERSION_0_30,
                 () -> new ContractCreationProcessor(gasCalculator, evm, true, List.of(), 1),
@@ -76,8 +80,18 @@ public class EvmOperationConstructionUtil {
             final StackedStateFrames<Object> stackedStateFrames,
             final MirrorNodeEvmProperties mirrorNodeEvmProperties,
             final PrecompileMapper precompileMapper) {
-        final var evm = constructEvm(gasCalculator, mirrorNodeEvmProperties);
+        return mcps(
+                constructEvm(gasCalculator, mirrorNodeEvmProperties),
+                stackedStateFrames,
+                mirrorNodeEvmProperties,
+                precompileMapper);
+    }
 
+    public static Map<String, Provider<MessageCallProcessor>> mcps(
+            final EVM evm,
+            final StackedStateFrames<Object> stackedStateFrames,
+            final MirrorNodeEvmProperties mirrorNodeEvmProperties,
+            final PrecompileMapper precompileMapper) {
         return Map.of(
                 EVM_VERSION_0_30,
                 () -> new MessageCallProcessor(evm, new PrecompileContractRegistry()),
@@ -102,7 +116,11 @@ public class EvmOperationConstructionUtil {
         return hederaPrecompiles;
     }
 
-    private static EVM constructEvm(GasCalculator gasCalculator, MirrorNodeEvmProperties mirrorNodeEvmProperties) {
+    /**
+     * The EVM caches the analysed code of nested calls by code hash, so an EVM shared by executions reuses the analysis
+     * of contracts called by other calls. Its operations hold no per execution state.
+     */
+    public static EVM constructEvm(GasCalculator gasCalculator, MirrorNodeEvmProperties mirrorNodeEvmProperties) {
         var operationRegistry = new OperationRegistry();
         BiPredicate<Address, MessageFrame> validator = (Address x, MessageFrame y) -> true;
 
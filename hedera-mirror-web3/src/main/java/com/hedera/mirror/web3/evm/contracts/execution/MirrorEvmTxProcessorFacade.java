@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.evm.contracts.execution;
 
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.DelegatingOperationTracer;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import java.time.Instant;
@@ -31,4 +32,18 @@ public interface MirrorEvmTxProcessorFacade {
             final Bytes callData,
             final Instant consensusTimestamp,
             final boolean isStatic);
+
+    /**
+     * Same as {@link #execute(HederaEvmAccount, Address, long, long, Bytes, Instant, boolean)} but also passes the
+     * operations to the tracer, like the call depth tracer recording the deepest call reached by the transaction.
+     */
+    HederaEvmTransactionProcessingResult execute(
+            final HederaEvmAccount sender,
+            final Address receiver,
+            final long providedGasLimit,
+            final long value,
+            final Bytes callData,
+            final Instant consensusTimestamp,
+            final boolean isStatic,
+            final DelegatingOperationTracer tracer);
 }
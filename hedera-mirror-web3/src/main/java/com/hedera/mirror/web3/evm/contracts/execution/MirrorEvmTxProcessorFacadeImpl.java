@@ -17,10 +17,12 @@
 package com.hedera.mirror.web3.evm.contracts.execution;
 
 import static com.hedera.mirror.web3.evm.contracts.execution.EvmOperationConstructionUtil.ccps;
+import static com.hedera.mirror.web3.evm.contracts.execution.EvmOperationConstructionUtil.constructEvm;
 import static com.hedera.mirror.web3.evm.contracts.execution.EvmOperationConstructionUtil.mcps;
 
 import com.hedera.mirror.web3.evm.account.AccountAccessorImpl;
 import com.hedera.mirror.web3.evm.account.MirrorEvmContractAliases;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.DelegatingOperationTracer;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.MirrorOperationTracer;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.evm.properties.StaticBlockMetaSource;
@@ -29,12 +31,11 @@ import com.hedera.mirror.web3.evm.store.StackedStateFrames;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.contract.EntityAddressSequencer;
 import com.hedera.mirror.web3.evm.store.contract.HederaEvmWorldState;
+import com.hedera.mirror.web3.evm.store.contract.MirrorCodeCache;
 import com.hedera.mirror.web3.evm.store.contract.MirrorEntityAccess;
 import com.hedera.mirror.web3.evm.store.contract.precompile.PrecompileMapper;
 import com.hedera.mirror.web3.evm.token.TokenAccessorImpl;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
-import com.hedera.node.app.service.evm.store.contracts.AbstractCodeCache;
-import com.hedera.node.app.service.evm.store.contracts.HederaEvmMutableWorldState;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import com.hedera.services.contracts.gascalculator.GasCalculatorHederaV22;
 import jakarta.inject.Named;
@@ -42,19 +43,23 @@ import java.time.Instant;
 import java.util.List;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.EVM;
 
 @Named
 @SuppressWarnings("java:S107")
 public class MirrorEvmTxProcessorFacadeImpl implements MirrorEvmTxProcessorFacade {
 
+    private final MirrorEntityAccess entityAccess;
     private final MirrorNodeEvmProperties evmProperties;
     private final MirrorOperationTracer mirrorOperationTracer;
     private final StaticBlockMetaSource blockMetaSource;
-    private final MirrorEvmContractAliases mirrorEvmContractAliases;
     private final PricesAndFeesImpl pricesAndFees;
-    private final AbstractCodeCache codeCache;
-    private final HederaEvmMutableWorldState worldState;
+    private final AccountAccessorImpl accountAccessor;
+    private final TokenAccessorImpl tokenAccessor;
+    private final MirrorCodeCache codeCache;
+    private final EVM evm;
     private final GasCalculatorHederaV22 gasCalculator;
+    private final EntityAddressSequencer entityAddressSequencer;
     private final List<DatabaseAccessor<Object, ?>> databaseAccessors;
 
     @SuppressWarnings("java:S107")
@@ -68,30 +73,21 @@ public class MirrorEvmTxProcessorFacadeImpl implements MirrorEvmTxProcessorFacad
             final TokenAccessorImpl tokenAccessor,
             final GasCalculatorHederaV22 gasCalculator,
             final EntityAddressSequencer entityAddressSequencer,
-            final List<DatabaseAccessor<Object, ?>> databaseAccessors) {
+            final List<DatabaseAccessor<Object, ?>> databaseAccessors,
+            final MirrorCodeCache codeCache) {
+        this.entityAccess = entityAccess;
         this.evmProperties = evmProperties;
         this.blockMetaSource = blockMetaSource;
-        this.mirrorEvmContractAliases = new MirrorEvmContractAliases(entityAccess);
-        this.mirrorOperationTracer = new MirrorOperationTracer(traceProperties, mirrorEvmContractAliases);
+        this.mirrorOperationTracer =
+                new MirrorOperationTracer(traceProperties, new MirrorEvmContractAliases(entityAccess));
         this.pricesAndFees = pricesAndFees;
+        this.accountAccessor = accountAccessor;
+        this.tokenAccessor = tokenAccessor;
         this.gasCalculator = gasCalculator;
+        this.entityAddressSequencer = entityAddressSequencer;
         this.databaseAccessors = databaseAccessors;
-
-        final int expirationCacheTime =
-                (int) evmProperties.getExpirationCacheTime().toSeconds();
-
-        this.codeCache = new AbstractCodeCache(expirationCacheTime, entityAccess);
-        final var stackedStateFrames = new StackedStateFrames<>(databaseAccessors);
-
-        this.worldState = new HederaEvmWorldState(
-                entityAccess,
-                evmProperties,
-                codeCache,
-                accountAccessor,
-                tokenAccessor,
-                entityAddressSequencer,
-                mirrorEvmContractAliases,
-                stackedStateFrames);
+        this.codeCache = codeCache;
+        this.evm = constructEvm(gasCalculator, evmProperties);
     }
 
     @Override
@@ -103,20 +99,52 @@ public class MirrorEvmTxProcessorFacadeImpl implements MirrorEvmTxProcessorFacad
             final Bytes callData,
             final Instant consensusTimestamp,
             final boolean isStatic) {
+        return execute(sender, receiver, providedGasLimit, value, callData, consensusTimestamp, isStatic, null);
+    }
+
+    /**
+     * Each execution gets its own stacked state frames, aliases and world state on top of them, so concurrent
+     * executions, like the candidate gas limits of a gas estimation, don't see each other's state changes.
+     */
+    @Override
+    public HederaEvmTransactionProcessingResult execute(
+            final HederaEvmAccount sender,
+            final Address receiver,
+            final long providedGasLimit,
+            final long value,
+            final Bytes callData,
+            final Instant consensusTimestamp,
+            final boolean isStatic,
+            final DelegatingOperationTracer tracer) {
         final var stackedStateFrames = new StackedStateFrames<>(databaseAccessors);
+        final var mirrorEvmContractAliases = new MirrorEvmContractAliases(entityAccess);
+        final var worldState = new HederaEvmWorldState(
+                entityAccess,
+                evmProperties,
+                codeCache,
+                accountAccessor,
+                tokenAccessor,
+                entityAddressSequencer,
+                mirrorEvmContractAliases,
+                stackedStateFrames);
 
         final var processor = new MirrorEvmTxProcessor(
                 worldState,
                 pricesAndFees,
                 evmProperties,
                 gasCalculator,
-                mcps(gasCalculator, stackedStateFrames, evmProperties, new PrecompileMapper()),
-                ccps(gasCalculator, evmProperties),
+                mcps(evm, stackedStateFrames, evmProperties, new PrecompileMapper()),
+                ccps(gasCalculator, evm),
                 blockMetaSource,
                 mirrorEvmContractAliases,
                 codeCache);
 
-        processor.setOperationTracer(mirrorOperationTracer);
+        if (tracer != null) {
+            tracer.setDelegate(mirrorOperationTracer);
+            processor.setOperationTracer(tracer);
+        } else {
+            processor.setOperationTracer(mirrorOperationTracer);
+        }
 
         return processor.execute(sender, receiver, providedGasLimit, value, callData, consensusTimestamp, isStatic);
     }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import lombok.Getter;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+
+/**
+ * Records the deepest message frame reached by a transaction, so gas estimation can account for the 1/64 of the
+ * remaining gas withheld from each nested call. Operations are passed on to the delegate tracer, if any.
+ */
+public class CallDepthTracer extends DelegatingOperationTracer {
+
+    @Getter
+    private int maxCallDepth;
+
+    @Override
+    public void tracePostExecution(final MessageFrame currentFrame, final Operation.OperationResult operationResult) {
+        maxCallDepth = Math.max(maxCallDepth, currentFrame.getMessageStackDepth());
+        super.tracePostExecution(currentFrame, operationResult);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+
+/**
+ * A message frame of a traced call in the shape of the geth call tracer's frames, with the storage accessed by the
+ * frame itself. The storage maps hold the first value read and the last value written to each slot.
+ */
+@Data
+public class CallFrame {
+    private List<CallFrame> calls = new ArrayList<>();
+    private String error;
+    private Address from;
+    private long gas;
+    private long gasUsed;
+    private Bytes input = Bytes.EMPTY;
+    private Bytes output = Bytes.EMPTY;
+    private boolean precompile;
+    private String revertReason;
+    private Map<Bytes, Bytes> storageReads = new LinkedHashMap<>();
+    private Map<Bytes, Bytes> storageWrites = new LinkedHashMap<>();
+    private Address to;
+    private boolean truncated;
+    private String type;
+    private long value;
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import static com.hedera.mirror.web3.convert.BytesDecoder.maybeDecodeSolidityErrorStringToReadableMessage;
+
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.Getter;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+
+/**
+ * Builds the tree of message frames executed by a call, like the geth call tracer. Besu only reports operations, so a
+ * child frame is recognized when an operation suspends its parent, and it's completed when the parent resumes. In the
+ * same way, a storage access is only recorded once its frame executes the next operation, so an access that halted the
+ * frame isn't recorded. Frames deeper than the maximum depth and any frames or storage accesses past the maximum number
+ * of entries aren't traced, and their parent frame is marked as truncated instead.
+ */
+public class CallTracer extends DelegatingOperationTracer {
+
+    static final String REVERTED = "execution reverted";
+    private static final Set<Integer> PRECOMPILES = Set.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 0x167, 0x168, 0x169);
+
+    private final Map<MessageFrame, TracedFrame> frames = new IdentityHashMap<>();
+    private final int maxDepth;
+    private final int maxEntries;
+
+    @Getter
+    private final CallFrame root;
+
+    private int entries;
+
+    /**
+     * @param root       the frame of the call, which must have its type, addresses, gas, value and input set
+     * @param maxDepth   the maximum depth of a traced frame, where the call is at depth 0
+     * @param maxEntries the maximum number of traced frames and storage accesses
+     */
+    public CallTracer(final CallFrame root, final int maxDepth, final int maxEntries) {
+        this.root = root;
+        this.maxDepth = maxDepth;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void tracePreExecution(final MessageFrame currentFrame) {
+        var traced = frames.get(currentFrame);
+        if (traced == null && frames.isEmpty() && currentFrame.getMessageStackDepth() == 0) {
+            traced = new TracedFrame(root);
+            frames.put(currentFrame, traced);
+        }
+
+        if (traced != null) {
+            traced.resume();
+            traced.pending = storageAccess(currentFrame, traced.call);
+        }
+
+        super.tracePreExecution(currentFrame);
+    }
+
+    @Override
+    public void tracePostExecution(final MessageFrame currentFrame, final Operation.OperationResult operationResult) {
+        final var traced = frames.get(currentFrame);
+        if (traced != null && currentFrame.getState() == MessageFrame.State.CODE_SUSPENDED) {
+            final var child = currentFrame.getMessageFrameStack().peekFirst();
+            if (child != null && child != currentFrame) {
+                traced.pending = enter(currentFrame, child, traced.call);
+            }
+        }
+
+        super.tracePostExecution(currentFrame, operationResult);
+    }
+
+    @Override
+    public void tracePrecompileCall(final MessageFrame frame, final long gasRequirement, final Bytes output) {
+        final var traced = frames.get(frame);
+        if (traced != null) {
+            traced.call.setPrecompile(true);
+        }
+
+        super.tracePrecompileCall(frame, gasRequirement, output);
+    }
+
+    /**
+     * Completes the call's frame with the result of the transaction
+     *
+     * @param result the result of the call
+     * @return the call's frame
+     */
+    public CallFrame complete(final HederaEvmTransactionProcessingResult result) {
+        root.setGasUsed(result.getGasUsed());
+        root.setOutput(result.getOutput() != null ? result.getOutput() : Bytes.EMPTY);
+        if (!result.isSuccessful()) {
+            final var revertReason = result.getRevertReason();
+            if (revertReason.isPresent()) {
+                revert(root, revertReason.get());
+            } else {
+                root.setError(result.getHaltReason()
+                        .map(ExceptionalHaltReason::getDescription)
+                        .orElse("execution failed"));
+            }
+        }
+
+        frames.clear();
+        return root;
+    }
+
+    private Runnable enter(final MessageFrame parent, final MessageFrame child, final CallFrame parentCall) {
+        if (parent.getMessageStackDepth() >= maxDepth || !addEntry()) {
+            parentCall.setTruncated(true);
+            return null;
+        }
+
+        final var creation = child.getType() == MessageFrame.Type.CONTRACT_CREATION;
+        final var call = new CallFrame();
+        call.setFrom(child.getSenderAddress());
+        call.setGas(child.getRemainingGas());
+        call.setInput(creation ? child.getCode().getBytes() : child.getInputData());
+        call.setPrecompile(isPrecompile(child.getContractAddress()));
+        call.setTo(child.getContractAddress());
+        call.setType(parent.getCurrentOperation().getName());
+        call.setValue(child.getValue().toLong());
+        parentCall.getCalls().add(call);
+        frames.put(child, new TracedFrame(call));
+
+        return () -> {
+            frames.remove(child);
+            call.setGasUsed(call.getGas() - child.getRemainingGas());
+            call.setOutput(child.getOutputData());
+            if (child.getState() != MessageFrame.State.COMPLETED_FAILED) {
+                return;
+            }
+
+            final var revertReason = child.getRevertReason();
+            if (revertReason.isPresent()) {
+                revert(call, revertReason.get());
+            } else {
+                call.setError(child.getExceptionalHaltReason()
+                        .map(ExceptionalHaltReason::getDescription)
+                        .orElse("execution failed"));
+            }
+        };
+    }
+
+    private Runnable storageAccess(final MessageFrame frame, final CallFrame call) {
+        final var operation = frame.getCurrentOperation().getName();
+        if ("SLOAD".equals(operation) && frame.stackSize() >= 1) {
+            final var slot = Bytes32.leftPad(frame.getStackItem(0)).copy();
+            return () -> {
+                if (!call.getStorageReads().containsKey(slot) && addEntry(call)) {
+                    call.getStorageReads().put(slot, Bytes32.leftPad(frame.getStackItem(0)).copy());
+                }
+            };
+        } else if ("SSTORE".equals(operation) && frame.stackSize() >= 2) {
+            final var slot = Bytes32.leftPad(frame.getStackItem(0)).copy();
+            final var value = Bytes32.leftPad(frame.getStackItem(1)).copy();
+            return () -> {
+                if (call.getStorageWrites().containsKey(slot) || addEntry(call)) {
+                    call.getStorageWrites().put(slot, value);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    private boolean addEntry() {
+        if (entries >= maxEntries) {
+            return false;
+        }
+
+        entries++;
+        return true;
+    }
+
+    private boolean addEntry(final CallFrame call) {
+        if (addEntry()) {
+            return true;
+        }
+
+        call.setTruncated(true);
+        return false;
+    }
+
+    private static boolean isPrecompile(final Address address) {
+        return address.numberOfLeadingZeroBytes() >= Address.SIZE - 2
+                && PRECOMPILES.contains(address.slice(Address.SIZE - 2).toInt());
+    }
+
+    private static void revert(final CallFrame call, final Bytes revertReason) {
+        call.setError(REVERTED);
+        call.setOutput(revertReason);
+        final var reason = maybeDecodeSolidityErrorStringToReadableMessage(revertReason);
+        if (!reason.isEmpty()) {
+            call.setRevertReason(reason);
+        }
+    }
+
+    private static final class TracedFrame {
+        private final CallFrame call;
+        private Runnable pending;
+
+        private TracedFrame(final CallFrame call) {
+            this.call = call;
+        }
+
+        private void resume() {
+            final var action = pending;
+            pending = null;
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import com.hedera.node.app.service.evm.contracts.execution.traceability.HederaEvmOperationTracer;
+import lombok.Setter;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+
+/**
+ * A tracer that a call passes to the transaction processor to observe the execution. Operations are passed on to the
+ * delegate tracer, if any, so the configured log tracer still sees them.
+ */
+public abstract class DelegatingOperationTracer implements HederaEvmOperationTracer {
+
+    @Setter
+    private HederaEvmOperationTracer delegate;
+
+    @Override
+    public void tracePreExecution(final MessageFrame currentFrame) {
+        if (delegate != null) {
+            delegate.tracePreExecution(currentFrame);
+        }
+    }
+
+    @Override
+    public void tracePostExecution(final MessageFrame currentFrame, final Operation.OperationResult operationResult) {
+        if (delegate != null) {
+            delegate.tracePostExecution(currentFrame, operationResult);
+        }
+    }
+
+    @Override
+    public void tracePrecompileCall(final MessageFrame frame, final long gasRequirement, final Bytes output) {
+        if (delegate != null) {
+            delegate.tracePrecompileCall(frame, gasRequirement, output);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.pricing;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Parser;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import java.time.Instant;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * An in-memory timeline of the versions of a system file built from its file data in consensus order. A version is
+ * effective from the consensus timestamp of the create, update or append producing it until the next version. Like
+ * consensus nodes, content that can't be parsed, such as a large file partially uploaded by an update followed by
+ * appends, leaves the previous version in effect.
+ *
+ * @param <T> the type of the file's content
+ */
+@CustomLog
+@RequiredArgsConstructor
+final class FileTimeline<T> {
+
+    @Getter
+    private final EntityId fileId;
+    private final Parser<T> parser;
+    private final NavigableMap<Long, T> versions = new ConcurrentSkipListMap<>();
+    private byte[] content = ArrayUtils.EMPTY_BYTE_ARRAY;
+
+    @Getter
+    private volatile long firstTimestamp = Long.MAX_VALUE;
+
+    @Getter
+    private volatile long lastTimestamp = 0L;
+
+    @Getter
+    @Setter
+    private volatile Instant refreshedAt = Instant.EPOCH;
+
+    /**
+     * Gets the version of the file effective at a timestamp.
+     *
+     * @param timestamp the consensus timestamp in nanoseconds
+     * @return the version effective at the timestamp or null if the file had no valid content yet
+     */
+    T get(long timestamp) {
+        final var entry = versions.floorEntry(timestamp);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    /**
+     * Applies the next file data of the file, which must be later than all file data applied so far.
+     *
+     * @param fileData the file data of a create, update or append of the file
+     */
+    synchronized void apply(FileData fileData) {
+        final long timestamp = fileData.getConsensusTimestamp();
+        if (timestamp <= lastTimestamp) {
+            return;
+        }
+
+        lastTimestamp = timestamp;
+        final var data = fileData.getFileData() != null ? fileData.getFileData() : ArrayUtils.EMPTY_BYTE_ARRAY;
+        if (fileData.transactionTypeIsAppend()) {
+            content = ArrayUtils.addAll(content, data);
+        } else if (data.length > 0 || fileData.getTransactionType() == TransactionType.FILECREATE.getProtoId()) {
+            content = data;
+        } else {
+            // An update without contents only changes the file's metadata
+            return;
+        }
+
+        firstTimestamp = Math.min(firstTimestamp, timestamp);
+
+        try {
+            final var version = parser.parseFrom(content);
+            final var previous = versions.lastEntry();
+            if (previous == null || !previous.getValue().equals(version)) {
+                versions.put(timestamp, version);
+            }
+        } catch (InvalidProtocolBufferException e) {
+            log.debug("Unable to parse file {} at {}, keeping its previous version", fileId, timestamp);
+        }
+    }
+}
@@ -18,66 +18,118 @@ package com.hedera.mirror.web3.evm.pricing;
 
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_FEE;
 
-import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Parser;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.repository.FileDataRepository;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
 import jakarta.inject.Named;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 
 /**
- * Rates and fees loader, currently working only with current timestamp.
+ * Rates and fees loader resolving the exchange rates and fee schedules effective at any timestamp from in-memory
+ * timelines of the 0.0.112 and 0.0.111 files. A timeline is refreshed with the file data after its latest timestamp
+ * when a later timestamp is requested, at most once per refresh interval.
  */
 @Named
 @RequiredArgsConstructor
 @CustomLog
 public class RatesAndFeesLoader {
-    private final FileDataRepository fileDataRepository;
+    static final String CACHE_NAME = "rates_and_fee.timeline";
+    static final int REFRESH_BATCH_SIZE = 1000;
+
     private static final EntityId EXCHANGE_RATE_ENTITY_ID = new EntityId(0L, 0L, 112L, EntityType.FILE);
     private static final EntityId FEE_SCHEDULE_ENTITY_ID = new EntityId(0L, 0L, 111L, EntityType.FILE);
 
+    @Qualifier(CACHE_MANAGER_FEE)
+    private final CacheManager cacheManager;
+
+    private final FileDataRepository fileDataRepository;
+    private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
+
     /**
-     * Loads the exchange rates for a given time. Currently, works only with current timestamp.
+     * Loads the exchange rates effective at a given time.
      * @param nanoSeconds timestamp
      * @return exchange rates set
      */
-    @Cacheable(
-            cacheNames = "rates_and_fee.exchange_rate",
-            cacheManager = CACHE_MANAGER_FEE,
-            key = "'now'",
-            unless = "#result == null")
     public ExchangeRateSet loadExchangeRates(final long nanoSeconds) {
-        final var ratesFile = fileDataRepository.getFileAtTimestamp(EXCHANGE_RATE_ENTITY_ID.getId(), nanoSeconds);
-        try {
-            return ExchangeRateSet.parseFrom(ratesFile);
-        } catch (InvalidProtocolBufferException e) {
-            log.warn("Corrupt rate file at {}, may require remediation!", EXCHANGE_RATE_ENTITY_ID, e);
-            throw new IllegalStateException(String.format("Rates %s are corrupt!", EXCHANGE_RATE_ENTITY_ID));
+        final var timeline = getTimeline(EXCHANGE_RATE_ENTITY_ID, ExchangeRateSet.parser());
+        final var exchangeRates = load(timeline, nanoSeconds);
+
+        if (exchangeRates == null) {
+            if (nanoSeconds >= timeline.getFirstTimestamp()) {
+                log.warn("Corrupt rate file at {}, may require remediation!", EXCHANGE_RATE_ENTITY_ID);
+                throw new IllegalStateException(String.format("Rates %s are corrupt!", EXCHANGE_RATE_ENTITY_ID));
+            }
+            throw new IllegalStateException(
+                    String.format("Rates %s are not found at %d", EXCHANGE_RATE_ENTITY_ID, nanoSeconds));
         }
+
+        return exchangeRates;
     }
 
     /**
-     * Load the fee schedules for a given time. Currently, works only with current timestamp.
+     * Load the fee schedules effective at a given time.
      * @param nanoSeconds timestamp
      * @return current and next fee schedules
      */
-    @Cacheable(
-            cacheNames = "rates_and_fee.fee_schedules",
-            cacheManager = CACHE_MANAGER_FEE,
-            key = "'now'",
-            unless = "#result == null")
     public CurrentAndNextFeeSchedule loadFeeSchedules(final long nanoSeconds) {
-        final var feeScheduleFile = fileDataRepository.getFileAtTimestamp(FEE_SCHEDULE_ENTITY_ID.getId(), nanoSeconds);
+        final var timeline = getTimeline(FEE_SCHEDULE_ENTITY_ID, CurrentAndNextFeeSchedule.parser());
+        final var feeSchedules = load(timeline, nanoSeconds);
+
+        if (feeSchedules == null) {
+            if (nanoSeconds >= timeline.getFirstTimestamp()) {
+                log.warn("Corrupt fee schedules file at {}, may require remediation!", FEE_SCHEDULE_ENTITY_ID);
+                throw new IllegalStateException(String.format("Fee schedule %s is corrupt!", FEE_SCHEDULE_ENTITY_ID));
+            }
+            throw new IllegalStateException(
+                    String.format("Fee schedule %s is not found at %d", FEE_SCHEDULE_ENTITY_ID, nanoSeconds));
+        }
+
+        return feeSchedules;
+    }
+
+    private <T> FileTimeline<T> getTimeline(EntityId fileId, Parser<T> parser) {
+        final var cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME));
+        return cache.get(fileId.getId(), () -> new FileTimeline<>(fileId, parser));
+    }
+
+    private <T> T load(FileTimeline<T> timeline, long nanoSeconds) {
+        if (nanoSeconds > timeline.getLastTimestamp()) {
+            refresh(timeline);
+        }
+        return timeline.get(nanoSeconds);
+    }
+
+    private void refresh(FileTimeline<?> timeline) {
+        final var refreshInterval = mirrorNodeEvmProperties.getRatesAndFeesRefreshInterval();
+        if (Instant.now().isBefore(timeline.getRefreshedAt().plus(refreshInterval))) {
+            return;
+        }
+
+        synchronized (timeline) {
+            final var now = Instant.now();
+            if (now.isBefore(timeline.getRefreshedAt().plus(refreshInterval))) {
+                return;
+            }
+
+            List<FileData> fileData;
+            do {
+                fileData = fileDataRepository.findFileDataAfter(
+                        timeline.getFileId().getId(), timeline.getLastTimestamp(), REFRESH_BATCH_SIZE);
+                fileData.forEach(timeline::apply);
+            } while (fileData.size() == REFRESH_BATCH_SIZE);
 
-        try {
-            return CurrentAndNextFeeSchedule.parseFrom(feeScheduleFile);
-        } catch (InvalidProtocolBufferException e) {
-            log.warn("Corrupt fee schedules file at {}, may require remediation!", FEE_SCHEDULE_ENTITY_ID, e);
-            throw new IllegalStateException(String.format("Fee schedule %s is corrupt!", FEE_SCHEDULE_ENTITY_ID));
+            timeline.setRefreshedAt(now);
         }
     }
 }
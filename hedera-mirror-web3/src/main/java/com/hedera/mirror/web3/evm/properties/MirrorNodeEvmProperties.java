@@ -47,6 +47,12 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private long estimateGasIterationThreshold = 4200L;
 
+    // number of candidate gas limits executed concurrently per round of gas estimation, 1 to use a binary search
+    @Getter
+    @Min(1)
+    @Max(32)
+    private int estimateGasParallelism = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -83,6 +89,18 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @DurationMin(seconds = 100)
     private Duration rateLimit = Duration.ofSeconds(100L);
 
+    // how often the exchange rates and fee schedules are refreshed with new file data for calls after the latest one
+    @Getter
+    @NotNull
+    @DurationMin(millis = 100)
+    private Duration ratesAndFeesRefreshInterval = Duration.ofSeconds(10L);
+
+    // maximum number of storage slots prefetched in one query per contract before a call, 0 to disable prefetching
+    @Getter
+    @Min(0)
+    @Max(1024)
+    private int storagePrefetchMaxSlots = 256;
+
     @Override
     public boolean isRedirectTokenCallsEnabled() {
         return directTokenCall;
@@ -17,6 +17,7 @@
 package com.hedera.mirror.web3.evm.properties;
 
 import com.hedera.mirror.web3.evm.exception.MissingResultException;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.node.app.service.evm.contracts.execution.BlockMetaSource;
 import com.hedera.node.app.service.evm.contracts.execution.HederaBlockValues;
@@ -40,10 +41,10 @@ public class StaticBlockMetaSource implements BlockMetaSource {
 
     @Override
     public BlockValues computeBlockValues(long gasLimit) {
-        final var latestRecordFile = recordFileRepository
-                .findLatest()
+        final var recordFile = BlockContext.getRecordFile()
+                .or(recordFileRepository::findLatest)
                 .orElseThrow(() -> new MissingResultException("No record file available."));
         return new HederaBlockValues(
-                gasLimit, latestRecordFile.getIndex(), Instant.ofEpochSecond(0, latestRecordFile.getConsensusStart()));
+                gasLimit, recordFile.getIndex(), Instant.ofEpochSecond(0, recordFile.getConsensusStart()));
     }
 }
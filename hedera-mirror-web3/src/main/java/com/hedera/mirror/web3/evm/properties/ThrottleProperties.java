@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.Set;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "hedera.mirror.web3.evm.throttle")
+public class ThrottleProperties {
+
+    // The request header identifying a client, which is identified by its remote address otherwise
+    @NotBlank
+    private String apiKeyHeader = "X-API-Key";
+
+    // The API keys a client can be identified by, since any other value of the header could be changed by the client
+    @NotNull
+    private Set<String> apiKeys = Set.of();
+
+    // The header the load balancer appends the client address to, which is used instead of the remote address if set
+    private String clientAddressHeader;
+
+    // The gas a client can request per second, which must cover the maximum gas of a call
+    @Min(15_000_000)
+    private long clientGasPerSecond = 1_500_000_000L;
+
+    @NotBlank
+    private String clients = "expireAfterAccess=1m,maximumSize=100000";
+
+    // The maximum number of calls waiting for each execution thread before further calls are rejected
+    @Min(1)
+    private int executionQueueSize = 100;
+
+    @Min(1)
+    private int executionThreads = Runtime.getRuntime().availableProcessors();
+}
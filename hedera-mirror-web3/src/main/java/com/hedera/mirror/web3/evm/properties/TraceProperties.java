@@ -19,6 +19,8 @@ package com.hedera.mirror.web3.evm.properties;
 import static com.hedera.mirror.web3.viewmodel.ContractCallRequest.ADDRESS_LENGTH;
 
 import com.hedera.mirror.web3.validation.Hex;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Data;
@@ -37,6 +39,15 @@ public class TraceProperties {
     @NonNull
     private Set<@Hex(minLength = ADDRESS_LENGTH, maxLength = ADDRESS_LENGTH) String> contract = new HashSet<>();
 
+    // The maximum depth of a nested call in the trace of a call, where the call itself is at depth 0
+    @Min(0)
+    @Max(1024)
+    private int maxDepth = 64;
+
+    // The maximum number of nested calls and storage accesses in the trace of a call
+    @Min(1)
+    private int maxEntries = 10_000;
+
     @NonNull
     private Set<State> status = new HashSet<>();
 
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Holds the record file of the block a contract call is executed against. For a historical block, the database
+ * accessors read the state as of the end of that block. Otherwise, the block is the latest one advertised to the EVM and
+ * the accessors read the latest state. A thread local carries the block through the EVM library without changing its
+ * interfaces, so work handed off to another thread has to be wrapped with {@link #propagate(Supplier)}.
+ */
+@UtilityClass
+public class BlockContext {
+
+    private static final ThreadLocal<Block> BLOCK = new ThreadLocal<>();
+
+    public static Optional<RecordFile> getRecordFile() {
+        return Optional.ofNullable(BLOCK.get()).map(Block::recordFile);
+    }
+
+    /**
+     * @return the consensus timestamp the state should be read as of, or empty to read the latest state
+     */
+    public static Optional<Long> getTimestamp() {
+        return Optional.ofNullable(BLOCK.get())
+                .filter(Block::historical)
+                .map(block -> block.recordFile().getConsensusEnd());
+    }
+
+    /**
+     * Runs the supplier against the block of the record file, or the latest block if it's null
+     *
+     * @param recordFile the record file of the block
+     * @param historical whether to read the state as of the end of the block instead of the latest state
+     * @param supplier   the contract call
+     * @return the result of the supplier
+     */
+    public static <T> T run(final RecordFile recordFile, final boolean historical, final Supplier<T> supplier) {
+        final var previous = BLOCK.get();
+        BLOCK.set(recordFile != null ? new Block(recordFile, historical) : null);
+        try {
+            return supplier.get();
+        } finally {
+            BLOCK.set(previous);
+        }
+    }
+
+    /**
+     * Captures the block of the current thread, so the supplier can be executed against it on another thread
+     *
+     * @param supplier the contract call
+     * @return a supplier running the contract call against the block of the current thread
+     */
+    public static <T> Supplier<T> propagate(final Supplier<T> supplier) {
+        final var block = BLOCK.get();
+        return () -> {
+            final var previous = BLOCK.get();
+            BLOCK.set(block);
+            try {
+                return supplier.get();
+            } finally {
+                BLOCK.set(previous);
+            }
+        };
+    }
+
+    private record Block(RecordFile recordFile, boolean historical) {}
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.experimental.UtilityClass;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Records the storage slots the EVM reads from the database accessors on the current thread, grouped by contract id. The
+ * slots read by a call are used to prefetch the slots of the next similar call. Like {@link BlockContext}, a thread local
+ * carries the recorder through the EVM library, so reads made by work handed off to another thread aren't recorded.
+ */
+@UtilityClass
+public class StorageAccessContext {
+
+    private static final ThreadLocal<Map<Long, Set<Bytes>>> ACCESSES = new ThreadLocal<>();
+
+    // Copied so the slot compares equal to the same slot wrapped in any other Bytes type
+    public static void record(final long contractId, final Bytes slot) {
+        final var accesses = ACCESSES.get();
+        if (accesses != null) {
+            accesses.computeIfAbsent(contractId, k -> new HashSet<>()).add(Bytes.wrap(slot.toArray()));
+        }
+    }
+
+    /**
+     * Runs the supplier while recording the storage slots it reads
+     *
+     * @param accesses the map to record the slots read into
+     * @param supplier the contract call
+     * @return the result of the supplier
+     */
+    public static <T> T run(final Map<Long, Set<Bytes>> accesses, final Supplier<T> supplier) {
+        final var previous = ACCESSES.get();
+        ACCESSES.set(accesses);
+        try {
+            return supplier.get();
+        } finally {
+            ACCESSES.set(previous);
+        }
+    }
+}
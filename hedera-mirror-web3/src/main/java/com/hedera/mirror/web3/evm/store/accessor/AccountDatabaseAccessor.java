@@ -24,6 +24,7 @@ import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
@@ -89,11 +90,20 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     }
 
     private long getOwnedNfts(Long accountId) {
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return nftRepository.countByAccountIdAndBlockTimestampNotDeleted(accountId, blockTimestamp.get());
+        }
+
         return nftRepository.countByAccountIdNotDeleted(accountId);
     }
 
     private SortedMap<EntityNum, Long> getCryptoAllowances(Long ownerId) {
-        return cryptoAllowanceRepository.findByOwner(ownerId).stream()
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var cryptoAllowances = blockTimestamp.isPresent()
+                ? cryptoAllowanceRepository.findByOwnerAndBlockTimestamp(ownerId, blockTimestamp.get())
+                : cryptoAllowanceRepository.findByOwner(ownerId);
+        return cryptoAllowances.stream()
                 .collect(Collectors.toMap(
                         cryptoAllowance -> entityNumFromId(EntityId.of(cryptoAllowance.getSpender(), ACCOUNT)),
                         CryptoAllowance::getAmount,
@@ -102,7 +112,11 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     }
 
     private SortedMap<FcTokenAllowanceId, Long> getFungibleTokenAllowances(Long ownerId) {
-        return tokenAllowanceRepository.findByOwner(ownerId).stream()
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var tokenAllowances = blockTimestamp.isPresent()
+                ? tokenAllowanceRepository.findByOwnerAndBlockTimestamp(ownerId, blockTimestamp.get())
+                : tokenAllowanceRepository.findByOwner(ownerId);
+        return tokenAllowances.stream()
                 .collect(Collectors.toMap(
                         tokenAllowance -> new FcTokenAllowanceId(
                                 entityNumFromId(EntityId.of(tokenAllowance.getTokenId(), TOKEN)),
@@ -113,7 +127,12 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     }
 
     private SortedSet<FcTokenAllowanceId> getApproveForAllNfts(Long ownerId) {
-        return nftAllowanceRepository.findByOwnerAndApprovedForAllIsTrue(ownerId).stream()
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var nftAllowances = blockTimestamp.isPresent()
+                ? nftAllowanceRepository.findByOwnerAndBlockTimestampAndApprovedForAllIsTrue(
+                        ownerId, blockTimestamp.get())
+                : nftAllowanceRepository.findByOwnerAndApprovedForAllIsTrue(ownerId);
+        return nftAllowances.stream()
                 .map(nftAllowance -> new FcTokenAllowanceId(
                         entityNumFromId(EntityId.of(nftAllowance.getTokenId(), TOKEN)),
                         entityNumFromId(EntityId.of(nftAllowance.getSpender(), ACCOUNT))))
@@ -125,7 +144,11 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     }
 
     private Pair<Integer, Integer> getNumberOfAllAndPositiveBalanceTokenAssociations(long accountId) {
-        final var counts = tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(accountId);
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var counts = blockTimestamp.isPresent()
+                ? tokenAccountRepository.countByAccountIdAndBlockTimestampAndAssociatedGroupedByBalanceIsPositive(
+                        accountId, blockTimestamp.get())
+                : tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(accountId);
         int all = 0;
         int positive = 0;
 
@@ -23,6 +23,7 @@ import static com.hedera.node.app.service.evm.accounts.HederaEvmContractAliases.
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.EntityRepository;
 import jakarta.inject.Named;
 import java.util.Optional;
@@ -42,15 +43,35 @@ public class EntityDatabaseAccessor extends DatabaseAccessor<Object, Entity> {
         final var addressBytes = (castedAddress).toArrayUnsafe();
         if (isMirror(addressBytes)) {
             final var entityId = entityIdNumFromEvmAddress(castedAddress);
-            return entityRepository.findByIdAndDeletedIsFalse(entityId);
+            return findById(entityId);
         } else {
-            return entityRepository.findByEvmAddressAndDeletedIsFalse(addressBytes);
+            return findByEvmAddress(addressBytes);
         }
     }
 
+    /**
+     * Finds the entity as of the block in the {@link BlockContext}, or the latest entity if there's none.
+     */
+    public Optional<Entity> findById(long entityId) {
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return entityRepository.findActiveByIdAndBlockTimestamp(entityId, blockTimestamp.get());
+        }
+
+        return entityRepository.findByIdAndDeletedIsFalse(entityId);
+    }
+
+    private Optional<Entity> findByEvmAddress(byte[] evmAddress) {
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return entityRepository.findActiveByEvmAddressAndBlockTimestamp(evmAddress, blockTimestamp.get());
+        }
+
+        return entityRepository.findByEvmAddressAndDeletedIsFalse(evmAddress);
+    }
+
     public Address evmAddressFromId(EntityId entityId) {
-        Entity entity =
-                entityRepository.findByIdAndDeletedIsFalse(entityId.getId()).orElse(null);
+        Entity entity = findById(entityId.getId()).orElse(null);
 
         if (entity == null) {
             return Address.ZERO;
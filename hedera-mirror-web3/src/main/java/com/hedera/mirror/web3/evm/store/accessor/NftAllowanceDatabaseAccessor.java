@@ -18,6 +18,7 @@ package com.hedera.mirror.web3.evm.store.accessor;
 
 import com.hedera.mirror.common.domain.entity.AbstractNftAllowance.Id;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import jakarta.inject.Named;
 import java.util.Optional;
@@ -30,8 +31,18 @@ public class NftAllowanceDatabaseAccessor extends DatabaseAccessor<Object, NftAl
 
     private final NftAllowanceRepository nftAllowanceRepository;
 
+    /**
+     * Finds the NFT allowance as of the block in the {@link BlockContext}, or the latest allowance if there's none.
+     */
     @Override
     public @NonNull Optional<NftAllowance> get(@NonNull Object key) {
-        return nftAllowanceRepository.findById((Id) key);
+        final var id = (Id) key;
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return nftAllowanceRepository.findByIdAndBlockTimestamp(
+                    id.getOwner(), id.getSpender(), id.getTokenId(), blockTimestamp.get());
+        }
+
+        return nftAllowanceRepository.findById(id);
     }
 }
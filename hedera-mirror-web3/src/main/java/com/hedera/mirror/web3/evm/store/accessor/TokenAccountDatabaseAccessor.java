@@ -18,6 +18,7 @@ package com.hedera.mirror.web3.evm.store.accessor;
 
 import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
 import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import jakarta.inject.Named;
 import java.util.Optional;
@@ -30,8 +31,18 @@ public class TokenAccountDatabaseAccessor extends DatabaseAccessor<Object, Token
 
     private final TokenAccountRepository tokenAccountRepository;
 
+    /**
+     * Finds the token account as of the block in the {@link BlockContext}, or the latest token account if there's none.
+     */
     @Override
     public @NonNull Optional<TokenAccount> get(@NonNull Object key) {
-        return tokenAccountRepository.findById((AbstractTokenAccount.Id) key);
+        final var id = (AbstractTokenAccount.Id) key;
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return tokenAccountRepository.findByIdAndBlockTimestamp(
+                    id.getAccountId(), id.getTokenId(), blockTimestamp.get());
+        }
+
+        return tokenAccountRepository.findById(id);
     }
 }
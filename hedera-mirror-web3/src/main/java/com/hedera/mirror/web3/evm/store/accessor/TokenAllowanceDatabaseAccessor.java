@@ -18,6 +18,7 @@ package com.hedera.mirror.web3.evm.store.accessor;
 
 import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import jakarta.inject.Named;
 import java.util.Optional;
@@ -30,8 +31,18 @@ public class TokenAllowanceDatabaseAccessor extends DatabaseAccessor<Object, Tok
 
     private final TokenAllowanceRepository tokenAllowanceRepository;
 
+    /**
+     * Finds the token allowance as of the block in the {@link BlockContext}, or the latest allowance if there's none.
+     */
     @Override
     public @NonNull Optional<TokenAllowance> get(@NonNull Object key) {
-        return tokenAllowanceRepository.findById((AbstractTokenAllowance.Id) key);
+        final var id = (AbstractTokenAllowance.Id) key;
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return tokenAllowanceRepository.findByIdAndBlockTimestamp(
+                    id.getOwner(), id.getSpender(), id.getTokenId(), blockTimestamp.get());
+        }
+
+        return tokenAllowanceRepository.findById(id);
     }
 }
@@ -23,6 +23,7 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.token.TokenId;
 import com.hedera.mirror.common.domain.token.TokenPauseStatusEnum;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.EntityRepository;
 import com.hedera.mirror.web3.repository.TokenRepository;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.CustomFee;
@@ -59,8 +60,11 @@ public class TokenDatabaseAccessor extends DatabaseAccessor<Address, Token> {
     }
 
     private Token tokenFromEntity(Entity entity) {
-        final var databaseToken =
-                tokenRepository.findById(new TokenId(entity.toEntityId())).orElse(null);
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var databaseToken = (blockTimestamp.isPresent()
+                        ? tokenRepository.findByIdAndBlockTimestamp(entity.getId(), blockTimestamp.get())
+                        : tokenRepository.findById(new TokenId(entity.toEntityId())))
+                .orElse(null);
 
         if (databaseToken == null) {
             return null;
@@ -115,10 +119,12 @@ public class TokenDatabaseAccessor extends DatabaseAccessor<Address, Token> {
         if (treasuryId == null) {
             return null;
         }
-        return entityRepository
-                .findByIdAndDeletedIsFalse(treasuryId.getId())
-                .map(entity ->
-                        new Account(new Id(entity.getShard(), entity.getRealm(), entity.getNum()), entity.getBalance()))
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var treasury = blockTimestamp.isPresent()
+                ? entityRepository.findActiveByIdAndBlockTimestamp(treasuryId.getId(), blockTimestamp.get())
+                : entityRepository.findByIdAndDeletedIsFalse(treasuryId.getId());
+        return treasury.map(entity -> new Account(
+                        new Id(entity.getShard(), entity.getRealm(), entity.getNum()), entity.getBalance()))
                 .orElse(null);
     }
 
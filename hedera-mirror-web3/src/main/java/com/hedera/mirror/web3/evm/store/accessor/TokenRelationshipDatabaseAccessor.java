@@ -20,6 +20,7 @@ import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
 import com.hedera.mirror.common.domain.token.TokenAccount;
 import com.hedera.mirror.common.domain.token.TokenFreezeStatusEnum;
 import com.hedera.mirror.common.domain.token.TokenKycStatusEnum;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.evm.store.accessor.model.TokenRelationshipKey;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.services.store.models.Account;
@@ -69,6 +70,13 @@ public class TokenRelationshipDatabaseAccessor extends DatabaseAccessor<TokenRel
         AbstractTokenAccount.Id id = new AbstractTokenAccount.Id();
         id.setTokenId(EntityIdUtils.entityIdFromId(token.getId()).getId());
         id.setAccountId(EntityIdUtils.entityIdFromId(account.getId()).getId());
+
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isPresent()) {
+            return tokenAccountRepository.findByIdAndBlockTimestamp(
+                    id.getAccountId(), id.getTokenId(), blockTimestamp.get());
+        }
+
         return tokenAccountRepository.findById(id);
     }
 }
@@ -20,6 +20,7 @@ import static com.hedera.services.utils.EntityIdUtils.idFromEntityId;
 
 import com.hedera.mirror.common.domain.token.Nft;
 import com.hedera.mirror.common.domain.token.NftId;
+import com.hedera.mirror.web3.evm.store.BlockContext;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.store.models.Id;
@@ -35,11 +36,17 @@ import lombok.RequiredArgsConstructor;
 public class UniqueTokenDatabaseAccessor extends DatabaseAccessor<NftId, UniqueToken> {
     private final NftRepository nftRepository;
 
+    /**
+     * Finds the NFT as of the block in the {@link BlockContext}, or the latest NFT if there's none.
+     */
     @Override
     public @NonNull Optional<UniqueToken> get(@NonNull NftId nftId) {
-        return nftRepository
-                .findActiveById(nftId.getTokenId().getId(), nftId.getSerialNumber())
-                .map(this::mapNftToUniqueToken);
+        final var tokenId = nftId.getTokenId().getId();
+        final var blockTimestamp = BlockContext.getTimestamp();
+        final var nft = blockTimestamp.isPresent()
+                ? nftRepository.findActiveByIdAndBlockTimestamp(tokenId, nftId.getSerialNumber(), blockTimestamp.get())
+                : nftRepository.findActiveById(tokenId, nftId.getSerialNumber());
+        return nft.map(this::mapNftToUniqueToken);
     }
 
     private UniqueToken mapNftToUniqueToken(Nft nft) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2022-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.contract;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CODE;
+
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
+import com.hedera.node.app.service.evm.store.contracts.AbstractCodeCache;
+import jakarta.inject.Named;
+import java.util.Objects;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Caches the analysed code of contracts, including their jump destinations, so the bytecode isn't wrapped and analysed
+ * again by every call. Runtime bytecode only changes when a contract is created, so the code is keyed by the contract
+ * id and the entity's modified timestamp instead of being evicted by the importer's changes. The cache is bounded by
+ * the size of the bytecode and shared by all the transaction processors. Token accounts and other entities without
+ * bytecode are left to the parent's cache.
+ */
+@Named
+public class MirrorCodeCache extends AbstractCodeCache {
+
+    private final Cache cache;
+    private final MirrorEntityAccess mirrorEntityAccess;
+
+    public MirrorCodeCache(
+            MirrorEntityAccess mirrorEntityAccess,
+            MirrorNodeEvmProperties properties,
+            @Qualifier(CACHE_MANAGER_STATE) StateCacheManager stateCacheManager) {
+        super((int) properties.getExpirationCacheTime().toSeconds(), mirrorEntityAccess);
+        this.cache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_CODE));
+        this.mirrorEntityAccess = mirrorEntityAccess;
+    }
+
+    @Override
+    public Code getIfPresent(final Address address) {
+        final var entity = mirrorEntityAccess.findEntity(address).orElse(null);
+        if (entity == null || entity.getType() != CONTRACT) {
+            return super.getIfPresent(address);
+        }
+
+        final var key = new SimpleKey(entity.getId(), entity.getTimestampLower());
+        final var cached = cache.get(key, Code.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var bytecode = mirrorEntityAccess.fetchCodeIfPresent(address);
+        if (bytecode.isEmpty()) {
+            return super.getIfPresent(address);
+        }
+
+        final var code = CodeFactory.createCode(bytecode, Hash.hash(bytecode), 0, false);
+        cache.put(key, code);
+        return code;
+    }
+}
@@ -24,6 +24,8 @@ import static com.hedera.node.app.service.evm.accounts.HederaEvmContractAliases.
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.entity.AbstractEntity;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.web3.evm.store.BlockContext;
+import com.hedera.mirror.web3.evm.store.StorageAccessContext;
 import com.hedera.mirror.web3.repository.ContractRepository;
 import com.hedera.mirror.web3.repository.ContractStateRepository;
 import com.hedera.mirror.web3.repository.EntityRepository;
@@ -59,7 +61,10 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
         final var expirationTimestamp = entity.getExpirationTimestamp();
         final var createdTimestamp = entity.getCreatedTimestamp();
         final var autoRenewPeriod = entity.getAutoRenewPeriod();
-        final var currentTime = Instant.now().getEpochSecond();
+        final var currentTime = BlockContext.getTimestamp()
+                .map(timestamp -> Instant.ofEpochSecond(0, timestamp))
+                .orElseGet(Instant::now)
+                .getEpochSecond();
 
         if (expirationTimestamp != null && expirationTimestamp <= currentTime) {
             return false;
@@ -98,7 +103,15 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
         if (entityId == 0) {
             return Bytes.EMPTY;
         }
-        final var storage = contractStateRepository.findStorage(entityId, key.toArrayUnsafe());
+        final var slot = key.toArrayUnsafe();
+        final var blockTimestamp = BlockContext.getTimestamp();
+        if (blockTimestamp.isEmpty()) {
+            StorageAccessContext.record(entityId, key);
+        }
+
+        final var storage = blockTimestamp.isPresent()
+                ? contractStateRepository.findStorageByBlockTimestamp(entityId, slot, blockTimestamp.get())
+                : contractStateRepository.findStorage(entityId, slot);
 
         return storage.map(Bytes::wrap).orElse(Bytes.EMPTY);
     }
@@ -116,15 +129,25 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
 
     public Optional<Entity> findEntity(final Address address) {
         final var addressBytes = address.toArrayUnsafe();
+        final var blockTimestamp = BlockContext.getTimestamp();
         if (isMirror(addressBytes)) {
             final var entityId = entityIdNumFromEvmAddress(address);
-            return entityRepository.findByIdAndDeletedIsFalse(entityId);
+            return blockTimestamp.isPresent()
+                    ? entityRepository.findActiveByIdAndBlockTimestamp(entityId, blockTimestamp.get())
+                    : entityRepository.findByIdAndDeletedIsFalse(entityId);
         } else {
-            return entityRepository.findByEvmAddressAndDeletedIsFalse(addressBytes);
+            return blockTimestamp.isPresent()
+                    ? entityRepository.findActiveByEvmAddressAndBlockTimestamp(addressBytes, blockTimestamp.get())
+                    : entityRepository.findByEvmAddressAndDeletedIsFalse(addressBytes);
         }
     }
 
-    private Long fetchEntityId(final Address address) {
+    public Long fetchEntityId(final Address address) {
+        // The runtime bytecode has no history, so a contract created after the block must be excluded by its entity
+        if (BlockContext.getTimestamp().isPresent()) {
+            return findEntity(address).map(AbstractEntity::getId).orElse(0L);
+        }
+
         final var addressBytes = address.toArrayUnsafe();
         if (isMirror(addressBytes)) {
             return entityIdNumFromEvmAddress(address);
@@ -16,13 +16,18 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_BYTECODE;
+
 import com.hedera.mirror.common.domain.contract.Contract;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface ContractRepository extends CrudRepository<Contract, Long> {
 
     @Query(value = "select runtime_bytecode from contract where id = ?1", nativeQuery = true)
+    @Cacheable(cacheNames = CACHE_NAME_BYTECODE, cacheManager = CACHE_MANAGER_STATE, sync = true)
     Optional<byte[]> findRuntimeBytecode(final Long contractId);
 }
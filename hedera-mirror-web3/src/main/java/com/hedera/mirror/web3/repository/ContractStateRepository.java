@@ -16,9 +16,14 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.web3.repository.projections.ContractSlot;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
@@ -27,6 +32,47 @@ import org.springframework.data.repository.CrudRepository;
 public interface ContractStateRepository extends CrudRepository<ContractState, Long> {
 
     @Query(value = "select value from contract_state where contract_id = ?1 and slot =?2", nativeQuery = true)
-    @Cacheable(cacheNames = "contract_state.storage", cacheManager = CACHE_MANAGER_STATE, unless = "#result == null")
+    @Cacheable(cacheNames = CACHE_NAME_STORAGE, cacheManager = CACHE_MANAGER_STATE, sync = true)
     Optional<byte[]> findStorage(final Long contractId, final byte[] key);
+
+    /**
+     * Finds the values of several storage slots of a contract in one query. Slots without a value aren't returned.
+     */
+    @Query(value = "select slot, value from contract_state where contract_id = ?1 and slot in (?2)", nativeQuery = true)
+    List<ContractSlotValue> findStorageBySlots(final Long contractId, final List<byte[]> slots);
+
+    /**
+     * Finds the value of the storage slot as of the block timestamp from the last state change at or before it. There
+     * is no history for contract_state, so contract_state_change is the source of the historical values.
+     */
+    @Query(
+            value =
+                    """
+            select coalesce(value_written, value_read) from contract_state_change
+            where contract_id = ?1 and slot = ?2 and consensus_timestamp <= ?3
+            order by consensus_timestamp desc
+            limit 1
+            """,
+            nativeQuery = true)
+    @Cacheable(
+            cacheNames = "contract_state.storage_block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    Optional<byte[]> findStorageByBlockTimestamp(final Long contractId, final byte[] key, final long blockTimestamp);
+
+    /**
+     * Finds the storage slots written in the timestamp range.
+     *
+     * @param fromTimestamp the exclusive start of the range
+     * @param toTimestamp   the inclusive end of the range
+     * @return the contract id and slot of each slot written
+     */
+    @Query(
+            value =
+                    """
+            select distinct contract_id as contractId, slot from contract_state_change
+            where consensus_timestamp > ?1 and consensus_timestamp <= ?2 and value_written is not null
+            """,
+            nativeQuery = true)
+    List<ContractSlot> findSlotsChangedBetween(long fromTimestamp, long toTimestamp);
 }
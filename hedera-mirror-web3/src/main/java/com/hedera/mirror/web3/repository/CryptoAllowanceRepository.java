@@ -16,11 +16,37 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+
 import com.hedera.mirror.common.domain.entity.AbstractCryptoAllowance;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import java.util.List;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface CryptoAllowanceRepository extends CrudRepository<CryptoAllowance, AbstractCryptoAllowance.Id> {
     List<CryptoAllowance> findByOwner(long owner);
+
+    /**
+     * Finds the versions of the owner's crypto allowances that were current as of the block timestamp, searching both
+     * the crypto_allowance and the crypto_allowance_history tables.
+     *
+     * @param owner          the owner id
+     * @param blockTimestamp the consensus end of the block
+     * @return the crypto allowances as of the block timestamp
+     */
+    @Cacheable(cacheNames = "crypto_allowance.owner_block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL)
+    @Query(
+            value =
+                    """
+            select distinct on (spender) * from (
+              select * from crypto_allowance where owner = ?1 and lower(timestamp_range) <= ?2
+              union all
+              select * from crypto_allowance_history where owner = ?1 and lower(timestamp_range) <= ?2
+            ) ca
+            order by spender, lower(timestamp_range) desc
+            """,
+            nativeQuery = true)
+    List<CryptoAllowance> findByOwnerAndBlockTimestamp(long owner, long blockTimestamp);
 }
@@ -16,20 +16,96 @@
 
 package com.hedera.mirror.web3.repository;
 
-import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ENTITY;
 
 import com.hedera.mirror.common.domain.entity.Entity;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface EntityRepository extends CrudRepository<Entity, Long> {
 
-    @Cacheable(
-            cacheNames = "entity.id_and_deleted_is_false",
-            cacheManager = CACHE_MANAGER_ENTITY,
-            unless = "#result == null")
+    @Cacheable(cacheNames = CACHE_NAME_ENTITY, cacheManager = CACHE_MANAGER_STATE, sync = true)
     Optional<Entity> findByIdAndDeletedIsFalse(Long entityId);
 
     Optional<Entity> findByEvmAddressAndDeletedIsFalse(byte[] alias);
+
+    /**
+     * Finds the version of the entity that was current as of the block timestamp, searching both the entity and the
+     * entity_history tables. Nothing is returned if the entity was deleted as of the block timestamp.
+     *
+     * @param id             the entity id
+     * @param blockTimestamp the consensus end of the block
+     * @return the entity as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "entity.id_and_block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(
+            value =
+                    """
+            select * from (
+              (select * from entity where id = ?1 and lower(timestamp_range) <= ?2)
+              union all
+              (select * from entity_history where id = ?1 and lower(timestamp_range) <= ?2
+               order by lower(timestamp_range) desc limit 1)
+              order by timestamp_range desc
+              limit 1
+            ) e
+            where deleted is not true
+            """,
+            nativeQuery = true)
+    Optional<Entity> findActiveByIdAndBlockTimestamp(long id, long blockTimestamp);
+
+    /**
+     * Same as {@link #findActiveByIdAndBlockTimestamp(long, long)} but searches by the EVM address.
+     *
+     * @param evmAddress     the EVM address of the entity
+     * @param blockTimestamp the consensus end of the block
+     * @return the entity as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "entity.evm_address_and_block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(
+            value =
+                    """
+            select * from (
+              (select * from entity where evm_address = ?1 and lower(timestamp_range) <= ?2)
+              union all
+              (select * from entity_history where evm_address = ?1 and lower(timestamp_range) <= ?2
+               order by lower(timestamp_range) desc limit 1)
+              order by timestamp_range desc
+              limit 1
+            ) e
+            where deleted is not true
+            """,
+            nativeQuery = true)
+    Optional<Entity> findActiveByEvmAddressAndBlockTimestamp(byte[] evmAddress, long blockTimestamp);
+
+    /**
+     * Finds the ids of the entities that may have changed in the timestamp range, either by a transaction on the entity
+     * itself or by an hbar transfer to or from it.
+     *
+     * @param fromTimestamp the exclusive start of the range
+     * @param toTimestamp   the inclusive end of the range
+     * @return the ids of the entities that may have changed
+     */
+    @Query(
+            value =
+                    """
+            select entity_id from transaction
+            where consensus_timestamp > ?1 and consensus_timestamp <= ?2 and entity_id is not null
+            union
+            select entity_id from crypto_transfer
+            where consensus_timestamp > ?1 and consensus_timestamp <= ?2
+            """,
+            nativeQuery = true)
+    List<Long> findIdsChangedBetween(long fromTimestamp, long toTimestamp);
 }
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
 
 import com.hedera.mirror.common.domain.entity.AbstractNftAllowance.Id;
@@ -23,6 +24,7 @@ import com.hedera.mirror.common.domain.entity.NftAllowance;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface NftAllowanceRepository extends CrudRepository<NftAllowance, Id> {
@@ -32,4 +34,58 @@ public interface NftAllowanceRepository extends CrudRepository<NftAllowance, Id>
     Optional<NftAllowance> findById(Id id);
 
     List<NftAllowance> findByOwnerAndApprovedForAllIsTrue(long owner);
+
+    /**
+     * Finds the version of the NFT allowance that was current as of the block timestamp, searching both the
+     * nft_allowance and the nft_allowance_history tables.
+     *
+     * @param owner          the owner id
+     * @param spender        the spender id
+     * @param tokenId        the token id
+     * @param blockTimestamp the consensus end of the block
+     * @return the NFT allowance as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "nft_allowance.block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(
+            value =
+                    """
+            (select * from nft_allowance
+             where owner = ?1 and spender = ?2 and token_id = ?3 and lower(timestamp_range) <= ?4)
+            union all
+            (select * from nft_allowance_history
+             where owner = ?1 and spender = ?2 and token_id = ?3 and lower(timestamp_range) <= ?4
+             order by lower(timestamp_range) desc limit 1)
+            order by timestamp_range desc
+            limit 1
+            """,
+            nativeQuery = true)
+    Optional<NftAllowance> findByIdAndBlockTimestamp(long owner, long spender, long tokenId, long blockTimestamp);
+
+    /**
+     * Same as {@link #findByOwnerAndApprovedForAllIsTrue(long)} but for the versions of the owner's NFT allowances that
+     * were current as of the block timestamp.
+     *
+     * @param owner          the owner id
+     * @param blockTimestamp the consensus end of the block
+     * @return the NFT allowances approved for all as of the block timestamp
+     */
+    @Cacheable(cacheNames = "nft_allowance.owner_block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL)
+    @Query(
+            value =
+                    """
+            select * from (
+              select distinct on (spender, token_id) * from (
+                select * from nft_allowance where owner = ?1 and lower(timestamp_range) <= ?2
+                union all
+                select * from nft_allowance_history where owner = ?1 and lower(timestamp_range) <= ?2
+              ) na
+              order by spender, token_id, lower(timestamp_range) desc
+            ) latest
+            where approved_for_all is true
+            """,
+            nativeQuery = true)
+    List<NftAllowance> findByOwnerAndBlockTimestampAndApprovedForAllIsTrue(long owner, long blockTimestamp);
 }
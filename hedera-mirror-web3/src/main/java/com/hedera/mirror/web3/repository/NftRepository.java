@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
 
 import com.hedera.mirror.common.domain.token.Nft;
@@ -45,4 +46,66 @@ public interface NftRepository extends CrudRepository<Nft, NftId> {
                     + "where n.account_id=:accountId and n.deleted is false and e.deleted is not true",
             nativeQuery = true)
     long countByAccountIdNotDeleted(Long accountId);
+
+    /**
+     * Finds the NFT if it was minted and not burned as of the block timestamp. There is no NFT history, so the owner is
+     * the receiver of the last transfer of the NFT at or before the block timestamp, while the other attributes are
+     * the latest ones. The latest owner is used if the NFT has no transfers.
+     *
+     * @param tokenId        the token id
+     * @param serialNumber   the serial number
+     * @param blockTimestamp the consensus end of the block
+     * @return the NFT as of the block timestamp
+     */
+    @Cacheable(cacheNames = "nft.block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL, unless = "#result == null")
+    @Query(
+            value =
+                    """
+            select * from (
+              select
+                case when t.consensus_timestamp is null then n.account_id else t.receiver_account_id end as account_id,
+                n.created_timestamp,
+                n.delegating_spender,
+                case when t.consensus_timestamp is null then n.deleted
+                  else t.receiver_account_id is null end as deleted,
+                n.metadata,
+                n.modified_timestamp,
+                n.serial_number,
+                n.spender,
+                n.token_id
+              from nft n
+              left join lateral (
+                select consensus_timestamp, receiver_account_id from nft_transfer
+                where token_id = n.token_id and serial_number = n.serial_number and consensus_timestamp <= ?3
+                order by consensus_timestamp desc
+                limit 1
+              ) t on true
+              where n.token_id = ?1 and n.serial_number = ?2 and n.created_timestamp <= ?3
+            ) latest
+            where deleted is false
+            """,
+            nativeQuery = true)
+    Optional<Nft> findActiveByIdAndBlockTimestamp(long tokenId, long serialNumber, long blockTimestamp);
+
+    /**
+     * Counts the NFTs owned by the account as of the block timestamp, which are those whose last transfer at or before
+     * the block timestamp was to the account.
+     *
+     * @param accountId      the account id
+     * @param blockTimestamp the consensus end of the block
+     * @return the number of NFTs owned by the account as of the block timestamp
+     */
+    @Cacheable(cacheNames = "nft.count_block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL)
+    @Query(
+            value =
+                    """
+            select count(*) from (
+              select distinct on (token_id, serial_number) receiver_account_id from nft_transfer
+              where (receiver_account_id = ?1 or sender_account_id = ?1) and consensus_timestamp <= ?2
+              order by token_id, serial_number, consensus_timestamp desc
+            ) t
+            where receiver_account_id = ?1
+            """,
+            nativeQuery = true)
+    long countByAccountIdAndBlockTimestampNotDeleted(long accountId, long blockTimestamp);
 }
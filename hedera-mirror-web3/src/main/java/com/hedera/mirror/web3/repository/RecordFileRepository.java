@@ -35,6 +35,9 @@ public interface RecordFileRepository extends PagingAndSortingRepository<RecordF
     @Query("select r.hash from RecordFile r where r.index = ?1")
     Optional<String> findHashByIndex(long index);
 
+    @Cacheable(cacheNames = "record_file.block_index", cacheManager = CACHE_MANAGER_10MIN, unless = "#result == null")
+    Optional<RecordFile> findByIndex(long index);
+
     @Cacheable(cacheNames = "record_file.latest", cacheManager = CACHE_MANAGER_500MS, unless = "#result == null")
     @Query(value = "select * from record_file order by consensus_end desc limit 1", nativeQuery = true)
     Optional<RecordFile> findLatest();
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
 
 import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
@@ -38,4 +39,76 @@ public interface TokenAccountRepository extends CrudRepository<TokenAccount, Abs
                     + "where account_id = ?1 and associated is true group by balance>0",
             nativeQuery = true)
     List<TokenAccountAssociationsCount> countByAccountIdAndAssociatedGroupedByBalanceIsPositive(long accountId);
+
+    /**
+     * Finds the version of the token account that was current as of the block timestamp, searching both the
+     * token_account and the token_account_history tables. Balance changes don't create history, so the balance of the
+     * version is rolled back by the token and NFT transfers after the block timestamp that it includes.
+     *
+     * @param accountId      the account id
+     * @param tokenId        the token id
+     * @param blockTimestamp the consensus end of the block
+     * @return the token account as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "token_account.block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(
+            value =
+                    """
+            select account_id, associated, automatic_association, created_timestamp, freeze_status, kyc_status,
+              timestamp_range, token_id, balance - coalesce((
+                select sum(amount) from (
+                  select amount from token_transfer
+                  where account_id = ?1 and token_id = ?2 and consensus_timestamp > ?3
+                    and consensus_timestamp < coalesce(upper(ta.timestamp_range), 9223372036854775807)
+                  union all
+                  select case when receiver_account_id = ?1 then 1 else -1 end from nft_transfer
+                  where token_id = ?2 and (receiver_account_id = ?1 or sender_account_id = ?1)
+                    and consensus_timestamp > ?3
+                    and consensus_timestamp < coalesce(upper(ta.timestamp_range), 9223372036854775807)
+                ) change), 0) as balance
+            from (
+              (select * from token_account where account_id = ?1 and token_id = ?2 and lower(timestamp_range) <= ?3)
+              union all
+              (select * from token_account_history
+               where account_id = ?1 and token_id = ?2 and lower(timestamp_range) <= ?3
+               order by lower(timestamp_range) desc limit 1)
+              order by timestamp_range desc
+              limit 1
+            ) ta
+            """,
+            nativeQuery = true)
+    Optional<TokenAccount> findByIdAndBlockTimestamp(long accountId, long tokenId, long blockTimestamp);
+
+    /**
+     * Same as {@link #countByAccountIdAndAssociatedGroupedByBalanceIsPositive(long)} but counts the versions of the
+     * token accounts that were current as of the block timestamp. Whether the balance is positive is based on the
+     * balance of each version.
+     *
+     * @param accountId      the account id
+     * @param blockTimestamp the consensus end of the block
+     * @return the count of associations with and without a positive balance
+     */
+    @Cacheable(cacheNames = "token_account.count_block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL)
+    @Query(
+            value =
+                    """
+            select count(*) as tokenCount, balance > 0 as isPositiveBalance from (
+              select distinct on (token_id) associated, balance from (
+                select token_id, associated, balance, timestamp_range from token_account
+                where account_id = ?1 and lower(timestamp_range) <= ?2
+                union all
+                select token_id, associated, balance, timestamp_range from token_account_history
+                where account_id = ?1 and lower(timestamp_range) <= ?2
+              ) ta
+              order by token_id, lower(timestamp_range) desc
+            ) latest
+            where associated is true
+            group by balance > 0
+            """,
+            nativeQuery = true)
+    List<TokenAccountAssociationsCount> countByAccountIdAndBlockTimestampAndAssociatedGroupedByBalanceIsPositive(
+            long accountId, long blockTimestamp);
 }
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
 
 import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
@@ -24,6 +25,7 @@ import com.hedera.mirror.common.domain.entity.TokenAllowance;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface TokenAllowanceRepository extends CrudRepository<TokenAllowance, AbstractTokenAllowance.Id> {
@@ -33,4 +35,55 @@ public interface TokenAllowanceRepository extends CrudRepository<TokenAllowance,
     Optional<TokenAllowance> findById(Id id);
 
     List<TokenAllowance> findByOwner(long owner);
+
+    /**
+     * Finds the version of the token allowance that was current as of the block timestamp, searching both the
+     * token_allowance and the token_allowance_history tables.
+     *
+     * @param owner          the owner id
+     * @param spender        the spender id
+     * @param tokenId        the token id
+     * @param blockTimestamp the consensus end of the block
+     * @return the token allowance as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "token_allowance.block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(
+            value =
+                    """
+            (select * from token_allowance
+             where owner = ?1 and spender = ?2 and token_id = ?3 and lower(timestamp_range) <= ?4)
+            union all
+            (select * from token_allowance_history
+             where owner = ?1 and spender = ?2 and token_id = ?3 and lower(timestamp_range) <= ?4
+             order by lower(timestamp_range) desc limit 1)
+            order by timestamp_range desc
+            limit 1
+            """,
+            nativeQuery = true)
+    Optional<TokenAllowance> findByIdAndBlockTimestamp(long owner, long spender, long tokenId, long blockTimestamp);
+
+    /**
+     * Finds the versions of the owner's token allowances that were current as of the block timestamp, searching both
+     * the token_allowance and the token_allowance_history tables.
+     *
+     * @param owner          the owner id
+     * @param blockTimestamp the consensus end of the block
+     * @return the token allowances as of the block timestamp
+     */
+    @Cacheable(cacheNames = "token_allowance.owner_block_timestamp", cacheManager = CACHE_MANAGER_HISTORICAL)
+    @Query(
+            value =
+                    """
+            select distinct on (spender, token_id) * from (
+              select * from token_allowance where owner = ?1 and lower(timestamp_range) <= ?2
+              union all
+              select * from token_allowance_history where owner = ?1 and lower(timestamp_range) <= ?2
+            ) ta
+            order by spender, token_id, lower(timestamp_range) desc
+            """,
+            nativeQuery = true)
+    List<TokenAllowance> findByOwnerAndBlockTimestamp(long owner, long blockTimestamp);
 }
@@ -16,12 +16,14 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
 
 import com.hedera.mirror.common.domain.token.Token;
 import com.hedera.mirror.common.domain.token.TokenId;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
 public interface TokenRepository extends CrudRepository<Token, TokenId> {
@@ -29,4 +31,19 @@ public interface TokenRepository extends CrudRepository<Token, TokenId> {
     @Override
     @Cacheable(cacheNames = "token", cacheManager = CACHE_MANAGER_TOKEN, unless = "#result == null")
     Optional<Token> findById(TokenId tokenId);
+
+    /**
+     * Finds the token if it was created as of the block timestamp. There is no token history, so the returned token has
+     * its latest attributes.
+     *
+     * @param tokenId        the token id
+     * @param blockTimestamp the consensus end of the block
+     * @return the token if it existed as of the block timestamp
+     */
+    @Cacheable(
+            cacheNames = "token.block_timestamp",
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
+    @Query(value = "select * from token where token_id = ?1 and created_timestamp <= ?2", nativeQuery = true)
+    Optional<Token> findByIdAndBlockTimestamp(long tokenId, long blockTimestamp);
 }
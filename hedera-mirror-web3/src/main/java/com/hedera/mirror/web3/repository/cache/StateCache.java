@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.repository.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Loads a missing value outside the cache's lock and only keeps it if no invalidation started while it was loaded. An
+ * invalidation may evict the key before the stale value is put, so it's evicted again after the put instead. Only the
+ * synchronized get is versioned, so the repository methods using this cache must be {@code @Cacheable(sync = true)}.
+ */
+class StateCache extends CaffeineCache {
+
+    private final AtomicLong version;
+
+    StateCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            boolean allowNullValues,
+            AtomicLong version) {
+        super(name, cache, allowNullValues);
+        this.version = version;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        final var storeValue = lookup(key);
+        if (storeValue != null) {
+            return (T) fromStoreValue(storeValue);
+        }
+
+        final long loadVersion = version.get();
+        final T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        if (version.get() != loadVersion) {
+            evict(key);
+        }
+
+        return value;
+    }
+}
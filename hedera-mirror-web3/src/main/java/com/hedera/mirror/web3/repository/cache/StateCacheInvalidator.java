@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.repository.cache;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_BYTECODE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ENTITY;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.EntityRepository;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import lombok.CustomLog;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Keeps the state caches consistent with the latest record file by evicting the accounts, bytecode and storage slots
+ * the importer changed since the last record file seen. The record file acts as a watermark: once a call's block has
+ * been refreshed, the call can't read cached state older than that block.
+ */
+@CustomLog
+@Named
+public class StateCacheInvalidator {
+
+    private final Cache bytecodeCache;
+    private final CacheProperties cacheProperties;
+    private final ContractStateRepository contractStateRepository;
+    private final Cache entityCache;
+    private final EntityRepository entityRepository;
+    private final Counter evictions;
+    private final Timer invalidationTimer;
+    private final StateCacheManager stateCacheManager;
+    private final Cache storageCache;
+    private volatile long watermark;
+
+    public StateCacheInvalidator(
+            CacheProperties cacheProperties,
+            ContractStateRepository contractStateRepository,
+            EntityRepository entityRepository,
+            MeterRegistry meterRegistry,
+            @Qualifier(CACHE_MANAGER_STATE) StateCacheManager stateCacheManager) {
+        this.cacheProperties = cacheProperties;
+        this.contractStateRepository = contractStateRepository;
+        this.entityRepository = entityRepository;
+        this.stateCacheManager = stateCacheManager;
+        this.bytecodeCache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_BYTECODE));
+        this.entityCache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_ENTITY));
+        this.storageCache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_STORAGE));
+
+        evictions = Counter.builder("hedera.mirror.web3.cache.state.evictions")
+                .description("The number of entries evicted from the state caches because the importer changed them")
+                .register(meterRegistry);
+        invalidationTimer = Timer.builder("hedera.mirror.web3.cache.state.invalidation")
+                .description("The time it takes to evict the state changed by new record files")
+                .register(meterRegistry);
+        Gauge.builder("hedera.mirror.web3.cache.state.staleness", this, StateCacheInvalidator::getStaleness)
+                .baseUnit("seconds")
+                .description("How far behind the current time the record file the state caches are up to date with is")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evicts the state changed between the last record file seen and this one. Nothing is done if the caches are
+     * already up to date with a record file at or after it.
+     *
+     * @param recordFile the record file of the block a call is about to be executed against
+     */
+    public void refresh(RecordFile recordFile) {
+        if (recordFile == null || recordFile.getConsensusEnd() <= watermark) {
+            return;
+        }
+
+        synchronized (this) {
+            final long fromTimestamp = watermark;
+            final long toTimestamp = recordFile.getConsensusEnd();
+            if (toTimestamp <= fromTimestamp) {
+                return;
+            }
+
+            invalidationTimer.record(() -> invalidate(fromTimestamp, toTimestamp));
+            watermark = toTimestamp;
+        }
+    }
+
+    private void invalidate(long fromTimestamp, long toTimestamp) {
+        stateCacheManager.beginInvalidation();
+
+        // Nothing is known about what changed before the first record file seen, and finding what changed over a long
+        // period would scan every transaction in it while the calls waiting on the lock are blocked
+        final long maxPeriod = cacheProperties.getMaxInvalidationPeriod().toNanos();
+        if (fromTimestamp == 0 || toTimestamp - fromTimestamp > maxPeriod) {
+            bytecodeCache.clear();
+            entityCache.clear();
+            storageCache.clear();
+            return;
+        }
+
+        final var entityIds = entityRepository.findIdsChangedBetween(fromTimestamp, toTimestamp);
+        for (var entityId : entityIds) {
+            bytecodeCache.evict(entityId);
+            entityCache.evict(entityId);
+        }
+
+        final var slots = contractStateRepository.findSlotsChangedBetween(fromTimestamp, toTimestamp);
+        for (var slot : slots) {
+            storageCache.evict(new SimpleKey(slot.getContractId(), slot.getSlot()));
+        }
+
+        evictions.increment(entityIds.size() * 2.0 + slots.size());
+        log.debug(
+                "Evicted {} entities and {} storage slots changed in ({}, {}]",
+                entityIds.size(),
+                slots.size(),
+                fromTimestamp,
+                toTimestamp);
+    }
+
+    private double getStaleness() {
+        final long timestamp = watermark;
+        if (timestamp == 0) {
+            return 0.0;
+        }
+
+        return Duration.between(Instant.ofEpochSecond(0, timestamp), Instant.now()).toMillis() / 1000.0;
+    }
+}
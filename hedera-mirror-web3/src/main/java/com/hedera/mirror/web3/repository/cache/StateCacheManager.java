@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.repository.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * A cache manager for the state read by the EVM that's shared by all calls. Its entries don't expire with a short TTL
+ * but are evicted by the {@link StateCacheInvalidator} when the importer changes them. Each invalidation bumps a
+ * version, so a value loaded from the database concurrently with an invalidation is never left in the cache.
+ */
+public class StateCacheManager extends CaffeineCacheManager {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Must be called before evicting the changed entries so concurrent loads of stale values are discarded
+     */
+    public void beginInvalidation() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * @return the version of the last invalidation, so a value loaded outside the caches can be put only if it's
+     * unchanged
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        return new StateCache(name, cache, isAllowNullValues(), version);
+    }
+}
@@ -17,6 +17,8 @@
 package com.hedera.mirror.web3.repository.properties;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -27,13 +29,29 @@ import org.springframework.validation.annotation.Validated;
 public class CacheProperties {
 
     @NotBlank
-    private String contractState = "expireAfterWrite=5s,maximumSize=10000,recordStats";
+    private String accessSet = "expireAfterAccess=1h,maximumSize=10000,recordStats";
 
     @NotBlank
-    private String fee = "expireAfterWrite=10m,maximumSize=20,recordStats";
+    private String bytecode = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
     @NotBlank
-    private String entity = "expireAfterWrite=30s,maximumSize=10000,recordStats";
+    private String code = "maximumWeight=100000000,recordStats";
+
+    @NotBlank
+    private String contractState = "expireAfterAccess=1h,maximumSize=50000,recordStats";
+
+    @NotBlank
+    private String fee = "expireAfterWrite=1d,maximumSize=20,recordStats";
+
+    @NotBlank
+    private String entity = "expireAfterAccess=1h,maximumSize=10000,recordStats";
+
+    @NotBlank
+    private String historical = "expireAfterAccess=1h,maximumSize=20000,recordStats";
+
+    // The state caches are cleared instead of evicting what changed when a refresh spans more than this
+    @NotNull
+    private Duration maxInvalidationPeriod = Duration.ofMinutes(5L);
 
     @NotBlank
     private String token = "expireAfterWrite=2s,maximumSize=10000,recordStats";
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.web3.evm.properties.ThrottleProperties;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.time.Duration;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * Limits the gas each client can request per second so a single client sending expensive calls can't starve the
+ * others. A client is identified by its API key if it sends a configured one and by its address otherwise, which is
+ * taken from the configured client address header when behind a load balancer.
+ */
+@Named
+public class ClientRateLimiter {
+
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final Cache<String, Bucket> buckets;
+    private final Counter rejections;
+    private final ThrottleProperties throttleProperties;
+
+    public ClientRateLimiter(MeterRegistry meterRegistry, ThrottleProperties throttleProperties) {
+        this.buckets = Caffeine.from(throttleProperties.getClients()).build();
+        this.throttleProperties = throttleProperties;
+
+        rejections = Counter.builder("hedera.mirror.web3.call.client.rejections")
+                .description("The number of calls rejected because the client exceeded its gas per second")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consumes the gas requested by a call from the bucket of the client that sent it.
+     *
+     * @param request the HTTP request of the call
+     * @param gas     the gas limit of the call
+     * @return whether the client had enough gas left in its bucket
+     */
+    public boolean tryConsume(ServerHttpRequest request, long gas) {
+        final var bucket = buckets.get(getClient(request), k -> newBucket());
+        if (bucket.tryConsume(Math.max(gas, 1L))) {
+            return true;
+        }
+
+        rejections.increment();
+        return false;
+    }
+
+    private String getClient(ServerHttpRequest request) {
+        final var headers = request.getHeaders();
+        final var apiKey = headers.getFirst(throttleProperties.getApiKeyHeader());
+        if (apiKey != null && throttleProperties.getApiKeys().contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+
+        // The load balancer appends the address it received the request from, so the last one is the only one trusted
+        final var addressHeader = throttleProperties.getClientAddressHeader();
+        if (StringUtils.isNotBlank(addressHeader)) {
+            final var addresses = headers.getValuesAsList(addressHeader);
+            if (!addresses.isEmpty()) {
+                return "ip:" + addresses.get(addresses.size() - 1);
+            }
+        }
+
+        final var remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null || remoteAddress.getAddress() == null) {
+            return UNKNOWN_CLIENT;
+        }
+        return "ip:" + remoteAddress.getAddress().getHostAddress();
+    }
+
+    private Bucket newBucket() {
+        final var gasPerSecond = throttleProperties.getClientGasPerSecond();
+        final var limit = Bandwidth.simple(gasPerSecond, Duration.ofSeconds(1));
+        return Bucket.builder().addLimit(limit).build();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.hedera.mirror.web3.evm.properties.ThrottleProperties;
+import com.hedera.mirror.web3.exception.RateLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Executes calls on a bounded pool of threads dedicated to the EVM so they never block the request threads. Calls
+ * wait in a bounded queue for a free thread and are rejected once the queue is full, shedding load before the
+ * latency of the queued calls grows without bound.
+ */
+@Named
+public class ContractCallExecutor {
+
+    private final Timer executionTimer;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Timer queueTimer;
+    private final Scheduler scheduler;
+
+    public ContractCallExecutor(MeterRegistry meterRegistry, ThrottleProperties throttleProperties) {
+        this.scheduler = Schedulers.newBoundedElastic(
+                throttleProperties.getExecutionThreads(), throttleProperties.getExecutionQueueSize(), "contract-call");
+
+        executionTimer = Timer.builder("hedera.mirror.web3.call.execution")
+                .description("The time a call spends executing once it has a thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        queueTimer = Timer.builder("hedera.mirror.web3.call.queue")
+                .description("The time a call waits in the queue for a thread")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("hedera.mirror.web3.call.queued", queued, AtomicInteger::get)
+                .description("The number of calls waiting in the queue for a thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executes the call on the dedicated threads once one is free.
+     *
+     * @param call the blocking call to execute
+     * @return the result of the call, or a {@link RateLimitException} if the queue is full
+     */
+    public <T> Mono<T> execute(Supplier<T> call) {
+        return Mono.defer(() -> {
+            final long queuedAt = System.nanoTime();
+            final var dequeued = new AtomicBoolean();
+            queued.incrementAndGet();
+
+            return Mono.fromSupplier(() -> {
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                        queueTimer.record(System.nanoTime() - queuedAt, NANOSECONDS);
+                        return executionTimer.record(call);
+                    })
+                    .subscribeOn(scheduler)
+                    .doFinally(s -> {
+                        if (dequeued.compareAndSet(false, true)) {
+                            queued.decrementAndGet();
+                        }
+                    })
+                    .onErrorMap(
+                            RejectedExecutionException.class,
+                            e -> new RateLimitException("Too many calls are queued for execution."));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
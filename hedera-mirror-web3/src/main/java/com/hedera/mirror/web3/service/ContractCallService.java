@@ -23,17 +23,36 @@ import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallTyp
 import static org.apache.logging.log4j.util.Strings.EMPTY;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessorFacade;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallDepthTracer;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallFrame;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallTracer;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.DelegatingOperationTracer;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.properties.TraceProperties;
+import com.hedera.mirror.web3.evm.store.BlockContext;
+import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidTransactionException;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
+import com.hedera.mirror.web3.repository.cache.StateCacheInvalidator;
 import com.hedera.mirror.web3.service.model.CallServiceParameters;
 import com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
 import com.hedera.mirror.web3.service.utils.BinaryGasEstimator;
+import com.hedera.mirror.web3.service.utils.SpeculativeGasEstimator;
+import com.hedera.mirror.web3.service.utils.StoragePrefetcher;
+import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
@@ -45,31 +64,109 @@ public class ContractCallService {
 
     private final Counter.Builder gasCounter =
             Counter.builder("hedera.mirror.web3.call.gas").description("The amount of gas consumed by the EVM");
+    private final Timer.Builder estimateDurationMetric = Timer.builder("hedera.mirror.web3.call.estimate.duration")
+            .description("The time it takes to search for the estimated gas")
+            .publishPercentileHistogram();
+    private final DistributionSummary.Builder estimateIterationsMetric = DistributionSummary.builder(
+                    "hedera.mirror.web3.call.estimate.iterations")
+            .description("The number of EVM executions it takes to search for the estimated gas")
+            .publishPercentileHistogram();
     private final MirrorEvmTxProcessorFacade mirrorEvmTxProcessorFacade;
     private final MeterRegistry meterRegistry;
     private final BinaryGasEstimator binaryGasEstimator;
+    private final SpeculativeGasEstimator speculativeGasEstimator;
+    private final MirrorNodeEvmProperties properties;
+    private final RecordFileRepository recordFileRepository;
+    private final StateCacheInvalidator stateCacheInvalidator;
+    private final StoragePrefetcher storagePrefetcher;
+    private final TraceProperties traceProperties;
 
     public String processCall(final CallServiceParameters params) {
         var stopwatch = Stopwatch.createStarted();
         var stringResult = "";
 
         try {
-            if (params.isEstimate()) {
-                stringResult = estimateGas(params);
-                return stringResult;
-            }
-
-            final var ethCallTxnResult = doProcessCall(params, params.getGas());
-            validateResult(ethCallTxnResult, params.getCallType());
-
-            final var callResult = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
-            stringResult = callResult.toHexString();
+            stringResult = processCallAtBlock(params);
             return stringResult;
         } finally {
             log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
         }
     }
 
+    /**
+     * Executes the call like {@link #processCall(CallServiceParameters)} and traces the message frames it executes.
+     * The trace is returned whether the call succeeds or not.
+     *
+     * @param params the call parameters
+     * @return the trace of the call's frame and its nested calls
+     */
+    public CallFrame processTrace(final CallServiceParameters params) {
+        var stopwatch = Stopwatch.createStarted();
+        final var root = new CallFrame();
+        root.setFrom(params.getSender().canonicalAddress());
+        root.setGas(params.getGas());
+        root.setInput(params.getCallData());
+        root.setTo(params.getReceiver());
+        root.setType("CALL");
+        root.setValue(params.getValue());
+
+        final var callTracer = new CallTracer(root, traceProperties.getMaxDepth(), traceProperties.getMaxEntries());
+        final var trace = processAtBlock(params, () -> {
+            final var result = doProcessCall(params, params.getGas(), callTracer);
+            updateGasMetric(result.isSuccessful() ? params.getCallType() : ERROR, result.getGasUsed(), 1);
+            return callTracer.complete(result);
+        });
+
+        log.debug("Traced request {} in {}", params, stopwatch);
+        return trace;
+    }
+
+    private String processCallAtBlock(final CallServiceParameters params) {
+        return processAtBlock(params, () -> execute(params));
+    }
+
+    /**
+     * Executes the call against the state as of the end of a historical block, or the latest state otherwise. For the
+     * latest state, the state caches are first brought up to date with the latest block advertised to the EVM and the
+     * storage the call is expected to read is prefetched into them.
+     */
+    private <T> T processAtBlock(final CallServiceParameters params, final Supplier<T> call) {
+        final var block = params.getBlock();
+        final var latest = recordFileRepository.findLatest();
+
+        if (isLatest(block, latest)) {
+            final var recordFile = latest.orElse(null);
+            stateCacheInvalidator.refresh(recordFile);
+            return BlockContext.run(recordFile, false, () -> storagePrefetcher.run(params, call));
+        }
+
+        final var recordFile = recordFileRepository
+                .findByIndex(block.number())
+                .orElseThrow(() -> new EntityNotFoundException("Unknown block number: " + block.number()));
+        return BlockContext.run(recordFile, true, call);
+    }
+
+    private String execute(final CallServiceParameters params) {
+        if (params.isEstimate()) {
+            return estimateGas(params);
+        }
+
+        final var ethCallTxnResult = doProcessCall(params, params.getGas(), null);
+        validateResult(ethCallTxnResult, params.getCallType());
+
+        final var callResult = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
+        return callResult.toHexString();
+    }
+
+    // The latest block or any block after it doesn't need its state read from the history tables
+    private boolean isLatest(final BlockType block, final Optional<RecordFile> latest) {
+        return block == null
+                || BlockType.LATEST.equals(block)
+                || BlockType.PENDING.equals(block)
+                || latest.isEmpty()
+                || block.number() >= latest.get().getIndex();
+    }
+
     /**
      * This method estimates the amount of gas required to execute a smart contract function. The estimation process
      * involves two steps:
@@ -78,11 +175,13 @@ public class ContractCallService {
      * million) to determine if the call estimation is possible. This step is intended to quickly identify any issues
      * that would prevent the estimation from succeeding.
      * <p>
-     * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
-     * gas used in the first step, while the upper bound is the inputted gas parameter.
+     * 2. Finally, if the first step is successful, a search is initiated. The lower bound of the search is the gas used
+     * in the first step, while the upper bound is the inputted gas parameter. Unless the parallelism is set to 1, the
+     * search executes several candidates per round, starting from the call depth traced in the first step.
      */
     private String estimateGas(final CallServiceParameters params) {
-        HederaEvmTransactionProcessingResult processingResult = doProcessCall(params, params.getGas());
+        final var callDepthTracer = new CallDepthTracer();
+        HederaEvmTransactionProcessingResult processingResult = doProcessCall(params, params.getGas(), callDepthTracer);
         validateResult(processingResult, ETH_ESTIMATE_GAS);
 
         final var gasUsedByInitialCall = processingResult.getGasUsed();
@@ -92,17 +191,33 @@ public class ContractCallService {
             return Bytes.ofUnsignedLong(gasUsedByInitialCall).toHexString();
         }
 
-        final var estimatedGas = binaryGasEstimator.search(
-                (totalGas, iterations) -> updateGasMetric(ETH_ESTIMATE_GAS, totalGas, iterations),
-                gas -> doProcessCall(params, gas),
-                gasUsedByInitialCall,
-                params.getGas());
+        final var speculative = properties.getEstimateGasParallelism() > 1;
+        final var estimator = speculative ? "speculative" : "binary";
+        final ObjIntConsumer<Long> metricUpdater = (totalGas, iterations) -> {
+            updateGasMetric(ETH_ESTIMATE_GAS, totalGas, iterations);
+            estimateIterationsMetric
+                    .tag("estimator", estimator)
+                    .register(meterRegistry)
+                    .record(iterations);
+        };
+
+        final var sample = Timer.start(meterRegistry);
+        final var estimatedGas = speculative
+                ? speculativeGasEstimator.search(
+                        metricUpdater,
+                        gas -> doProcessCall(params, gas, null),
+                        gasUsedByInitialCall,
+                        params.getGas(),
+                        callDepthTracer.getMaxCallDepth())
+                : binaryGasEstimator.search(
+                        metricUpdater, gas -> doProcessCall(params, gas, null), gasUsedByInitialCall, params.getGas());
+        sample.stop(estimateDurationMetric.tag("estimator", estimator).register(meterRegistry));
 
         return Bytes.ofUnsignedLong(estimatedGas).toHexString();
     }
 
     private HederaEvmTransactionProcessingResult doProcessCall(
-            final CallServiceParameters params, final long estimatedGas) {
+            final CallServiceParameters params, final long estimatedGas, final DelegatingOperationTracer tracer) {
         HederaEvmTransactionProcessingResult transactionResult;
         try {
             transactionResult = mirrorEvmTxProcessorFacade.execute(
@@ -111,8 +226,11 @@ public class ContractCallService {
                     params.isEstimate() ? estimatedGas : params.getGas(),
                     params.getValue(),
                     params.getCallData(),
-                    Instant.now(),
-                    params.isStatic());
+                    BlockContext.getTimestamp()
+                            .map(timestamp -> Instant.ofEpochSecond(0, timestamp))
+                            .orElseGet(Instant::now),
+                    params.isStatic(),
+                    tracer);
         } catch (IllegalStateException | IllegalArgumentException e) {
             throw new InvalidTransactionException(e.getMessage(), EMPTY, EMPTY);
         }
@@ -16,14 +16,17 @@
 
 package com.hedera.mirror.web3.service.model;
 
+import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
+import java.util.List;
+import java.util.Map;
 import lombok.Builder;
 import lombok.Value;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 
 @Value
-@Builder
+@Builder(toBuilder = true)
 public class CallServiceParameters {
     HederaEvmAccount sender;
     Address receiver;
@@ -34,6 +37,12 @@ public class CallServiceParameters {
     CallType callType;
     boolean isEstimate;
 
+    @Builder.Default
+    BlockType block = BlockType.LATEST;
+
+    @Builder.Default
+    Map<Address, List<Bytes>> accessList = Map.of();
+
     public enum CallType {
         ETH_CALL,
         ETH_ESTIMATE_GAS,
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service.utils;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.GAS_ESTIMATION_EXECUTOR;
+
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.BlockContext;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import jakarta.inject.Named;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongFunction;
+import java.util.function.ObjIntConsumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+/**
+ * Estimates gas by executing several candidate gas limits concurrently per round instead of one per binary search step.
+ * The first round spreads its candidates up to the gas limit covering the 1/64 of the remaining gas withheld from each
+ * nested call, so most estimates are within the iteration threshold after one or two rounds. A round that has no
+ * successful candidate continues above its highest candidate up to the upper bound.
+ */
+@Named
+public class SpeculativeGasEstimator {
+
+    private static final long WITHHELD_GAS_DIVISOR = 64L;
+
+    private final ExecutorService executor;
+    private final MirrorNodeEvmProperties properties;
+
+    public SpeculativeGasEstimator(
+            @Qualifier(GAS_ESTIMATION_EXECUTOR) final ExecutorService executor,
+            final MirrorNodeEvmProperties properties) {
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public long search(
+            final ObjIntConsumer<Long> metricUpdater,
+            final LongFunction<HederaEvmTransactionProcessingResult> call,
+            long lo,
+            long hi,
+            final int callDepth) {
+        final long threshold = properties.getEstimateGasIterationThreshold();
+        final int maxIterations = properties.getMaxGasEstimateRetriesCount();
+        long bound = Math.min(withheldGasBound(lo, callDepth), hi);
+        int iterationsMade = 0;
+        long totalGasUsed = 0;
+
+        while (lo + 1 < hi && iterationsMade < maxIterations) {
+            final int count = Math.min(properties.getEstimateGasParallelism(), maxIterations - iterationsMade);
+            // The upper bound already succeeded in the initial call, so it isn't executed again
+            final var candidates = candidates(lo, bound, count, threshold, bound < hi);
+            final var results = execute(call, candidates);
+            iterationsMade += candidates.length;
+
+            int passed = -1;
+            for (int i = candidates.length - 1; i >= 0; i--) {
+                final var result = results.get(i);
+                if (result.isSuccessful() && result.getGasUsed() > 0) {
+                    totalGasUsed += result.getGasUsed();
+                    passed = i;
+                }
+            }
+
+            if (passed >= 0) {
+                hi = candidates[passed];
+                lo = passed > 0 ? candidates[passed - 1] : lo;
+            } else {
+                lo = candidates[candidates.length - 1];
+            }
+
+            if (hi - lo <= threshold) {
+                break;
+            }
+            bound = hi;
+        }
+
+        metricUpdater.accept(totalGasUsed, iterationsMade);
+        return hi;
+    }
+
+    // Each nested call gets at most 63/64 of the remaining gas, so the gas used is scaled by 64/63 per level of depth
+    private long withheldGasBound(final long gasUsed, final int callDepth) {
+        long bound = gasUsed;
+        for (int i = 0; i < callDepth && bound < Long.MAX_VALUE / 2; i++) {
+            bound += bound / (WITHHELD_GAS_DIVISOR - 1) + 1;
+        }
+        return bound;
+    }
+
+    /**
+     * Evenly spaced gas limits between lo and bound. The bound is only included when it hasn't been executed yet, and
+     * is then the only candidate when the range is within the iteration threshold.
+     */
+    private long[] candidates(
+            final long lo, final long bound, final int count, final long threshold, final boolean inclusive) {
+        final long range = bound - lo;
+        if (count == 1 || (inclusive && range <= threshold)) {
+            return new long[] {inclusive ? bound : lo + range / 2};
+        }
+
+        final int size = (int) Math.min(count, inclusive ? range : range - 1);
+        final long step = Math.max(range / (inclusive ? size : size + 1), 1L);
+        final var candidates = new long[size];
+        for (int i = 0; i < size; i++) {
+            candidates[i] = lo + step * (i + 1);
+        }
+        if (inclusive) {
+            candidates[size - 1] = bound;
+        }
+        return candidates;
+    }
+
+    private List<HederaEvmTransactionProcessingResult> execute(
+            final LongFunction<HederaEvmTransactionProcessingResult> call, final long[] candidates) {
+        if (candidates.length == 1) {
+            return List.of(call.apply(candidates[0]));
+        }
+
+        final var futures = Arrays.stream(candidates)
+                .mapToObj(gas -> BlockContext.propagate(() -> call.apply(gas)))
+                .map(supplier -> CompletableFuture.supplyAsync(supplier, executor))
+                .toList();
+
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
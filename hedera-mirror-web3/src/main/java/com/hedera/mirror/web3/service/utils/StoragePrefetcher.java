@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service.utils;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.StorageAccessContext;
+import com.hedera.mirror.web3.evm.store.contract.MirrorEntityAccess;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.apache.tuweni.bytes.Bytes;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Loads the storage slots a call is expected to read into the shared storage cache with one query per contract before
+ * the call is executed, instead of one query per SLOAD during it. The expected slots are the ones in the call's access
+ * list plus the ones read by the last latest state call to the same contract and function selector.
+ */
+@CustomLog
+@Named
+public class StoragePrefetcher {
+
+    private static final int SELECTOR_LENGTH = 4;
+
+    private final com.github.benmanes.caffeine.cache.Cache<AccessSetKey, Map<Long, Set<Bytes>>> accessSets;
+    private final ContractStateRepository contractStateRepository;
+    private final MirrorEntityAccess mirrorEntityAccess;
+    private final MirrorNodeEvmProperties properties;
+    private final Counter queries;
+    private final StateCacheManager stateCacheManager;
+    private final Cache storageCache;
+    private final Counter unusedSlots;
+    private final Counter usedSlots;
+
+    public StoragePrefetcher(
+            CacheProperties cacheProperties,
+            ContractStateRepository contractStateRepository,
+            MeterRegistry meterRegistry,
+            MirrorEntityAccess mirrorEntityAccess,
+            MirrorNodeEvmProperties properties,
+            @Qualifier(CACHE_MANAGER_STATE) StateCacheManager stateCacheManager) {
+        this.accessSets = Caffeine.from(cacheProperties.getAccessSet()).build();
+        this.contractStateRepository = contractStateRepository;
+        this.mirrorEntityAccess = mirrorEntityAccess;
+        this.properties = properties;
+        this.stateCacheManager = stateCacheManager;
+        this.storageCache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_STORAGE));
+
+        queries = Counter.builder("hedera.mirror.web3.prefetch.queries")
+                .description("The number of queries made to prefetch storage slots")
+                .register(meterRegistry);
+        final var slots = Counter.builder("hedera.mirror.web3.prefetch.slots")
+                .description("The number of storage slots prefetched, by whether the call read them");
+        unusedSlots = slots.tag("result", "unused").register(meterRegistry);
+        usedSlots = slots.tag("result", "used").register(meterRegistry);
+    }
+
+    /**
+     * Prefetches the storage slots the call is expected to read, then executes the call while recording the slots it
+     * actually reads. Must be called within the block context of the latest state.
+     *
+     * @param params the call parameters
+     * @param call   executes the call
+     * @return the result of the call
+     */
+    public <T> T run(final CallServiceParameters params, final Supplier<T> call) {
+        final int maxSlots = properties.getStoragePrefetchMaxSlots();
+        if (maxSlots <= 0) {
+            return call.get();
+        }
+
+        final var key = accessSetKey(params);
+        final var prefetched = prefetch(expectedSlots(key, params, maxSlots));
+        final var accesses = new HashMap<Long, Set<Bytes>>();
+
+        try {
+            return StorageAccessContext.run(accesses, call);
+        } finally {
+            learn(key, accesses, maxSlots);
+            updateMetrics(prefetched, accesses);
+        }
+    }
+
+    private AccessSetKey accessSetKey(final CallServiceParameters params) {
+        final var callData = params.getCallData();
+        if (params.getReceiver() == null || callData == null || callData.size() < SELECTOR_LENGTH) {
+            return null;
+        }
+
+        final long contractId = mirrorEntityAccess.fetchEntityId(params.getReceiver());
+        return contractId != 0 ? new AccessSetKey(contractId, callData.slice(0, SELECTOR_LENGTH).copy()) : null;
+    }
+
+    private Map<Long, Set<Bytes>> expectedSlots(
+            final AccessSetKey key, final CallServiceParameters params, final int maxSlots) {
+        final var expected = new HashMap<Long, Set<Bytes>>();
+        final var learned = key != null ? accessSets.getIfPresent(key) : null;
+        if (learned != null) {
+            learned.forEach((contractId, slots) -> expected.put(contractId, new HashSet<>(slots)));
+        }
+
+        params.getAccessList().forEach((address, storageKeys) -> {
+            final long contractId = mirrorEntityAccess.fetchEntityId(address);
+            if (contractId != 0) {
+                final var slots = expected.computeIfAbsent(contractId, k -> new HashSet<>());
+                storageKeys.forEach(slot -> slots.add(Bytes.wrap(slot.toArray())));
+            }
+        });
+
+        final var missing = new HashMap<Long, Set<Bytes>>();
+        expected.forEach((contractId, slots) -> {
+            final var uncached = new HashSet<Bytes>();
+            for (var slot : slots) {
+                if (uncached.size() >= maxSlots) {
+                    break;
+                }
+                if (storageCache.get(new SimpleKey(contractId, slot.toArrayUnsafe())) == null) {
+                    uncached.add(slot);
+                }
+            }
+
+            if (!uncached.isEmpty()) {
+                missing.put(contractId, uncached);
+            }
+        });
+
+        return missing;
+    }
+
+    /**
+     * Puts the values of the slots into the storage cache, or null for the slots without a value so the call doesn't
+     * query them either. Like {@link StateCacheManager}'s loads, the values are evicted again if an invalidation
+     * started while they were queried.
+     */
+    private Map<Long, Set<Bytes>> prefetch(final Map<Long, Set<Bytes>> slotsByContract) {
+        slotsByContract.forEach((contractId, slots) -> {
+            final long version = stateCacheManager.getVersion();
+            final var keys = new ArrayList<byte[]>(slots.size());
+            slots.forEach(slot -> keys.add(slot.toArrayUnsafe()));
+
+            final var values = new HashMap<Bytes, byte[]>();
+            for (var slotValue : contractStateRepository.findStorageBySlots(contractId, keys)) {
+                values.put(Bytes.wrap(slotValue.getSlot()), slotValue.getValue());
+            }
+            queries.increment();
+
+            for (var slot : slots) {
+                storageCache.put(new SimpleKey(contractId, slot.toArrayUnsafe()), values.get(slot));
+            }
+
+            if (stateCacheManager.getVersion() != version) {
+                slots.forEach(slot -> storageCache.evict(new SimpleKey(contractId, slot.toArrayUnsafe())));
+            }
+        });
+
+        return slotsByContract;
+    }
+
+    // A call reading more slots than are prefetched in one query is unlikely to be repeated, so it isn't learned
+    private void learn(final AccessSetKey key, final Map<Long, Set<Bytes>> accesses, final int maxSlots) {
+        if (key == null || accesses.isEmpty()) {
+            return;
+        }
+
+        final var learned = new HashMap<Long, Set<Bytes>>();
+        accesses.forEach((contractId, slots) -> {
+            if (slots.size() <= maxSlots) {
+                learned.put(contractId, Set.copyOf(slots));
+            }
+        });
+
+        if (learned.isEmpty()) {
+            accessSets.invalidate(key);
+        } else {
+            accessSets.put(key, Map.copyOf(learned));
+        }
+    }
+
+    private void updateMetrics(final Map<Long, Set<Bytes>> prefetched, final Map<Long, Set<Bytes>> accesses) {
+        long used = 0;
+        long total = 0;
+        for (var entry : prefetched.entrySet()) {
+            final var accessed = accesses.getOrDefault(entry.getKey(), Set.of());
+            for (var slot : entry.getValue()) {
+                if (accessed.contains(slot)) {
+                    used++;
+                }
+            }
+            total += entry.getValue().size();
+        }
+
+        usedSlots.increment(used);
+        unusedSlots.increment(total - used);
+        log.debug(
+                "Prefetched {} storage slots with {} queries and the call read {} of them",
+                total,
+                prefetched.size(),
+                used);
+    }
+
+    private record AccessSetKey(long contractId, Bytes selector) {}
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.viewmodel;
+
+import static com.hedera.mirror.web3.viewmodel.ContractCallRequest.ADDRESS_LENGTH;
+
+import com.hedera.mirror.web3.validation.Hex;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * An EIP-2930 access list entry. The storage keys are only a hint of the slots the call reads, so they're loaded
+ * before the call instead of being charged for.
+ */
+@Data
+public class AccessListEntry {
+
+    public static final int STORAGE_KEY_LENGTH = 64;
+
+    @Hex(minLength = ADDRESS_LENGTH, maxLength = ADDRESS_LENGTH)
+    @NotNull
+    private String address;
+
+    @NotNull
+    @Size(max = 1024)
+    private List<@Hex(minLength = STORAGE_KEY_LENGTH, maxLength = STORAGE_KEY_LENGTH) String> storageKeys = List.of();
+}
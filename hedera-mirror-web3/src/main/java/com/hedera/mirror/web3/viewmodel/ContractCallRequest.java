@@ -21,10 +21,13 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.hedera.mirror.web3.convert.BlockTypeDeserializer;
 import com.hedera.mirror.web3.convert.BlockTypeSerializer;
 import com.hedera.mirror.web3.validation.Hex;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.Data;
 import org.hyperledger.besu.datatypes.Address;
 
@@ -33,6 +36,9 @@ public class ContractCallRequest {
 
     public static final int ADDRESS_LENGTH = 40;
 
+    @Size(max = 100)
+    private List<@Valid AccessListEntry> accessList = List.of();
+
     @JsonSerialize(using = BlockTypeSerializer.class)
     @JsonDeserialize(using = BlockTypeDeserializer.class)
     private BlockType block = BlockType.LATEST;
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2019-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.viewmodel;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallFrame;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A frame of the trace of a call in the geth call tracer's format, with the precompile flag, the storage accessed by
+ * the frame and the truncation flag added. Empty and false fields are omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ContractCallTraceResponse(
+        String type,
+        String from,
+        String to,
+        String value,
+        String gas,
+        String gasUsed,
+        String input,
+        String output,
+        String error,
+        String revertReason,
+        Boolean precompile,
+        Map<String, String> storageReads,
+        Map<String, String> storageWrites,
+        Boolean truncated,
+        List<ContractCallTraceResponse> calls) {
+
+    public static ContractCallTraceResponse of(final CallFrame frame) {
+        return new ContractCallTraceResponse(
+                frame.getType(),
+                frame.getFrom() != null ? frame.getFrom().toHexString() : null,
+                frame.getTo() != null ? frame.getTo().toHexString() : null,
+                toQuantity(frame.getValue()),
+                toQuantity(frame.getGas()),
+                toQuantity(frame.getGasUsed()),
+                frame.getInput().toHexString(),
+                frame.getOutput().toHexString(),
+                frame.getError(),
+                frame.getRevertReason(),
+                frame.isPrecompile() ? Boolean.TRUE : null,
+                toHex(frame.getStorageReads()),
+                toHex(frame.getStorageWrites()),
+                frame.isTruncated() ? Boolean.TRUE : null,
+                frame.getCalls().stream().map(ContractCallTraceResponse::of).toList());
+    }
+
+    private static Map<String, String> toHex(final Map<Bytes, Bytes> storage) {
+        final var hex = new LinkedHashMap<String, String>(storage.size());
+        storage.forEach((slot, value) -> hex.put(slot.toHexString(), value.toHexString()));
+        return hex;
+    }
+
+    private static String toQuantity(final long value) {
+        return "0x" + Long.toHexString(value);
+    }
+}
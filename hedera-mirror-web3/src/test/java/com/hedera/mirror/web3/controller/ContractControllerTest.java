@@ -19,6 +19,7 @@ package com.hedera.mirror.web3.controller;
 import static com.hedera.mirror.web3.validation.HexValidator.MESSAGE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_REVERT_EXECUTED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -26,15 +27,20 @@ import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNSUPPORTED_MEDIA_TYPE;
 
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallFrame;
 import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
 import com.hedera.mirror.web3.exception.InvalidTransactionException;
+import com.hedera.mirror.web3.exception.RateLimitException;
+import com.hedera.mirror.web3.service.ClientRateLimiter;
+import com.hedera.mirror.web3.service.ContractCallExecutor;
 import com.hedera.mirror.web3.service.ContractCallService;
 import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
 import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import io.github.bucket4j.Bucket;
 import jakarta.annotation.Resource;
+import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,12 +55,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(SpringExtension.class)
 @WebFluxTest(controllers = ContractController.class)
 class ContractControllerTest {
 
     private static final String CALL_URI = "/api/v1/contracts/call";
+    private static final String TRACE_URI = "/api/v1/contracts/call/trace";
 
     @Resource
     private WebTestClient webClient;
@@ -65,9 +73,17 @@ class ContractControllerTest {
     @MockBean
     private Bucket bucket;
 
+    @MockBean
+    private ClientRateLimiter clientRateLimiter;
+
+    @MockBean
+    private ContractCallExecutor executor;
+
     @BeforeEach
     void setUp() {
         given(bucket.tryConsume(1)).willReturn(true);
+        given(clientRateLimiter.tryConsume(any(), anyLong())).willReturn(true);
+        given(executor.execute(any())).willAnswer(i -> Mono.fromSupplier(i.<Supplier<?>>getArgument(0)));
     }
 
     @NullAndEmptySource
@@ -132,6 +148,41 @@ class ContractControllerTest {
                 .isEqualTo(TOO_MANY_REQUESTS);
     }
 
+    @Test
+    void exceedingClientGasLimit() {
+        final var request = request();
+        request.setGas(15_000_000L);
+        given(clientRateLimiter.tryConsume(any(), anyLong())).willReturn(false);
+
+        webClient
+                .post()
+                .uri(CALL_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(request))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(TOO_MANY_REQUESTS)
+                .expectBody(GenericErrorResponse.class)
+                .isEqualTo(new GenericErrorResponse("Client gas limit exceeded."));
+    }
+
+    @Test
+    void executionQueueFull() {
+        final var message = "Too many calls are queued for execution.";
+        given(executor.execute(any())).willReturn(Mono.error(new RateLimitException(message)));
+
+        webClient
+                .post()
+                .uri(CALL_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(request()))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(TOO_MANY_REQUESTS)
+                .expectBody(GenericErrorResponse.class)
+                .isEqualTo(new GenericErrorResponse(message));
+    }
+
     @NullAndEmptySource
     @ValueSource(
             strings = {
@@ -384,6 +435,57 @@ class ContractControllerTest {
                 .isEqualTo(OK);
     }
 
+    @Test
+    void trace() {
+        final var request = request();
+        request.setData("0x1079023a0000000000000000000000000000000000000000000000000000000000000156");
+        request.setValue(0);
+        final var trace = new CallFrame();
+        trace.setGas(request.getGas());
+        trace.setGasUsed(21_000L);
+        trace.setType("CALL");
+        trace.setError("execution reverted");
+        trace.setRevertReason("Custom revert message");
+        given(service.processTrace(any())).willReturn(trace);
+
+        webClient
+                .post()
+                .uri(TRACE_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(request))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(OK)
+                .expectBody()
+                .jsonPath("$.type")
+                .isEqualTo("CALL")
+                .jsonPath("$.gas")
+                .isEqualTo("0x30d40")
+                .jsonPath("$.gasUsed")
+                .isEqualTo("0x5208")
+                .jsonPath("$.revertReason")
+                .isEqualTo("Custom revert message")
+                .jsonPath("$.calls")
+                .doesNotExist();
+    }
+
+    @Test
+    void traceEstimate() {
+        final var request = request();
+        request.setEstimate(true);
+
+        webClient
+                .post()
+                .uri(TRACE_URI)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(BodyInserters.fromValue(request))
+                .exchange()
+                .expectStatus()
+                .isEqualTo(BAD_REQUEST)
+                .expectBody(GenericErrorResponse.class)
+                .isEqualTo(new GenericErrorResponse("Tracing a gas estimate is not supported"));
+    }
+
     @Test
     void callSuccessCors() {
         webClient
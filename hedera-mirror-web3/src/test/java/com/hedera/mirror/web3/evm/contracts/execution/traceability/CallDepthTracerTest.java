@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.node.app.service.evm.contracts.execution.traceability.HederaEvmOperationTracer;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation.OperationResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CallDepthTracerTest {
+
+    @Mock
+    private HederaEvmOperationTracer delegate;
+
+    @Mock
+    private MessageFrame messageFrame;
+
+    @Mock
+    private OperationResult operationResult;
+
+    private final CallDepthTracer callDepthTracer = new CallDepthTracer();
+
+    @Test
+    void maxCallDepth() {
+        given(messageFrame.getMessageStackDepth()).willReturn(0, 2, 1);
+
+        callDepthTracer.tracePostExecution(messageFrame, operationResult);
+        callDepthTracer.tracePostExecution(messageFrame, operationResult);
+        callDepthTracer.tracePostExecution(messageFrame, operationResult);
+
+        assertThat(callDepthTracer.getMaxCallDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void delegate() {
+        callDepthTracer.setDelegate(delegate);
+
+        callDepthTracer.tracePostExecution(messageFrame, operationResult);
+
+        verify(delegate).tracePostExecution(messageFrame, operationResult);
+        assertThat(callDepthTracer.getMaxCallDepth()).isZero();
+    }
+}
@@ -16,34 +16,51 @@
 
 package com.hedera.mirror.web3.evm.pricing;
 
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILEAPPEND;
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILECREATE;
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILEUPDATE;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static org.apache.commons.lang3.ArrayUtils.EMPTY_BYTE_ARRAY;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.repository.FileDataRepository;
 import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
+import com.hederahashgraph.api.proto.java.FeeComponents;
 import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.FeeSchedule;
 import com.hederahashgraph.api.proto.java.TimestampSeconds;
 import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class RatesAndFeesLoaderTest {
     @Mock
     private FileDataRepository fileDataRepository;
 
-    @InjectMocks
+    private MirrorNodeEvmProperties mirrorNodeEvmProperties;
     private RatesAndFeesLoader subject;
 
     private static final long nanos = 1_234_567_890L;
@@ -79,10 +96,16 @@ class RatesAndFeesLoaderTest {
     private static final String CORRUPT_SCHEDULES_MESSAGE = "Fee schedule 0.0.111 is corrupt!";
     private static final long FEE_SCHEDULES_ID = 111L;
 
+    @BeforeEach
+    void setup() {
+        mirrorNodeEvmProperties = new MirrorNodeEvmProperties();
+        subject = new RatesAndFeesLoader(new CaffeineCacheManager(), fileDataRepository, mirrorNodeEvmProperties);
+    }
+
     @Test
     void loadExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(exchangeRatesSet.toByteArray());
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, exchangeRatesSet.toByteArray())));
 
         final var actual = subject.loadExchangeRates(nanos);
 
@@ -91,8 +114,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadEmptyExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(EMPTY_BYTE_ARRAY);
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, EMPTY_BYTE_ARRAY)));
 
         final var actual = subject.loadExchangeRates(nanos);
         assertThat(actual).isEqualTo(ExchangeRateSet.newBuilder().build());
@@ -100,18 +123,73 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadWrongDataExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn("corrupt".getBytes());
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, "corrupt".getBytes())));
 
         final var exception = assertThrows(IllegalStateException.class, () -> subject.loadExchangeRates(nanos));
 
         assertThat(exception.getMessage()).isEqualTo(CORRUPT_RATES_MESSAGE);
     }
 
+    @Test
+    void loadMissingExchangeRates() {
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, exchangeRatesSet.toByteArray())));
+
+        final var exception = assertThrows(IllegalStateException.class, () -> subject.loadExchangeRates(nanos - 1));
+
+        assertThat(exception.getMessage()).isEqualTo("Rates 0.0.112 are not found at " + (nanos - 1));
+    }
+
+    @Test
+    void loadExchangeRatesAtTimestamp() {
+        final var updatedRates = exchangeRates(3, 30);
+        final var corruptUpdate = nanos + 20;
+        final var update = nanos + 10;
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(
+                        fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, exchangeRatesSet.toByteArray()),
+                        fileData(EXCHANGE_RATES_ID, update, FILEUPDATE, updatedRates.toByteArray()),
+                        fileData(EXCHANGE_RATES_ID, update + 5, FILEUPDATE, EMPTY_BYTE_ARRAY),
+                        fileData(EXCHANGE_RATES_ID, corruptUpdate, FILEUPDATE, "corrupt".getBytes())));
+
+        assertThat(subject.loadExchangeRates(corruptUpdate + 1)).isEqualTo(updatedRates);
+        assertThat(subject.loadExchangeRates(nanos)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(update - 1)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(update)).isEqualTo(updatedRates);
+        assertThat(subject.loadExchangeRates(update + 5)).isEqualTo(updatedRates);
+        verify(fileDataRepository, times(1)).findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void refreshExchangeRates() {
+        final var updatedRates = exchangeRates(3, 30);
+        final var update = nanos + 10;
+        mirrorNodeEvmProperties.setRatesAndFeesRefreshInterval(Duration.ZERO);
+        when(fileDataRepository.findFileDataAfter(EXCHANGE_RATES_ID, 0L, RatesAndFeesLoader.REFRESH_BATCH_SIZE))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, exchangeRatesSet.toByteArray())));
+        when(fileDataRepository.findFileDataAfter(EXCHANGE_RATES_ID, nanos, RatesAndFeesLoader.REFRESH_BATCH_SIZE))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, update, FILEUPDATE, updatedRates.toByteArray())));
+
+        assertThat(subject.loadExchangeRates(nanos)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(update)).isEqualTo(updatedRates);
+        assertThat(subject.loadExchangeRates(nanos)).isEqualTo(exchangeRatesSet);
+    }
+
+    @Test
+    void refreshExchangeRatesThrottled() {
+        when(fileDataRepository.findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(EXCHANGE_RATES_ID, nanos, FILECREATE, exchangeRatesSet.toByteArray())));
+
+        assertThat(subject.loadExchangeRates(nanos + 1)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(nanos + 2)).isEqualTo(exchangeRatesSet);
+        verify(fileDataRepository, times(1)).findFileDataAfter(eq(EXCHANGE_RATES_ID), anyLong(), anyInt());
+    }
+
     @Test
     void loadFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(feeSchedules.toByteArray());
+        when(fileDataRepository.findFileDataAfter(eq(FEE_SCHEDULES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(FEE_SCHEDULES_ID, nanos, FILECREATE, feeSchedules.toByteArray())));
 
         final var actual = subject.loadFeeSchedules(nanos);
 
@@ -120,8 +198,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadEmptyFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(EMPTY_BYTE_ARRAY);
+        when(fileDataRepository.findFileDataAfter(eq(FEE_SCHEDULES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(FEE_SCHEDULES_ID, nanos, FILECREATE, EMPTY_BYTE_ARRAY)));
 
         final var actual = subject.loadFeeSchedules(nanos);
         assertThat(actual).isEqualTo(CurrentAndNextFeeSchedule.newBuilder().build());
@@ -129,11 +207,70 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadWrongDataFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn("corrupt".getBytes());
+        when(fileDataRepository.findFileDataAfter(eq(FEE_SCHEDULES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(fileData(FEE_SCHEDULES_ID, nanos, FILECREATE, "corrupt".getBytes())));
 
         final var exception = assertThrows(IllegalStateException.class, () -> subject.loadFeeSchedules(nanos));
 
         assertThat(exception.getMessage()).isEqualTo(CORRUPT_SCHEDULES_MESSAGE);
     }
+
+    @Test
+    void loadFeeSchedulesWithPartialAppends() {
+        final var updatedSchedules = feeSchedules(100);
+        final var bytes = updatedSchedules.toByteArray();
+        final var chunk = bytes.length / 3;
+        final var firstChunk = Arrays.copyOfRange(bytes, 0, chunk);
+        final var secondChunk = Arrays.copyOfRange(bytes, chunk, 2 * chunk);
+        final var lastChunk = Arrays.copyOfRange(bytes, 2 * chunk, bytes.length);
+        final var update = nanos + 10;
+        final var firstAppend = nanos + 20;
+        final var lastAppend = nanos + 30;
+        when(fileDataRepository.findFileDataAfter(eq(FEE_SCHEDULES_ID), anyLong(), anyInt()))
+                .thenReturn(List.of(
+                        fileData(FEE_SCHEDULES_ID, nanos, FILECREATE, feeSchedules.toByteArray()),
+                        fileData(FEE_SCHEDULES_ID, update, FILEUPDATE, firstChunk),
+                        fileData(FEE_SCHEDULES_ID, firstAppend, FILEAPPEND, secondChunk),
+                        fileData(FEE_SCHEDULES_ID, lastAppend, FILEAPPEND, lastChunk)));
+
+        assertThat(subject.loadFeeSchedules(lastAppend + 1)).isEqualTo(updatedSchedules);
+        assertThat(subject.loadFeeSchedules(update)).isEqualTo(feeSchedules);
+        assertThat(subject.loadFeeSchedules(firstAppend)).isEqualTo(feeSchedules);
+        assertThat(subject.loadFeeSchedules(lastAppend - 1)).isEqualTo(feeSchedules);
+        assertThat(subject.loadFeeSchedules(lastAppend)).isEqualTo(updatedSchedules);
+    }
+
+    private static ExchangeRateSet exchangeRates(int centEquiv, int hbarEquiv) {
+        return exchangeRatesSet.toBuilder()
+                .setCurrentRate(exchangeRatesSet.getCurrentRate().toBuilder()
+                        .setCentEquiv(centEquiv)
+                        .setHbarEquiv(hbarEquiv))
+                .build();
+    }
+
+    private static CurrentAndNextFeeSchedule feeSchedules(int fee) {
+        final var feeSchedule = FeeSchedule.newBuilder()
+                .setExpiryTime(TimestampSeconds.newBuilder().setSeconds(nanos))
+                .addTransactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                        .setHederaFunctionality(ContractCall)
+                        .addFees(FeeData.newBuilder()
+                                .setNodedata(FeeComponents.newBuilder().setConstant(fee))))
+                .addTransactionFeeSchedule(TransactionFeeSchedule.newBuilder()
+                        .setHederaFunctionality(CryptoTransfer)
+                        .addFees(FeeData.newBuilder()
+                                .setNodedata(FeeComponents.newBuilder().setConstant(fee))));
+        return CurrentAndNextFeeSchedule.newBuilder()
+                .setCurrentFeeSchedule(feeSchedule)
+                .setNextFeeSchedule(feeSchedule)
+                .build();
+    }
+
+    private static FileData fileData(long fileId, long timestamp, TransactionType type, byte[] data) {
+        return FileData.builder()
+                .consensusTimestamp(timestamp)
+                .entityId(EntityId.of(0L, 0L, fileId, EntityType.FILE))
+                .fileData(data)
+                .transactionType(type.getProtoId())
+                .build();
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022-2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store.contract;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ENTITY;
+import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.Code;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class MirrorCodeCacheTest extends Web3IntegrationTest {
+
+    private final JdbcOperations jdbcOperations;
+    private final MirrorCodeCache mirrorCodeCache;
+
+    @Qualifier(CACHE_MANAGER_STATE)
+    private final StateCacheManager stateCacheManager;
+
+    @Test
+    void cached() {
+        var entity = domainBuilder.entity().customize(e -> e.type(CONTRACT)).persist();
+        var contract = domainBuilder.contract().customize(c -> c.id(entity.getId())).persist();
+        var address = toAddress(entity.toEntityId());
+
+        var code = mirrorCodeCache.getIfPresent(address);
+        assertThat(code.getBytes()).isEqualTo(Bytes.wrap(contract.getRuntimeBytecode()));
+        assertThat(mirrorCodeCache.getIfPresent(address)).isSameAs(code);
+    }
+
+    @Test
+    void modifiedTimestampChanged() {
+        var entity = domainBuilder.entity().customize(e -> e.type(CONTRACT)).persist();
+        domainBuilder.contract().customize(c -> c.id(entity.getId())).persist();
+        var address = toAddress(entity.toEntityId());
+        var code = mirrorCodeCache.getIfPresent(address);
+
+        updateModifiedTimestamp(entity, domainBuilder.timestamp());
+        assertThat(mirrorCodeCache.getIfPresent(address)).isNotSameAs(code).returns(code.getBytes(), Code::getBytes);
+    }
+
+    private void updateModifiedTimestamp(Entity entity, long timestamp) {
+        jdbcOperations.update(
+                "update entity set timestamp_range = int8range(?, null) where id = ?", timestamp, entity.getId());
+        Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_ENTITY)).clear();
+    }
+}
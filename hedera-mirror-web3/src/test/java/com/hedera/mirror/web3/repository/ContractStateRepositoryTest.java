@@ -51,4 +51,41 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorage(contractState.getContractId(), new byte[20]))
                 .isEmpty();
     }
+
+    @Test
+    void findStorageByBlockTimestamp() {
+        var first = domainBuilder.contractStateChange().persist();
+        var second = domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(first.getContractId()).slot(first.getSlot()))
+                .persist();
+        var readOnly = domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(first.getContractId())
+                        .slot(first.getSlot())
+                        .valueRead(second.getValueWritten())
+                        .valueWritten(null))
+                .persist();
+        long contractId = first.getContractId();
+        var slot = first.getSlot();
+
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractId, slot, first.getConsensusTimestamp() - 1))
+                .isEmpty();
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractId, slot, first.getConsensusTimestamp()))
+                .get()
+                .isEqualTo(first.getValueWritten());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractId, slot, readOnly.getConsensusTimestamp() - 1))
+                .get()
+                .isEqualTo(second.getValueWritten());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractId, slot, readOnly.getConsensusTimestamp()))
+                .get()
+                .isEqualTo(readOnly.getValueRead());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractId, new byte[20], readOnly.getConsensusTimestamp()))
+                .isEmpty();
+    }
 }
@@ -18,7 +18,9 @@ package com.hedera.mirror.web3.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityHistory;
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -71,4 +73,60 @@ class EntityRepositoryTest extends Web3IntegrationTest {
         assertThat(entityRepository.findByEvmAddressAndDeletedIsFalse(entity.getEvmAddress()))
                 .isEmpty();
     }
+
+    @Test
+    void findActiveByIdAndBlockTimestamp() {
+        var entityHistory = persistEntityHistory();
+        var entity = persistEntity(entityHistory);
+        long id = entity.getId();
+
+        assertThat(entityRepository.findActiveByIdAndBlockTimestamp(id, entityHistory.getTimestampLower()))
+                .get()
+                .returns(entityHistory.getBalance(), Entity::getBalance);
+        assertThat(entityRepository.findActiveByIdAndBlockTimestamp(id, entity.getTimestampLower()))
+                .get()
+                .isEqualTo(entity);
+        assertThat(entityRepository.findActiveByIdAndBlockTimestamp(id, entityHistory.getTimestampLower() - 1))
+                .isEmpty();
+    }
+
+    @Test
+    void findActiveByIdAndBlockTimestampDeleted() {
+        var entity = domainBuilder.entity().customize(e -> e.deleted(true)).persist();
+        assertThat(entityRepository.findActiveByIdAndBlockTimestamp(entity.getId(), entity.getTimestampLower()))
+                .isEmpty();
+    }
+
+    @Test
+    void findActiveByEvmAddressAndBlockTimestamp() {
+        var entityHistory = persistEntityHistory();
+        var entity = persistEntity(entityHistory);
+        var evmAddress = entity.getEvmAddress();
+
+        assertThat(entityRepository.findActiveByEvmAddressAndBlockTimestamp(
+                        evmAddress, entityHistory.getTimestampLower()))
+                .get()
+                .returns(entityHistory.getBalance(), Entity::getBalance);
+        assertThat(entityRepository.findActiveByEvmAddressAndBlockTimestamp(evmAddress, entity.getTimestampLower()))
+                .get()
+                .isEqualTo(entity);
+        assertThat(entityRepository.findActiveByEvmAddressAndBlockTimestamp(
+                        evmAddress, entityHistory.getTimestampLower() - 1))
+                .isEmpty();
+    }
+
+    private EntityHistory persistEntityHistory() {
+        return domainBuilder.entityHistory().persist();
+    }
+
+    private Entity persistEntity(EntityHistory entityHistory) {
+        return domainBuilder
+                .entity()
+                .customize(e -> e.id(entityHistory.getId())
+                        .num(entityHistory.getNum())
+                        .createdTimestamp(entityHistory.getCreatedTimestamp())
+                        .evmAddress(entityHistory.getEvmAddress())
+                        .timestampRange(Range.atLeast(entityHistory.getTimestampUpper())))
+                .persist();
+    }
 }
@@ -16,20 +16,12 @@
 
 package com.hedera.mirror.web3.repository;
 
-import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
-import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.web3.Web3IntegrationTest;
-import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
-import com.hederahashgraph.api.proto.java.ExchangeRate;
-import com.hederahashgraph.api.proto.java.ExchangeRateSet;
-import com.hederahashgraph.api.proto.java.FeeData;
-import com.hederahashgraph.api.proto.java.FeeSchedule;
-import com.hederahashgraph.api.proto.java.TimestampSeconds;
-import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
 import jakarta.annotation.Resource;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
@@ -41,59 +33,36 @@ class FileDataRepositoryTest extends Web3IntegrationTest {
     @Resource
     private final FileDataRepository fileDataRepository;
 
-    private static final long expiry = 1_234_567_890L;
-    private static final ExchangeRateSet exchangeRatesSet = ExchangeRateSet.newBuilder()
-            .setCurrentRate(ExchangeRate.newBuilder()
-                    .setCentEquiv(1)
-                    .setHbarEquiv(12)
-                    .setExpirationTime(TimestampSeconds.newBuilder().setSeconds(expiry))
-                    .build())
-            .setNextRate(ExchangeRate.newBuilder()
-                    .setCentEquiv(2)
-                    .setHbarEquiv(31)
-                    .setExpirationTime(TimestampSeconds.newBuilder().setSeconds(2_234_567_890L))
-                    .build())
-            .build();
-
-    private static final CurrentAndNextFeeSchedule feeSchedules = CurrentAndNextFeeSchedule.newBuilder()
-            .setCurrentFeeSchedule(FeeSchedule.newBuilder()
-                    .setExpiryTime(TimestampSeconds.newBuilder().setSeconds(expiry))
-                    .addTransactionFeeSchedule(TransactionFeeSchedule.newBuilder()
-                            .setHederaFunctionality(ContractCall)
-                            .addFees(FeeData.newBuilder().build())))
-            .setNextFeeSchedule(FeeSchedule.newBuilder()
-                    .setExpiryTime(TimestampSeconds.newBuilder().setSeconds(2_234_567_890L))
-                    .addTransactionFeeSchedule(TransactionFeeSchedule.newBuilder()
-                            .setHederaFunctionality(ContractCall)
-                            .addFees(FeeData.newBuilder().build())))
-            .build();
-
     private static final EntityId FEE_SCHEDULE_ENTITY_ID = new EntityId(0L, 0L, 111L, EntityType.FILE);
     private static final EntityId EXCHANGE_RATE_ENTITY_ID = new EntityId(0L, 0L, 112L, EntityType.FILE);
 
     @Test
-    void getFileForExchangeRates() throws InvalidProtocolBufferException {
-        domainBuilder
+    void findFileDataAfter() {
+        final var create = domainBuilder
                 .fileData()
-                .customize(f -> f.fileData(exchangeRatesSet.toByteArray())
-                        .entityId(EXCHANGE_RATE_ENTITY_ID)
-                        .consensusTimestamp(expiry))
+                .customize(f -> f.entityId(FEE_SCHEDULE_ENTITY_ID))
+                .persist();
+        final var update = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(FEE_SCHEDULE_ENTITY_ID)
+                        .transactionType(TransactionType.FILEUPDATE.getProtoId()))
                 .persist();
-
-        final var actualBytes = fileDataRepository.getFileAtTimestamp(EXCHANGE_RATE_ENTITY_ID.getId(), expiry);
-        assertThat(ExchangeRateSet.parseFrom(actualBytes)).isEqualTo(exchangeRatesSet);
-    }
-
-    @Test
-    void getFileForFeeSchedules() throws InvalidProtocolBufferException {
         domainBuilder
                 .fileData()
-                .customize(f -> f.fileData(feeSchedules.toByteArray())
-                        .entityId(FEE_SCHEDULE_ENTITY_ID)
-                        .consensusTimestamp(expiry))
+                .customize(f -> f.entityId(EXCHANGE_RATE_ENTITY_ID))
+                .persist();
+        final var append = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(FEE_SCHEDULE_ENTITY_ID)
+                        .transactionType(TransactionType.FILEAPPEND.getProtoId()))
                 .persist();
 
-        final var actualBytes = fileDataRepository.getFileAtTimestamp(FEE_SCHEDULE_ENTITY_ID.getId(), expiry);
-        assertThat(CurrentAndNextFeeSchedule.parseFrom(actualBytes)).isEqualTo(feeSchedules);
+        final var fileId = FEE_SCHEDULE_ENTITY_ID.getId();
+        assertThat(fileDataRepository.findFileDataAfter(fileId, 0L, 10)).containsExactly(create, update, append);
+        assertThat(fileDataRepository.findFileDataAfter(fileId, create.getConsensusTimestamp(), 10))
+                .containsExactly(update, append);
+        assertThat(fileDataRepository.findFileDataAfter(fileId, 0L, 2)).containsExactly(create, update);
+        assertThat(fileDataRepository.findFileDataAfter(fileId, append.getConsensusTimestamp(), 10))
+                .isEmpty();
     }
 }
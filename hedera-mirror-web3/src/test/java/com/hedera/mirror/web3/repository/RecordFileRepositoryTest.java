@@ -52,4 +52,13 @@ class RecordFileRepositoryTest extends Web3IntegrationTest {
 
         assertThat(recordFileRepository.findLatest()).get().isEqualTo(latest);
     }
+
+    @Test
+    void findByIndex() {
+        final var file = domainBuilder.recordFile().persist();
+        domainBuilder.recordFile().persist();
+
+        assertThat(recordFileRepository.findByIndex(file.getIndex())).get().isEqualTo(file);
+        assertThat(recordFileRepository.findByIndex(file.getIndex() - 1)).isEmpty();
+    }
 }
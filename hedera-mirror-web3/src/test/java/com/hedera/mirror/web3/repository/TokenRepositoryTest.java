@@ -45,4 +45,17 @@ class TokenRepositoryTest extends Web3IntegrationTest {
                 .returns(token.getFreezeDefault(), Token::getFreezeDefault)
                 .returns(token.getKycKey(), Token::getKycKey);
     }
+
+    @Test
+    void findByIdAndBlockTimestamp() {
+        final var token = domainBuilder.token().persist();
+        final long tokenId = token.getTokenId().getTokenId().getId();
+
+        assertThat(tokenRepository.findByIdAndBlockTimestamp(tokenId, token.getCreatedTimestamp()))
+                .get()
+                .returns(token.getName(), Token::getName)
+                .returns(token.getTotalSupply(), Token::getTotalSupply);
+        assertThat(tokenRepository.findByIdAndBlockTimestamp(tokenId, token.getCreatedTimestamp() - 1))
+                .isEmpty();
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.repository.cache;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.repository.ContractRepository;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.EntityRepository;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class StateCacheInvalidatorTest extends Web3IntegrationTest {
+
+    private final CacheProperties cacheProperties;
+    private final ContractRepository contractRepository;
+    private final ContractStateRepository contractStateRepository;
+    private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
+    private final StateCacheInvalidator stateCacheInvalidator;
+
+    private RecordFile recordFile;
+
+    @BeforeEach
+    void setup() {
+        recordFile = domainBuilder.recordFile().persist();
+        stateCacheInvalidator.refresh(recordFile);
+    }
+
+    @Test
+    void entityChanged() {
+        var entity = domainBuilder.entity().persist();
+        var cached = findEntity(entity.getId());
+
+        updateBalance(entity.getId(), 5L);
+        domainBuilder.cryptoTransfer().customize(c -> c.entityId(entity.getId())).persist();
+        var next = domainBuilder.recordFile().persist();
+        assertThat(findEntity(entity.getId())).isEqualTo(cached);
+
+        stateCacheInvalidator.refresh(next);
+        assertThat(findEntity(entity.getId())).returns(5L, Entity::getBalance);
+    }
+
+    @Test
+    void entityCreated() {
+        long id = domainBuilder.id();
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(id)).isEmpty();
+        assertThat(contractRepository.findRuntimeBytecode(id)).isEmpty();
+
+        var contract = domainBuilder.contract().customize(c -> c.id(id)).persist();
+        domainBuilder.entity().customize(e -> e.id(id).num(id)).persist();
+        domainBuilder.transaction().customize(t -> t.entityId(EntityId.of(id, CONTRACT))).persist();
+        var next = domainBuilder.recordFile().persist();
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(id)).isEmpty();
+
+        stateCacheInvalidator.refresh(next);
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(id)).isPresent();
+        assertThat(contractRepository.findRuntimeBytecode(id)).get().isEqualTo(contract.getRuntimeBytecode());
+    }
+
+    @Test
+    void entityUnchanged() {
+        var entity = domainBuilder.entity().persist();
+        var cached = findEntity(entity.getId());
+
+        updateBalance(entity.getId(), 5L);
+        domainBuilder.cryptoTransfer().persist();
+        stateCacheInvalidator.refresh(domainBuilder.recordFile().persist());
+
+        assertThat(findEntity(entity.getId())).isEqualTo(cached);
+    }
+
+    @Test
+    void storageChanged() {
+        var contractState = domainBuilder.contractState().persist();
+        long contractId = contractState.getContractId();
+        var slot = contractState.getSlot();
+        assertThat(contractStateRepository.findStorage(contractId, slot)).get().isEqualTo(contractState.getValue());
+
+        var value = domainBuilder.bytes(32);
+        jdbcOperations.update(
+                "update contract_state set value = ? where contract_id = ? and slot = ?", value, contractId, slot);
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractId).slot(slot).valueWritten(value))
+                .persist();
+        var next = domainBuilder.recordFile().persist();
+        assertThat(contractStateRepository.findStorage(contractId, slot)).get().isEqualTo(contractState.getValue());
+
+        stateCacheInvalidator.refresh(next);
+        assertThat(contractStateRepository.findStorage(contractId, slot)).get().isEqualTo(value);
+    }
+
+    @Test
+    void storageRead() {
+        var contractState = domainBuilder.contractState().persist();
+        long contractId = contractState.getContractId();
+        var slot = contractState.getSlot();
+        assertThat(contractStateRepository.findStorage(contractId, slot)).get().isEqualTo(contractState.getValue());
+
+        jdbcOperations.update("update contract_state set value = ? where contract_id = ?", new byte[32], contractId);
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractId).slot(slot).valueWritten(null))
+                .persist();
+        stateCacheInvalidator.refresh(domainBuilder.recordFile().persist());
+
+        assertThat(contractStateRepository.findStorage(contractId, slot)).get().isEqualTo(contractState.getValue());
+    }
+
+    @Test
+    void olderRecordFile() {
+        var entity = domainBuilder.entity().persist();
+        var cached = findEntity(entity.getId());
+
+        updateBalance(entity.getId(), 5L);
+        domainBuilder.cryptoTransfer().customize(c -> c.entityId(entity.getId())).persist();
+        stateCacheInvalidator.refresh(recordFile);
+
+        assertThat(findEntity(entity.getId())).isEqualTo(cached);
+    }
+
+    @Test
+    void longPeriodClearsCaches() {
+        var entity = domainBuilder.entity().persist();
+        var cached = findEntity(entity.getId());
+
+        updateBalance(entity.getId(), 5L);
+        var next = domainBuilder.recordFile().persist();
+        assertThat(findEntity(entity.getId())).isEqualTo(cached);
+
+        var maxInvalidationPeriod = cacheProperties.getMaxInvalidationPeriod();
+        try {
+            cacheProperties.setMaxInvalidationPeriod(Duration.ofNanos(1L));
+            stateCacheInvalidator.refresh(next);
+        } finally {
+            cacheProperties.setMaxInvalidationPeriod(maxInvalidationPeriod);
+        }
+
+        assertThat(findEntity(entity.getId())).returns(5L, Entity::getBalance);
+    }
+
+    private Entity findEntity(long id) {
+        return entityRepository.findByIdAndDeletedIsFalse(id).orElseThrow();
+    }
+
+    private void updateBalance(long id, long balance) {
+        jdbcOperations.update("update entity set balance = ? where id = ?", balance, id);
+    }
+}
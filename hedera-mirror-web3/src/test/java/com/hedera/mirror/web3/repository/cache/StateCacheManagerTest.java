@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.repository.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+class StateCacheManagerTest {
+
+    private Cache cache;
+    private StateCacheManager stateCacheManager;
+
+    @BeforeEach
+    void setup() {
+        stateCacheManager = new StateCacheManager();
+        stateCacheManager.registerCustomCache("test", Caffeine.newBuilder().build());
+        cache = stateCacheManager.getCache("test");
+    }
+
+    @Test
+    void get() {
+        assertThat(cache.get(1L, () -> "a")).isEqualTo("a");
+        assertThat(cache.get(1L, () -> "b")).isEqualTo("a");
+        assertThat(cache.get(2L, () -> "b")).isEqualTo("b");
+    }
+
+    @Test
+    void getNull() {
+        assertThat(cache.get(1L, () -> null)).isNull();
+        assertThat(cache.get(1L, () -> "a")).isNull();
+    }
+
+    @Test
+    void getDuringInvalidation() {
+        assertThat(cache.get(1L, () -> {
+                    stateCacheManager.beginInvalidation();
+                    return "stale";
+                }))
+                .isEqualTo("stale");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "a")).isEqualTo("a");
+        assertThat(cache.get(1L)).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("a");
+    }
+
+    @Test
+    void getAfterInvalidation() {
+        stateCacheManager.beginInvalidation();
+        assertThat(cache.get(1L, () -> "a")).isEqualTo("a");
+        assertThat(cache.get(1L, () -> "b")).isEqualTo("a");
+    }
+
+    @Test
+    void getFails() {
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+                    throw new IllegalStateException("error");
+                }))
+                .isInstanceOf(Cache.ValueRetrievalException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L)).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.web3.evm.properties.ThrottleProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetSocketAddress;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+class ClientRateLimiterTest {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final long GAS = 15_000_000L;
+    private static final String FORWARDED_HEADER = "X-Forwarded-For";
+    private static final InetSocketAddress REMOTE_ADDRESS = new InetSocketAddress("10.0.0.1", 8545);
+
+    private ThrottleProperties throttleProperties;
+
+    @BeforeEach
+    void setup() {
+        throttleProperties = new ThrottleProperties();
+        throttleProperties.setClientGasPerSecond(GAS);
+    }
+
+    @Test
+    void unknownApiKey() {
+        final var clientRateLimiter = new ClientRateLimiter(new SimpleMeterRegistry(), throttleProperties);
+
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key1"), GAS)).isTrue();
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key2"), GAS)).isFalse();
+        assertThat(clientRateLimiter.tryConsume(request(null, null), GAS)).isFalse();
+    }
+
+    @Test
+    void configuredApiKey() {
+        throttleProperties.setApiKeys(Set.of("key1"));
+        final var clientRateLimiter = new ClientRateLimiter(new SimpleMeterRegistry(), throttleProperties);
+
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key1"), GAS)).isTrue();
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key1"), GAS)).isFalse();
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key2"), GAS)).isTrue();
+        assertThat(clientRateLimiter.tryConsume(request(API_KEY_HEADER, "key3"), GAS)).isFalse();
+    }
+
+    @Test
+    void clientAddressHeader() {
+        throttleProperties.setClientAddressHeader(FORWARDED_HEADER);
+        final var clientRateLimiter = new ClientRateLimiter(new SimpleMeterRegistry(), throttleProperties);
+
+        assertThat(clientRateLimiter.tryConsume(request(FORWARDED_HEADER, "1.1.1.1, 2.2.2.2"), GAS)).isTrue();
+        assertThat(clientRateLimiter.tryConsume(request(FORWARDED_HEADER, "3.3.3.3, 2.2.2.2"), GAS)).isFalse();
+        assertThat(clientRateLimiter.tryConsume(request(FORWARDED_HEADER, "4.4.4.4"), GAS)).isTrue();
+        assertThat(clientRateLimiter.tryConsume(request(null, null), GAS)).isTrue();
+    }
+
+    private MockServerHttpRequest request(String header, String value) {
+        final var builder = MockServerHttpRequest.post("/api/v1/contracts/call").remoteAddress(REMOTE_ADDRESS);
+        if (header != null) {
+            builder.header(header, value);
+        }
+        return builder.build();
+    }
+}
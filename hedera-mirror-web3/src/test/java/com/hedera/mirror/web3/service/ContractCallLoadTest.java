@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.hedera.mirror.web3.evm.properties.ThrottleProperties;
+import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
+import jakarta.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Generates load against the call endpoint the same way the monitor publishes transactions: every client publishes
+ * at a fixed rate with a bounded number of requests in flight. A noisy client estimating gas at several times its gas
+ * per second shares the server with a quiet client making cheap view calls, which must not be throttled.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Tag("performance")
+@TestPropertySource(
+        properties = {
+            "hedera.mirror.web3.evm.throttle.clientGasPerSecond=150000000",
+            "hedera.mirror.web3.evm.throttle.executionQueueSize=10",
+            "hedera.mirror.web3.evm.throttle.executionThreads=2"
+        })
+class ContractCallLoadTest extends ContractCallTestSetup {
+
+    private static final int CONCURRENCY = 20;
+    private static final Duration DURATION = Duration.ofSeconds(10);
+    // multiplySimpleNumbers()
+    private static final String ESTIMATE_FUNCTION_HASH = "0x8070450f";
+    // returnStorageData()
+    private static final String VIEW_FUNCTION_HASH =
+            "0x6601c296000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000036b75720000000000000000000000000000000000000000000000000000000000";
+
+    @LocalServerPort
+    private int port;
+
+    @Resource
+    private ThrottleProperties throttleProperties;
+
+    @Test
+    void noisyClientDoesNotStarveQuietClient() {
+        persistEntities(false);
+
+        final var webClient = WebClient.create("http://localhost:" + port + "/api/v1/contracts/call");
+        final var noisy = new Scenario("noisy", request(ESTIMATE_FUNCTION_HASH, true, 15_000_000L), 50.0);
+        final var quiet = new Scenario("quiet", request(VIEW_FUNCTION_HASH, false, 100_000L), 10.0);
+
+        Flux.merge(publish(webClient, noisy), publish(webClient, quiet)).blockLast(DURATION.multipliedBy(2));
+        noisy.report();
+        quiet.report();
+        log.info(
+                "Queue wait max {} ms, execution max {} ms",
+                meterRegistry.get("hedera.mirror.web3.call.queue").timer().max(MILLISECONDS),
+                meterRegistry.get("hedera.mirror.web3.call.execution").timer().max(MILLISECONDS));
+
+        assertThat(noisy.getStatuses()).containsKeys(OK, TOO_MANY_REQUESTS);
+        assertThat(quiet.getStatuses()).containsOnlyKeys(OK);
+    }
+
+    private Flux<HttpStatusCode> publish(WebClient webClient, Scenario scenario) {
+        final var rateLimiter = RateLimiter.create(scenario.getTps());
+        final long count = (long) (scenario.getTps() * DURATION.toSeconds());
+
+        return Flux.range(0, (int) count)
+                .doOnNext(i -> rateLimiter.acquire())
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(i -> send(webClient, scenario), CONCURRENCY);
+    }
+
+    private Mono<HttpStatusCode> send(WebClient webClient, Scenario scenario) {
+        final long startTime = System.nanoTime();
+        return webClient
+                .post()
+                .header(throttleProperties.getApiKeyHeader(), scenario.getName())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(scenario.getRequest())
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .doOnNext(status -> scenario.onResponse(status, System.nanoTime() - startTime));
+    }
+
+    private ContractCallRequest request(String data, boolean estimate, long gas) {
+        final var request = new ContractCallRequest();
+        request.setData(data);
+        request.setEstimate(estimate);
+        request.setFrom(SENDER_ADDRESS.toHexString());
+        request.setGas(gas);
+        request.setTo(ETH_CALL_CONTRACT_ADDRESS.toHexString());
+        return request;
+    }
+
+    @Value
+    private class Scenario {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        String name;
+        ContractCallRequest request;
+        Map<HttpStatusCode, AtomicLong> statuses = new ConcurrentHashMap<>();
+        double tps;
+
+        void onResponse(HttpStatusCode status, long latency) {
+            statuses.computeIfAbsent(status, k -> new AtomicLong()).incrementAndGet();
+            if (status.is2xxSuccessful()) {
+                latencies.add(latency);
+            }
+        }
+
+        void report() {
+            final var sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            final long p99 = sorted.isEmpty() ? 0L : sorted.get((int) (sorted.size() * 0.99));
+            log.info("Client {} received {} with a p99 latency of {} ms", name, statuses, p99 / 1_000_000L);
+        }
+    }
+}
@@ -16,12 +16,15 @@
 
 package com.hedera.mirror.web3.service;
 
+import static com.hedera.mirror.common.util.DomainUtils.fromEvmAddress;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_CALL;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_ESTIMATE_GAS;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
@@ -29,9 +32,14 @@ import org.hyperledger.besu.datatypes.Address;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcOperations;
 
 class ContractCallServiceERCTokenTest extends ContractCallTestSetup {
 
+    @Autowired
+    private JdbcOperations jdbcOperations;
+
     @ParameterizedTest
     @EnumSource(ErcContractReadOnlyFunctions.class)
     void ercReadOnlyPrecompileOperationsTest(ErcContractReadOnlyFunctions ercFunction) {
@@ -56,6 +64,35 @@ class ContractCallServiceERCTokenTest extends ContractCallTestSetup {
                 .hasMessage("Precompile not supported for non-static frames");
     }
 
+    @Test
+    void balanceOfAtHistoricalBlock() {
+        final var functionHash = functionEncodeDecoder.functionHashFor(
+                "balanceOf", ERC_ABI_PATH, FUNGIBLE_TOKEN_ADDRESS, SENDER_ADDRESS);
+        final var latestParameters = serviceParametersForEthCall(functionHash);
+        final var recordFile = domainBuilder.recordFile().persist();
+        final var block = new BlockType(String.valueOf(recordFile.getIndex()), recordFile.getIndex());
+        final var historicalParameters = latestParameters.toBuilder().block(block).build();
+
+        // A transfer after the block changes the latest balance without creating token account history
+        final var senderId = fromEvmAddress(SENDER_ADDRESS.toArrayUnsafe());
+        final var tokenId = fromEvmAddress(FUNGIBLE_TOKEN_ADDRESS.toArrayUnsafe());
+        final var transferTimestamp = domainBuilder.recordFile().persist().getConsensusEnd();
+        domainBuilder
+                .tokenTransfer()
+                .customize(t -> t.amount(5L).id(new TokenTransfer.Id(transferTimestamp, tokenId, senderId)))
+                .persist();
+        jdbcOperations.update(
+                "update token_account set balance = balance + 5 where account_id = ? and token_id = ?",
+                senderId.getId(),
+                tokenId.getId());
+
+        final var historicalResponse =
+                functionEncodeDecoder.encodedResultFor("balanceOf", ERC_ABI_PATH, new Long[] {12L});
+        final var latestResponse = functionEncodeDecoder.encodedResultFor("balanceOf", ERC_ABI_PATH, new Long[] {17L});
+        assertThat(contractCallService.processCall(historicalParameters)).isEqualTo(historicalResponse);
+        assertThat(contractCallService.processCall(latestParameters)).isEqualTo(latestResponse);
+    }
+
     @Test
     void metadataOf() {
         final var functionHash = functionEncodeDecoder.functionHashFor("tokenURI", ERC_ABI_PATH, NFT_ADDRESS, 1L);
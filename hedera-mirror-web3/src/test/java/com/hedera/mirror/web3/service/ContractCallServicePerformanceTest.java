@@ -0,0 +1,308 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static com.hedera.mirror.common.util.DomainUtils.fromEvmAddress;
+import static com.hedera.mirror.common.util.DomainUtils.toEvmAddress;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CODE;
+import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
+import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_CALL;
+import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_ESTIMATE_GAS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
+import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import com.hedera.mirror.web3.viewmodel.BlockType;
+import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
+import jakarta.annotation.Resource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Compares the latency of a view call against the latest state with the same call against a historical block, where
+ * the storage slot has a long history of state changes. The historical call is measured both with a cold and a warm
+ * historical cache. Also compares the latency of estimating gas with a binary search against the speculative search,
+ * and of a call reading many storage slots of a contract with a cold state cache with and without storage prefetching.
+ * Finally, compares repeated calls to a large contract with and without its analysed code cached.
+ */
+@Tag("performance")
+class ContractCallServicePerformanceTest extends ContractCallTestSetup {
+
+    private static final int ITERATIONS = 200;
+    private static final int SLOTS = 100;
+    private static final Address STORAGE_READER_ADDRESS = toAddress(EntityId.of(0, 0, 1262, CONTRACT));
+    private static final int STATE_CHANGES = 100_000;
+    // returnStorageData()
+    private static final String VIEW_FUNCTION_HASH =
+            "0x6601c296000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000036b75720000000000000000000000000000000000000000000000000000000000";
+    private static final List<String> ESTIMATE_FUNCTION_HASHES = List.of(
+            // multiplySimpleNumbers()
+            "0x8070450f",
+            // deployViaCreate2()
+            "0xdbb6f04a",
+            VIEW_FUNCTION_HASH,
+            // writeToStorageSlot(string)
+            "0x9ac27b62000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000033233320000000000000000000000000000000000000000000000000000000000");
+    private static final String VIEW_RESPONSE =
+            "0x000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000047465737400000000000000000000000000000000000000000000000000000000";
+
+    @Resource
+    private JdbcOperations jdbcOperations;
+
+    @Resource
+    private MirrorNodeEvmProperties properties;
+
+    @Resource(name = CACHE_MANAGER_STATE)
+    private StateCacheManager stateCacheManager;
+
+    @Value("classpath:contracts/StorageReader/StorageReader.bin")
+    private Path storageReaderBytesPath;
+
+    @Test
+    void latestVersusHistorical() {
+        persistEntities(false);
+        final var recordFile = domainBuilder.recordFile().persist();
+        domainBuilder.recordFile().persist();
+        insertStateChanges(recordFile.getConsensusStart());
+
+        final var latest = parameters(BlockType.LATEST);
+        final var historical = parameters(new BlockType(String.valueOf(recordFile.getIndex()), recordFile.getIndex()));
+
+        final var latestCold = benchmark(latest, true);
+        final var historicalCold = benchmark(historical, true);
+        final var historicalWarm = benchmark(historical, false);
+
+        log.info(
+                "Executed {} calls in {} against the latest state, {} against a historical block with a cold cache "
+                        + "and {} with a warm cache",
+                ITERATIONS,
+                latestCold,
+                historicalCold,
+                historicalWarm);
+    }
+
+    @Test
+    void binaryVersusSpeculativeEstimate() {
+        persistEntities(false);
+        final var estimates =
+                ESTIMATE_FUNCTION_HASHES.stream().map(this::estimateParameters).toList();
+
+        try {
+            final var binary = benchmarkEstimate(estimates, 1);
+            final var speculative = benchmarkEstimate(estimates, 4);
+
+            log.info(
+                    "Estimated gas of {} calls in {} with a binary search and {} with a speculative search",
+                    ITERATIONS * estimates.size(),
+                    binary,
+                    speculative);
+        } finally {
+            properties.setEstimateGasParallelism(1);
+        }
+    }
+
+    @Test
+    void storagePrefetch() {
+        persistEntities(false);
+        persistStorageReader();
+        final var parameters = CallServiceParameters.builder()
+                .callData(Bytes.concatenate(Bytes.fromHexString("0x188b85b4"), UInt256.valueOf(SLOTS)))
+                .callType(ETH_CALL)
+                .gas(15_000_000L)
+                .isStatic(true)
+                .receiver(STORAGE_READER_ADDRESS)
+                .sender(new HederaEvmAccount(SENDER_ADDRESS))
+                .build();
+        final var expected = UInt256.valueOf(SLOTS).toHexString();
+
+        try {
+            properties.setStoragePrefetchMaxSlots(0);
+            final var perSlot = benchmarkCold(parameters, expected);
+            properties.setStoragePrefetchMaxSlots(SLOTS);
+            // The first call learns the slots read so the following calls prefetch them
+            assertThat(contractCallService.processCall(parameters)).isEqualTo(expected);
+            final var prefetched = benchmarkCold(parameters, expected);
+
+            log.info(
+                    "Executed {} calls reading {} storage slots in {} with a query per slot and {} with prefetching",
+                    ITERATIONS,
+                    SLOTS,
+                    perSlot,
+                    prefetched);
+        } finally {
+            properties.setStoragePrefetchMaxSlots(256);
+        }
+    }
+
+    @Test
+    void codeCache() {
+        persistEntities(false);
+        final var parameters = CallServiceParameters.builder()
+                .callData(functionEncodeDecoder.functionHashFor(
+                        "balanceOf", ERC_ABI_PATH, FUNGIBLE_TOKEN_ADDRESS, SENDER_ADDRESS))
+                .callType(ETH_CALL)
+                .gas(15_000_000L)
+                .isStatic(true)
+                .receiver(ERC_CONTRACT_ADDRESS)
+                .sender(new HederaEvmAccount(SENDER_ADDRESS))
+                .build();
+        final var codeCache = Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_CODE));
+        final var expected = contractCallService.processCall(parameters);
+
+        var uncached = Duration.ZERO;
+        var cached = Duration.ZERO;
+        for (int i = 0; i < ITERATIONS; i++) {
+            codeCache.clear();
+            var stopwatch = Stopwatch.createStarted();
+            assertThat(contractCallService.processCall(parameters)).isEqualTo(expected);
+            uncached = uncached.plus(stopwatch.elapsed());
+
+            stopwatch = Stopwatch.createStarted();
+            assertThat(contractCallService.processCall(parameters)).isEqualTo(expected);
+            cached = cached.plus(stopwatch.elapsed());
+        }
+
+        log.info(
+                "Executed {} calls to a contract in {} analysing its code every call and {} with its code cached",
+                ITERATIONS,
+                uncached,
+                cached);
+    }
+
+    private Duration benchmarkEstimate(List<CallServiceParameters> estimates, int parallelism) {
+        properties.setEstimateGasParallelism(parallelism);
+        final var stopwatch = Stopwatch.createStarted();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            for (var parameters : estimates) {
+                assertThat(contractCallService.processCall(parameters)).isNotEmpty();
+            }
+        }
+
+        return stopwatch.elapsed();
+    }
+
+    private Duration benchmarkCold(CallServiceParameters parameters, String expected) {
+        var elapsed = Duration.ZERO;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            reset();
+            final var stopwatch = Stopwatch.createStarted();
+            assertThat(contractCallService.processCall(parameters)).isEqualTo(expected);
+            elapsed = elapsed.plus(stopwatch.elapsed());
+        }
+
+        return elapsed;
+    }
+
+    private Duration benchmark(CallServiceParameters parameters, boolean cold) {
+        var elapsed = Duration.ZERO;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (cold) {
+                reset();
+            }
+
+            final var stopwatch = Stopwatch.createStarted();
+            assertThat(contractCallService.processCall(parameters)).isEqualTo(VIEW_RESPONSE);
+            elapsed = elapsed.plus(stopwatch.elapsed());
+        }
+
+        return elapsed;
+    }
+
+    private void persistStorageReader() {
+        final var entityId = fromEvmAddress(STORAGE_READER_ADDRESS.toArrayUnsafe());
+        domainBuilder
+                .entity()
+                .customize(e -> e.id(entityId.getId())
+                        .num(entityId.getEntityNum())
+                        .evmAddress(toEvmAddress(entityId))
+                        .type(CONTRACT))
+                .persist();
+        domainBuilder
+                .contract()
+                .customize(c -> c.id(entityId.getId())
+                        .runtimeBytecode(functionEncodeDecoder.getContractBytes(storageReaderBytesPath)))
+                .persist();
+
+        for (int i = 0; i < SLOTS; i++) {
+            final var slot = UInt256.valueOf(i).toArray();
+            domainBuilder
+                    .contractState()
+                    .customize(c -> c.contractId(entityId.getId())
+                            .slot(slot)
+                            .value(UInt256.ONE.toArray()))
+                    .persist();
+        }
+    }
+
+    private void insertStateChanges(long beforeTimestamp) {
+        final long contractId = fromEvmAddress(ETH_CALL_CONTRACT_ADDRESS.toArrayUnsafe()).getId();
+        jdbcOperations.update(
+                """
+                insert into contract_state_change (consensus_timestamp, contract_id, payer_account_id, slot,
+                  value_read, value_written)
+                select ? - i, ?, 2, ?, ?, ?
+                from generate_series(1, ?) as i
+                """,
+                beforeTimestamp,
+                contractId,
+                new byte[32],
+                new byte[32],
+                Bytes.fromHexString("0x4746573740000000000000000000000000000000000000000000000000000000")
+                        .toArrayUnsafe(),
+                STATE_CHANGES);
+    }
+
+    private CallServiceParameters parameters(BlockType block) {
+        return CallServiceParameters.builder()
+                .block(block)
+                .callData(Bytes.fromHexString(VIEW_FUNCTION_HASH))
+                .callType(ETH_CALL)
+                .gas(120000L)
+                .isStatic(true)
+                .receiver(ETH_CALL_CONTRACT_ADDRESS)
+                .sender(new HederaEvmAccount(SENDER_ADDRESS))
+                .build();
+    }
+
+    private CallServiceParameters estimateParameters(String functionHash) {
+        return CallServiceParameters.builder()
+                .callData(Bytes.fromHexString(functionHash))
+                .callType(ETH_ESTIMATE_GAS)
+                .gas(15_000_000L)
+                .isEstimate(true)
+                .receiver(ETH_CALL_CONTRACT_ADDRESS)
+                .sender(new HederaEvmAccount(SENDER_ADDRESS))
+                .build();
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.web3.service;
 
+import static com.hedera.mirror.common.util.DomainUtils.fromEvmAddress;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_500MS;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ERROR;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_CALL;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_ESTIMATE_GAS;
@@ -26,9 +28,12 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessorFacadeImpl;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidTransactionException;
 import com.hedera.mirror.web3.service.model.CallServiceParameters;
 import com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
+import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
@@ -38,11 +43,15 @@ import org.apache.tuweni.bytes.Bytes;
 import org.assertj.core.data.Percentage;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.operation.CallOperation;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcOperations;
 
 class ContractCallServiceTest extends ContractCallTestSetup {
 
@@ -56,12 +65,27 @@ class ContractCallServiceTest extends ContractCallTestSetup {
     @Autowired
     private MirrorEvmTxProcessorFacadeImpl processor;
 
+    @Autowired
+    private JdbcOperations jdbcOperations;
+
+    @Autowired
+    private MirrorNodeEvmProperties properties;
+
+    @Autowired
+    @Qualifier(CACHE_MANAGER_500MS)
+    private CacheManager latestRecordFileCacheManager;
+
     @BeforeEach
     void setup() {
         // reset gas metrics
         meterRegistry.clear();
     }
 
+    @AfterEach
+    void cleanup() {
+        properties.setEstimateGasParallelism(1);
+    }
+
     @Test
     void pureCall() {
         final var gasUsedBeforeExecution = getGasUsedBeforeExecution(ETH_CALL);
@@ -127,6 +151,48 @@ class ContractCallServiceTest extends ContractCallTestSetup {
         assertGasUsedIsPositive(gasUsedBeforeExecution, ETH_CALL);
     }
 
+    @Test
+    void viewCallAtHistoricalBlock() {
+        // returnStorageData()
+        final var viewFuncHash =
+                "0x6601c296000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000036b75720000000000000000000000000000000000000000000000000000000000";
+        final var successfulReadResponse =
+                "0x000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000047465737400000000000000000000000000000000000000000000000000000000";
+
+        final var contractId = fromEvmAddress(ETH_CALL_CONTRACT_ADDRESS.toArrayUnsafe());
+        final var value = Bytes.fromHexString("0x4746573740000000000000000000000000000000000000000000000000000000");
+
+        persistEntities(false);
+        domainBuilder
+                .contractStateChange()
+                .customize(c -> c.contractId(contractId.getId()).slot(new byte[32]).valueWritten(value.toArrayUnsafe()))
+                .persist();
+        final var recordFile = domainBuilder.recordFile().persist();
+        domainBuilder.recordFile().persist();
+
+        final var block = new BlockType(String.valueOf(recordFile.getIndex()), recordFile.getIndex());
+        final var serviceParameters = serviceParameters(viewFuncHash, 0, ETH_CALL, true, 0, ETH_CALL_CONTRACT_ADDRESS)
+                .toBuilder()
+                .block(block)
+                .build();
+
+        assertThat(contractCallService.processCall(serviceParameters)).isEqualTo(successfulReadResponse);
+    }
+
+    @Test
+    void callUnknownBlock() {
+        // multiplySimpleNumbers()
+        final var serviceParameters = serviceParameters("8070450f", 0, ETH_CALL, true, 0, ETH_CALL_CONTRACT_ADDRESS)
+                .toBuilder()
+                .block(BlockType.EARLIEST)
+                .build();
+
+        persistEntities(false);
+
+        assertThatThrownBy(() -> contractCallService.processCall(serviceParameters))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @Test
     void estimateGasForViewCall() {
         final var viewFuncHash =
@@ -143,6 +209,43 @@ class ContractCallServiceTest extends ContractCallTestSetup {
                 .isCloseTo(expectedGasUsed, Percentage.withPercentage(20)); // Maximum percentage
     }
 
+    @Test
+    void estimateGasForViewCallInParallel() {
+        final var viewFuncHash =
+                "0x6601c296000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000036b75720000000000000000000000000000000000000000000000000000000000";
+        final var serviceParameters =
+                serviceParameters(viewFuncHash, 0, ETH_ESTIMATE_GAS, false, 0, ETH_CALL_CONTRACT_ADDRESS);
+        properties.setEstimateGasParallelism(4);
+
+        persistEntities(false);
+        final var expectedGasUsed = gasUsedAfterExecution(serviceParameters);
+        final var estimatedGas = longValueOf.applyAsLong(contractCallService.processCall(serviceParameters));
+
+        assertThat(estimatedGas)
+                .as("result must be at most 20% bigger than the gas used from the first call")
+                .isGreaterThanOrEqualTo(expectedGasUsed)
+                .isCloseTo(expectedGasUsed, Percentage.withPercentage(20));
+        assertThat(processor
+                        .execute(
+                                serviceParameters.getSender(),
+                                serviceParameters.getReceiver(),
+                                estimatedGas,
+                                serviceParameters.getValue(),
+                                serviceParameters.getCallData(),
+                                Instant.now(),
+                                serviceParameters.isStatic())
+                        .isSuccessful())
+                .as("call must succeed with the estimated gas")
+                .isTrue();
+        assertThat(meterRegistry
+                        .get("hedera.mirror.web3.call.estimate.iterations")
+                        .tag("estimator", "speculative")
+                        .summary()
+                        .max())
+                .as("estimate must take at most two rounds")
+                .isLessThanOrEqualTo(8);
+    }
+
     @Test
     void transferFunds() {
         final var gasUsedBeforeExecution = getGasUsedBeforeExecution(ETH_CALL);
@@ -172,6 +275,29 @@ class ContractCallServiceTest extends ContractCallTestSetup {
         assertGasUsedIsPositive(gasUsedBeforeExecution, ETH_CALL);
     }
 
+    @Test
+    void balanceCallAfterNewBlock() {
+        // getAccountBalance(address)
+        final var balanceCall = "0x93423e9c00000000000000000000000000000000000000000000000000000000000002e6";
+        final var params = serviceParameters(balanceCall, 0, ETH_CALL, true, 0, ETH_CALL_CONTRACT_ADDRESS);
+        final var senderId = fromEvmAddress(SENDER_ADDRESS.toArrayUnsafe()).getId();
+
+        persistEntities(false);
+        assertThat(contractCallService.processCall(params))
+                .isEqualTo("0x0000000000000000000000000000000000000000000000000000000000004e20");
+
+        // The sender's balance changes in a new block, which the cached sender must not be older than
+        jdbcOperations.update("update entity set balance = 30000 where id = ?", senderId);
+        domainBuilder.cryptoTransfer().customize(c -> c.entityId(senderId)).persist();
+        domainBuilder.recordFile().persist();
+        latestRecordFileCacheManager
+                .getCacheNames()
+                .forEach(name -> latestRecordFileCacheManager.getCache(name).clear());
+
+        assertThat(contractCallService.processCall(params))
+                .isEqualTo("0x0000000000000000000000000000000000000000000000000000000000007530");
+    }
+
     @Test
     void estimateGasForBalanceCall() {
         final var balanceCall = "0x93423e9c00000000000000000000000000000000000000000000000000000000000003e6";
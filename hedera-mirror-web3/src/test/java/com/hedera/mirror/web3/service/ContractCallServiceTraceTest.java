@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_CALL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.CallFrame;
+import com.hedera.mirror.web3.evm.properties.TraceProperties;
+import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
+import jakarta.annotation.Resource;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContractCallServiceTraceTest extends ContractCallTestSetup {
+
+    // deployViaCreate2()
+    private static final String DEPLOY_FUNCTION_HASH = "0xdbb6f04a";
+    // revertWithCustomErrorMessage()
+    private static final String REVERT_FUNCTION_HASH = "0xa26388bb";
+    // returnStorageData()
+    private static final String VIEW_FUNCTION_HASH =
+            "0x6601c296000000000000000000000000000000000000000000000000000000000000002000000000000000000000000000000000000000000000000000000000000000036b75720000000000000000000000000000000000000000000000000000000000";
+
+    @Resource
+    private TraceProperties traceProperties;
+
+    @BeforeEach
+    void setup() {
+        persistEntities(false);
+    }
+
+    @AfterEach
+    void cleanup() {
+        traceProperties.setMaxDepth(64);
+        traceProperties.setMaxEntries(10_000);
+    }
+
+    @Test
+    void viewCall() {
+        final var params = parameters(VIEW_FUNCTION_HASH, ETH_CALL_CONTRACT_ADDRESS, true);
+
+        final var trace = contractCallService.processTrace(params);
+
+        assertThat(trace.getType()).isEqualTo("CALL");
+        assertThat(trace.getFrom()).isEqualTo(SENDER_ADDRESS);
+        assertThat(trace.getTo()).isEqualTo(ETH_CALL_CONTRACT_ADDRESS);
+        assertThat(trace.getGasUsed()).isPositive().isLessThan(params.getGas());
+        assertThat(trace.getOutput()).isEqualTo(Bytes.fromHexString(contractCallService.processCall(params)));
+        assertThat(trace.getError()).isNull();
+        assertThat(trace.getStorageReads()).containsKey(Bytes32.ZERO);
+        assertThat(trace.getStorageWrites()).isEmpty();
+    }
+
+    @Test
+    void revert() {
+        final var trace =
+                contractCallService.processTrace(parameters(REVERT_FUNCTION_HASH, ETH_CALL_CONTRACT_ADDRESS, true));
+
+        assertThat(trace.getError()).isEqualTo("execution reverted");
+        assertThat(trace.getRevertReason()).isEqualTo("Custom revert message");
+        assertThat(trace.getOutput().isEmpty()).isFalse();
+    }
+
+    @Test
+    void nestedCall() {
+        final var trace =
+                contractCallService.processTrace(parameters(DEPLOY_FUNCTION_HASH, ETH_CALL_CONTRACT_ADDRESS, false));
+
+        assertThat(trace.getError()).isNull();
+        assertThat(trace.getCalls()).isNotEmpty();
+        final var child = trace.getCalls().get(0);
+        assertThat(child.getType()).isEqualTo("CREATE2");
+        assertThat(child.getFrom()).isEqualTo(ETH_CALL_CONTRACT_ADDRESS);
+        assertThat(child.getGasUsed()).isPositive().isLessThanOrEqualTo(child.getGas());
+        assertThat(child.getGas()).isLessThan(trace.getGas());
+        assertThat(trace.isTruncated()).isFalse();
+    }
+
+    @Test
+    void maxDepth() {
+        traceProperties.setMaxDepth(0);
+
+        final var trace =
+                contractCallService.processTrace(parameters(DEPLOY_FUNCTION_HASH, ETH_CALL_CONTRACT_ADDRESS, false));
+
+        assertThat(trace.getError()).isNull();
+        assertThat(trace.getCalls()).isEmpty();
+        assertThat(trace.isTruncated()).isTrue();
+    }
+
+    @Test
+    void maxEntries() {
+        final var params = parameters(DEPLOY_FUNCTION_HASH, ETH_CALL_CONTRACT_ADDRESS, false);
+        final var entries = entries(contractCallService.processTrace(params));
+        traceProperties.setMaxEntries(1);
+
+        final var trace = contractCallService.processTrace(params);
+
+        assertThat(entries(trace)).isEqualTo(Math.min(entries, 1));
+        assertThat(hasTruncatedCall(trace)).isEqualTo(entries > 1);
+    }
+
+    @Test
+    void precompileCall() {
+        final var functionHash = functionEncodeDecoder.functionHashFor(
+                "balanceOf", ERC_ABI_PATH, FUNGIBLE_TOKEN_ADDRESS, SENDER_ADDRESS);
+
+        final var trace =
+                contractCallService.processTrace(parameters(functionHash.toHexString(), ERC_CONTRACT_ADDRESS, true));
+
+        assertThat(trace.getError()).isNull();
+        assertThat(hasPrecompileCall(trace)).isTrue();
+    }
+
+    private int entries(final CallFrame frame) {
+        int entries = frame.getStorageReads().size() + frame.getStorageWrites().size();
+        for (var call : frame.getCalls()) {
+            entries += 1 + entries(call);
+        }
+        return entries;
+    }
+
+    private boolean hasTruncatedCall(final CallFrame frame) {
+        return frame.isTruncated() || frame.getCalls().stream().anyMatch(this::hasTruncatedCall);
+    }
+
+    private boolean hasPrecompileCall(final CallFrame frame) {
+        return frame.getCalls().stream().anyMatch(call -> call.isPrecompile() || hasPrecompileCall(call));
+    }
+
+    private CallServiceParameters parameters(final String callData, final Address receiver, final boolean isStatic) {
+        return CallServiceParameters.builder()
+                .callData(Bytes.fromHexString(callData))
+                .callType(ETH_CALL)
+                .gas(15_000_000L)
+                .isStatic(isStatic)
+                .receiver(receiver)
+                .sender(new HederaEvmAccount(SENDER_ADDRESS))
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.BlockContext;
+import com.hedera.mirror.web3.exception.InvalidTransactionException;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.assertj.core.data.Percentage;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class SpeculativeGasEstimatorTest extends Web3IntegrationTest {
+
+    private static final int PARALLELISM = 4;
+
+    private final SpeculativeGasEstimator speculativeGasEstimator;
+    private final MirrorNodeEvmProperties properties;
+    private final AtomicInteger iterations = new AtomicInteger(0);
+
+    @BeforeEach
+    void setup() {
+        properties.setEstimateGasParallelism(PARALLELISM);
+    }
+
+    @AfterEach
+    void cleanup() {
+        properties.setEstimateGasParallelism(1);
+    }
+
+    /**
+     * The contract call is replaced with a dummy function which only succeeds when the gas limit covers the gas used
+     * plus the 1/64 of the remaining gas withheld from each nested call, so the first round's upper bound is enough.
+     */
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, callDepth {2})")
+    @CsvSource({"21000, 100000, 0", "35000, 15_000_000, 1", "100000, 15_000_000, 3", "1_000_000, 1_000_000_000, 2"})
+    void search(final long low, final long high, final int callDepth) {
+        final var required = withheldGas(low, callDepth);
+        final var estimate = speculativeGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), gas -> createTxnResult(low, gas >= required), low, high, callDepth);
+
+        assertThat(estimate)
+                .as("result must cover the required gas within the iteration threshold")
+                .isBetween(required, required + properties.getEstimateGasIterationThreshold());
+        assertThat(iterations.get()).as("two rounds at most").isLessThanOrEqualTo(2 * PARALLELISM);
+    }
+
+    @Test
+    void searchAboveCallDepthBound() {
+        final long low = 21000;
+        final long high = 15_000_000;
+        final long required = 2_000_000;
+        final var estimate = speculativeGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), gas -> createTxnResult(low, gas >= required), low, high, 0);
+
+        assertThat(estimate).isGreaterThanOrEqualTo(required).isCloseTo(required, Percentage.withPercentage(1));
+        assertThat(iterations.get())
+                .as("iteration limit")
+                .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
+    }
+
+    @Test
+    void searchDoesntExceedMaxIterations() {
+        final var estimate = speculativeGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), gas -> createTxnResult(0, false), 0, Long.MAX_VALUE, 0);
+
+        assertThat(estimate).isEqualTo(Long.MAX_VALUE);
+        assertThat(iterations.get())
+                .as("iteration limit")
+                .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
+    }
+
+    @Test
+    void searchPropagatesBlock() {
+        final var recordFile = RecordFile.builder().consensusEnd(100L).index(1L).build();
+        final var threads = ConcurrentHashMap.<Thread>newKeySet();
+        final var timestamps = ConcurrentHashMap.<Optional<Long>>newKeySet();
+
+        BlockContext.run(recordFile, true, () -> speculativeGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b),
+                gas -> {
+                    threads.add(Thread.currentThread());
+                    timestamps.add(BlockContext.getTimestamp());
+                    return createTxnResult(21000, false);
+                },
+                21000,
+                100000,
+                0));
+
+        assertThat(threads).hasSizeGreaterThan(1);
+        assertThat(timestamps).isEqualTo(Set.of(Optional.of(100L)));
+    }
+
+    @Test
+    void searchFails() {
+        final var exception = new InvalidTransactionException("error", "", "");
+
+        assertThatThrownBy(() -> speculativeGasEstimator.search(
+                        (a, b) -> iterations.addAndGet(b),
+                        gas -> {
+                            throw exception;
+                        },
+                        21000,
+                        15_000_000,
+                        1))
+                .isSameAs(exception);
+    }
+
+    private long withheldGas(final long gasUsed, final int callDepth) {
+        long gas = gasUsed;
+        for (int i = 0; i < callDepth; i++) {
+            gas += gas / 63 + 1;
+        }
+        return gas;
+    }
+
+    private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
+        if (!isSuccessful) {
+            return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
+        }
+        return HederaEvmTransactionProcessingResult.successful(null, gasUsed, 0, 0, null, Address.ZERO);
+    }
+}
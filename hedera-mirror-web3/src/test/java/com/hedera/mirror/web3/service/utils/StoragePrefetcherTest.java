@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2023 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service.utils;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
+import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.toAddress;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.store.contract.MirrorEntityAccess;
+import com.hedera.mirror.web3.repository.cache.StateCacheManager;
+import com.hedera.mirror.web3.service.model.CallServiceParameters;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.jdbc.core.JdbcOperations;
+
+@RequiredArgsConstructor(onConstructor = @__(@Autowired))
+class StoragePrefetcherTest extends Web3IntegrationTest {
+
+    private static final Bytes SELECTOR = Bytes.fromHexString("0x188b85b4");
+
+    private final JdbcOperations jdbcOperations;
+    private final MirrorEntityAccess mirrorEntityAccess;
+    private final MirrorNodeEvmProperties properties;
+
+    @Qualifier(CACHE_MANAGER_STATE)
+    private final StateCacheManager stateCacheManager;
+
+    private final StoragePrefetcher storagePrefetcher;
+
+    @AfterEach
+    void cleanup() {
+        properties.setStoragePrefetchMaxSlots(256);
+    }
+
+    @Test
+    void accessList() {
+        var contractState = domainBuilder.contractState().persist();
+        var address = address(contractState);
+        var missingSlot = Bytes.wrap(domainBuilder.bytes(32));
+        var params = params(address, Map.of(address, List.of(slot(contractState), missingSlot)));
+
+        var result = storagePrefetcher.run(params, () -> {
+            updateValue(contractState);
+            return mirrorEntityAccess.getStorage(address, slot(contractState));
+        });
+
+        assertThat(result).isEqualTo(Bytes.wrap(contractState.getValue()));
+        assertThat(storageCache().get(key(contractState.getContractId(), missingSlot)))
+                .isNotNull()
+                .returns(null, Cache.ValueWrapper::get);
+    }
+
+    @Test
+    void learned() {
+        var contractState = domainBuilder.contractState().persist();
+        var address = address(contractState);
+        var params = params(address, Map.of());
+        var key = key(contractState.getContractId(), slot(contractState));
+
+        storagePrefetcher.run(params, () -> mirrorEntityAccess.getStorage(address, slot(contractState)));
+        storageCache().evict(key);
+
+        var cached = storagePrefetcher.run(params, () -> storageCache().get(key));
+        assertThat(cached).isNotNull().returns(contractState.getValue(), Cache.ValueWrapper::get);
+    }
+
+    @Test
+    void learnedPerSelector() {
+        var contractState = domainBuilder.contractState().persist();
+        var address = address(contractState);
+        var key = key(contractState.getContractId(), slot(contractState));
+
+        storagePrefetcher.run(
+                params(address, Map.of()), () -> mirrorEntityAccess.getStorage(address, slot(contractState)));
+        storageCache().evict(key);
+
+        var other = params(address, Map.of()).toBuilder()
+                .callData(Bytes.fromHexString("0x12345678"))
+                .build();
+        assertThat(storagePrefetcher.run(other, () -> storageCache().get(key))).isNull();
+    }
+
+    @Test
+    void disabled() {
+        properties.setStoragePrefetchMaxSlots(0);
+        var contractState = domainBuilder.contractState().persist();
+        var address = address(contractState);
+        var params = params(address, Map.of(address, List.of(slot(contractState))));
+        var key = key(contractState.getContractId(), slot(contractState));
+
+        assertThat(storagePrefetcher.run(params, () -> storageCache().get(key))).isNull();
+    }
+
+    private Address address(ContractState contractState) {
+        return toAddress(EntityId.of(contractState.getContractId(), CONTRACT));
+    }
+
+    private SimpleKey key(long contractId, Bytes slot) {
+        return new SimpleKey(contractId, slot.toArrayUnsafe());
+    }
+
+    private CallServiceParameters params(Address receiver, Map<Address, List<Bytes>> accessList) {
+        return CallServiceParameters.builder()
+                .receiver(receiver)
+                .callData(Bytes.concatenate(SELECTOR, Bytes.wrap(new byte[32])))
+                .accessList(accessList)
+                .build();
+    }
+
+    private Bytes slot(ContractState contractState) {
+        return Bytes.wrap(contractState.getSlot());
+    }
+
+    private Cache storageCache() {
+        return Objects.requireNonNull(stateCacheManager.getCache(CACHE_NAME_STORAGE));
+    }
+
+    private void updateValue(ContractState contractState) {
+        jdbcOperations.update(
+                "update contract_state set value = ? where contract_id = ? and slot = ?",
+                domainBuilder.bytes(32),
+                contractState.getContractId(),
+                contractState.getSlot());
+    }
+}
@@ -0,0 +1,16 @@
+// SPDX-License-Identifier: Apache-2.0
+pragma solidity ^0.8.0;
+
+// Reads the first count storage slots, so a call touches many slots of a cold contract. StorageReader.bin is the
+// equivalent runtime bytecode assembled by hand without the compiler's ABI decoding checks.
+contract StorageReader {
+    uint256[100] private values;
+
+    function sum(uint256 count) external view returns (uint256 total) {
+        assembly {
+            for { let i := 0 } lt(i, count) { i := add(i, 1) } {
+                total := add(total, sload(i))
+            }
+        }
+    }
+}